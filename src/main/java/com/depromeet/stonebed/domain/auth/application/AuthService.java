@@ -9,8 +9,11 @@ import com.depromeet.stonebed.domain.auth.dto.response.AuthTokenResponse;
 import com.depromeet.stonebed.domain.auth.dto.response.SocialClientResponse;
 import com.depromeet.stonebed.domain.auth.dto.response.TokenPairResponse;
 import com.depromeet.stonebed.domain.comment.dao.CommentRepository;
+import com.depromeet.stonebed.domain.fcm.dao.FcmBroadcastReadRepository;
 import com.depromeet.stonebed.domain.fcm.dao.FcmNotificationRepository;
 import com.depromeet.stonebed.domain.fcm.dao.FcmTokenRepository;
+import com.depromeet.stonebed.domain.feed.event.FeedChangeType;
+import com.depromeet.stonebed.domain.feed.event.FeedContentChangedEvent;
 import com.depromeet.stonebed.domain.member.dao.MemberRepository;
 import com.depromeet.stonebed.domain.member.domain.Member;
 import com.depromeet.stonebed.domain.member.domain.MemberRole;
@@ -28,6 +31,7 @@ import java.util.List;
 import java.util.Optional;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -37,11 +41,13 @@ import org.springframework.transaction.annotation.Transactional;
 @Transactional
 public class AuthService {
     private final FcmNotificationRepository fcmNotificationRepository;
+    private final FcmBroadcastReadRepository fcmBroadcastReadRepository;
     private final MemberRepository memberRepository;
     private final MissionRecordRepository missionRecordRepository;
     private final MissionRecordBoostRepository missionRecordBoostRepository;
     private final FcmTokenRepository fcmTokenRepository;
     private final CommentRepository commentRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     private final AppleClient appleClient;
     private final KakaoClient kakaoClient;
@@ -182,7 +188,11 @@ public class AuthService {
     private void withdrawMemberRelationByMemberId(List<Long> recordIds, Long memberId) {
         missionRecordBoostRepository.deleteAllByRecordIds(recordIds);
         missionRecordRepository.deleteAllByMember(memberId);
+        eventPublisher.publishEvent(
+                FeedContentChangedEvent.ofRecords(
+                        memberId, recordIds, FeedChangeType.AUTHOR_WITHDRAWN));
         fcmNotificationRepository.deleteAllByMember(memberId);
+        fcmBroadcastReadRepository.deleteAllByMember(memberId);
         fcmTokenRepository.deleteAllByMember(memberId);
     }
 }
@@ -0,0 +1,54 @@
+package com.depromeet.stonebed.domain.backfill.application;
+
+import static com.depromeet.stonebed.global.common.constants.BackfillConstants.*;
+
+import com.depromeet.stonebed.domain.backfill.dao.BackfillHistoryRepository;
+import com.depromeet.stonebed.domain.backfill.domain.BackfillHistory;
+import java.time.LocalDateTime;
+import java.util.function.LongSupplier;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+
+/**
+ * 기존 데이터를 채우는 백필을 모든 서버를 통틀어 한 번만 실행합니다.
+ *
+ * <p>백필 키로 실행 기록을 먼저 저장한 서버만 실행하고, 완료되면 이후 시작하는 서버는 건너뜁니다. 실행하던 서버가 중단되어 완료되지 않은 백필은 점유
+ * 기간이 지난 뒤 시작하는 서버가 다시 실행합니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class BackfillService {
+    private final BackfillHistoryRepository backfillHistoryRepository;
+
+    /**
+     * @param backfill 백필 작업, 반영한 행 수를 반환
+     * @return 이번에 백필을 실행했으면 true
+     */
+    public boolean runOnce(String backfillKey, LongSupplier backfill) {
+        if (!claim(backfillKey)) {
+            log.info("이미 완료했거나 다른 서버에서 실행 중인 백필 - key: {}", backfillKey);
+            return false;
+        }
+
+        long filledCount = backfill.getAsLong();
+        backfillHistoryRepository.complete(backfillKey);
+        log.info("백필 완료 - key: {}, {}건", backfillKey, filledCount);
+        return true;
+    }
+
+    private boolean claim(String backfillKey) {
+        try {
+            backfillHistoryRepository.saveAndFlush(
+                    BackfillHistory.createBackfillHistory(backfillKey));
+            return true;
+        } catch (DataIntegrityViolationException e) {
+            LocalDateTime now = LocalDateTime.now();
+            return backfillHistoryRepository.reclaimExpired(
+                            backfillKey, now, now.minus(BACKFILL_LEASE))
+                    > 0;
+        }
+    }
+}
@@ -0,0 +1,28 @@
+package com.depromeet.stonebed.domain.backfill.dao;
+
+import com.depromeet.stonebed.domain.backfill.domain.BackfillHistory;
+import java.time.LocalDateTime;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+public interface BackfillHistoryRepository extends JpaRepository<BackfillHistory, String> {
+    // 완료되지 않은 채 점유 기간이 지난 백필만 다시 점유
+    @Transactional
+    @Modifying
+    @Query(
+            "UPDATE BackfillHistory b SET b.updatedAt = :now"
+                    + " WHERE b.backfillKey = :backfillKey AND b.completed = false"
+                    + " AND b.updatedAt < :expiredAt")
+    int reclaimExpired(
+            @Param("backfillKey") String backfillKey,
+            @Param("now") LocalDateTime now,
+            @Param("expiredAt") LocalDateTime expiredAt);
+
+    @Transactional
+    @Modifying
+    @Query("UPDATE BackfillHistory b SET b.completed = true WHERE b.backfillKey = :backfillKey")
+    void complete(@Param("backfillKey") String backfillKey);
+}
@@ -0,0 +1,47 @@
+package com.depromeet.stonebed.domain.backfill.domain;
+
+import com.depromeet.stonebed.domain.common.BaseTimeEntity;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.springframework.data.domain.Persistable;
+
+/** 한 번만 실행해야 하는 데이터 백필의 실행 여부를 기록합니다. 먼저 행을 저장한 서버만 백필을 실행합니다. */
+@Getter
+@Entity
+@Table(name = "backfill_history")
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class BackfillHistory extends BaseTimeEntity implements Persistable<String> {
+    @Id
+    @Column(name = "backfill_key", length = 100)
+    private String backfillKey;
+
+    @Column(nullable = false)
+    private boolean completed;
+
+    @Builder(access = AccessLevel.PRIVATE)
+    private BackfillHistory(String backfillKey) {
+        this.backfillKey = backfillKey;
+        this.completed = false;
+    }
+
+    public static BackfillHistory createBackfillHistory(String backfillKey) {
+        return BackfillHistory.builder().backfillKey(backfillKey).build();
+    }
+
+    @Override
+    public String getId() {
+        return backfillKey;
+    }
+
+    // 키를 직접 지정하므로 merge 대신 insert 해 이미 있는 키는 중복 오류로 드러나도록 함
+    @Override
+    public boolean isNew() {
+        return getCreatedAt() == null;
+    }
+}
@@ -2,8 +2,11 @@ package com.depromeet.stonebed.domain.comment.api;
 
 import com.depromeet.stonebed.domain.comment.application.CommentService;
 import com.depromeet.stonebed.domain.comment.dto.request.CommentCreateRequest;
+import com.depromeet.stonebed.domain.comment.dto.request.CommentRootFindRequest;
 import com.depromeet.stonebed.domain.comment.dto.response.CommentCreateResponse;
 import com.depromeet.stonebed.domain.comment.dto.response.CommentFindResponse;
+import com.depromeet.stonebed.domain.comment.dto.response.CommentRootFindResponse;
+import com.depromeet.stonebed.global.util.ETagUtil;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
@@ -11,11 +14,13 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
 @Tag(name = "9. [댓글]", description = "댓글 관련 API입니다.")
 @RequestMapping("/comments")
@@ -24,6 +29,7 @@ import org.springframework.web.bind.annotation.RestController;
 public class CommentController {
 
     private final CommentService commentService;
+    private final ETagUtil eTagUtil;
 
     @Operation(summary = "댓글 작성", description = "댓글을 작성합니다.")
     @PostMapping
@@ -35,7 +41,31 @@ public class CommentController {
 
     @Operation(summary = "댓글 조회", description = "댓글을 조회합니다.")
     @GetMapping
-    public CommentFindResponse commentFind(@RequestParam Long recordId) {
-        return commentService.findCommentsByRecordId(recordId);
+    public ResponseEntity<CommentFindResponse> commentFind(
+            @RequestParam Long recordId, WebRequest webRequest) {
+        // If-None-Match가 일치하면 댓글을 조회하지 않고 304 응답
+        if (eTagUtil.checkNotModified(
+                commentService.findCommentVersionValues(recordId), webRequest)) {
+            return null;
+        }
+        return ResponseEntity.ok(commentService.findCommentsByRecordId(recordId));
+    }
+
+    @Operation(summary = "최상위 댓글 조회", description = "기록의 최상위 댓글을 커서 기반으로 조회합니다.")
+    @GetMapping("/roots")
+    public ResponseEntity<CommentRootFindResponse> commentRootFind(
+            @Valid CommentRootFindRequest request) {
+        return ResponseEntity.ok(commentService.findRootComments(request));
+    }
+
+    @Operation(summary = "답글 조회", description = "댓글에 달린 답글을 조회합니다.")
+    @GetMapping("/{commentId}/replies")
+    public ResponseEntity<CommentFindResponse> commentReplyFind(
+            @PathVariable Long commentId, WebRequest webRequest) {
+        if (eTagUtil.checkNotModified(
+                commentService.findReplyVersionValues(commentId), webRequest)) {
+            return null;
+        }
+        return ResponseEntity.ok(commentService.findReplies(commentId));
     }
 }
@@ -0,0 +1,51 @@
+package com.depromeet.stonebed.domain.comment.application;
+
+import com.depromeet.stonebed.domain.comment.event.CommentCreatedEvent;
+import com.depromeet.stonebed.domain.feed.event.FeedChangeType;
+import com.depromeet.stonebed.domain.feed.event.FeedContentChangedEvent;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/** 댓글 작성, 기록 삭제, 작성자 프로필 변경 이벤트를 받아 커밋 이후에 댓글 캐시를 갱신하거나 삭제합니다. */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CommentCacheEventListener {
+    private final CommentService commentService;
+    private final CommentCacheService commentCacheService;
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void handleCommentCreated(CommentCreatedEvent event) {
+        try {
+            commentService.refreshCommentCache(event.recordId());
+            // 갱신한 응답이 저장된 뒤 토큰을 바꿔 새 토큰으로 이전 응답이 내려가지 않도록 함
+            commentCacheService.renewVersion(event.recordId());
+        } catch (RuntimeException e) {
+            // 갱신하지 못한 캐시는 다음 조회에서 다시 채움
+            log.warn("댓글 캐시 갱신 실패 - recordId: {}", event.recordId(), e);
+            commentCacheService.evictAll(List.of(event.recordId()));
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void handleFeedContentChanged(FeedContentChangedEvent event) {
+        // 삭제된 기록
+        if (event.recordIds() != null && isRecordRemoved(event.changeType())) {
+            commentCacheService.evictAll(event.recordIds());
+        }
+
+        // 작성자 정보가 바뀐 댓글이 있는 기록
+        if (event.changeType() == FeedChangeType.AUTHOR_UPDATED
+                || event.changeType() == FeedChangeType.AUTHOR_WITHDRAWN) {
+            commentCacheService.evictAllByWriterId(event.memberId());
+        }
+    }
+
+    private boolean isRecordRemoved(FeedChangeType changeType) {
+        return changeType == FeedChangeType.DELETED
+                || changeType == FeedChangeType.AUTHOR_WITHDRAWN;
+    }
+}
@@ -0,0 +1,181 @@
+package com.depromeet.stonebed.domain.comment.application;
+
+import static com.depromeet.stonebed.global.common.constants.CommentConstants.*;
+
+import com.depromeet.stonebed.domain.comment.dao.CommentRepository;
+import com.depromeet.stonebed.domain.comment.dto.response.CommentFindResponse;
+import com.depromeet.stonebed.domain.feed.application.ContentVersionService;
+import com.depromeet.stonebed.global.common.constants.RedisKeyConstants;
+import com.depromeet.stonebed.infra.properties.ReplicaLagGuardProperties;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Service;
+
+/**
+ * 기록별 댓글 조회 응답을 Redis에 캐싱합니다.
+ *
+ * <p>댓글이 작성되면 커밋 이후 응답을 다시 만들어 저장하고, 작성자 프로필이 바뀌거나 탈퇴하면 해당 회원이 댓글을 단 기록의 캐시를 삭제합니다. 응답은
+ * 포함된 가장 큰 댓글 ID를 버전으로 함께 저장해, 늦게 도착한 이전 응답이 최신 응답을 덮어쓰지 않도록 합니다.
+ *
+ * <p>캐시를 삭제할 때는 허용 복제 지연 동안 변경 표시를 남겨, 그 사이 레플리카에서 읽은 이전 응답이 다시 캐싱되지 않도록 합니다.
+ *
+ * <p>댓글이 작성되거나 캐시를 삭제할 때마다 기록의 댓글 버전 토큰을 새로 저장해, 응답을 만들기 전에 ETag를 계산할 수 있도록 합니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class CommentCacheService {
+    private static final String CACHE_METRIC = "comment.cache";
+    private static final String BODY_FIELD = "body";
+
+    // 저장된 버전보다 낮은 응답과 변경 표시가 남아 있는 기록의 응답은 저장하지 않음
+    // 댓글 작성 직후 갱신은 프라이머리에서 읽으므로 변경 표시를 무시
+    private static final RedisScript<Long> PUT_SCRIPT =
+            new DefaultRedisScript<>(
+                    """
+                    if ARGV[4] == '0' and redis.call('EXISTS', KEYS[2]) == 1 then
+                        return 0
+                    end
+                    local current = tonumber(redis.call('HGET', KEYS[1], 'version') or '-1')
+                    if current > tonumber(ARGV[1]) then
+                        return 0
+                    end
+                    redis.call('HSET', KEYS[1], 'version', ARGV[1], 'body', ARGV[2])
+                    redis.call('EXPIRE', KEYS[1], ARGV[3])
+                    return 1
+                    """,
+                    Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+    private final CommentRepository commentRepository;
+    private final ReplicaLagGuardProperties replicaLagGuardProperties;
+    private final ContentVersionService contentVersionService;
+
+    public Optional<CommentFindResponse> find(Long recordId) {
+        try {
+            Object value =
+                    redisTemplate
+                            .opsForHash()
+                            .get(RedisKeyConstants.commentRecordKey(recordId), BODY_FIELD);
+            CommentFindResponse response = deserialize((String) value);
+            record(response != null ? "hit" : "miss");
+            return Optional.ofNullable(response);
+        } catch (DataAccessException e) {
+            log.warn("댓글 캐시 조회 실패 - recordId: {}", recordId, e);
+            record("error");
+            return Optional.empty();
+        }
+    }
+
+    public Optional<String> findVersion(Long recordId) {
+        return contentVersionService
+                .findVersions(
+                        List.of(RedisKeyConstants.commentRecordVersionKey(recordId)),
+                        List.of(RedisKeyConstants.commentRecordWrittenKey(recordId)))
+                .map(versions -> versions.get(0));
+    }
+
+    // 댓글이 작성된 기록
+    public void renewVersion(Long recordId) {
+        contentVersionService.renewAll(
+                List.of(RedisKeyConstants.commentRecordVersionKey(recordId)));
+    }
+
+    /**
+     * @param fromPrimary 커밋 직후 프라이머리에서 읽은 응답인지 여부
+     */
+    public void put(
+            Long recordId, long version, CommentFindResponse response, boolean fromPrimary) {
+        try {
+            Long stored =
+                    redisTemplate.execute(
+                            PUT_SCRIPT,
+                            List.of(
+                                    RedisKeyConstants.commentRecordKey(recordId),
+                                    RedisKeyConstants.commentRecordWrittenKey(recordId)),
+                            String.valueOf(version),
+                            serialize(response),
+                            String.valueOf(COMMENT_CACHE_TTL.toSeconds()),
+                            fromPrimary ? "1" : "0");
+            record(Long.valueOf(1L).equals(stored) ? "put" : "stale");
+        } catch (DataAccessException e) {
+            log.warn("댓글 캐시 저장 실패 - recordId: {}", recordId, e);
+            record("error");
+        }
+    }
+
+    public void evictAll(Collection<Long> recordIds) {
+        if (recordIds.isEmpty()) {
+            return;
+        }
+
+        long writtenTtlSeconds = replicaLagGuardProperties.staleReadWindow().toSeconds();
+        try {
+            redisTemplate.executePipelined(
+                    (RedisCallback<Object>)
+                            connection -> {
+                                StringRedisConnection stringConnection =
+                                        (StringRedisConnection) connection;
+                                for (Long recordId : recordIds) {
+                                    stringConnection.setEx(
+                                            RedisKeyConstants.commentRecordWrittenKey(recordId),
+                                            writtenTtlSeconds,
+                                            String.valueOf(recordId));
+                                    stringConnection.del(
+                                            RedisKeyConstants.commentRecordKey(recordId));
+                                }
+                                return null;
+                            });
+            meterRegistry.counter(CACHE_METRIC, "result", "evict").increment(recordIds.size());
+        } catch (DataAccessException e) {
+            log.warn("댓글 캐시 삭제 실패 - recordIds: {}", recordIds, e);
+            record("error");
+        }
+        contentVersionService.renewAll(
+                recordIds.stream().map(RedisKeyConstants::commentRecordVersionKey).toList());
+    }
+
+    // 회원이 댓글을 단 모든 기록
+    public void evictAllByWriterId(Long memberId) {
+        evictAll(commentRepository.findRecordIdsByWriterId(memberId));
+    }
+
+    private void record(String result) {
+        meterRegistry.counter(CACHE_METRIC, "result", result).increment();
+    }
+
+    private String serialize(CommentFindResponse response) {
+        try {
+            return objectMapper.writeValueAsString(response);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private CommentFindResponse deserialize(String value) {
+        if (value == null) {
+            return null;
+        }
+
+        try {
+            return objectMapper.readValue(value, CommentFindResponse.class);
+        } catch (JsonProcessingException e) {
+            log.warn("댓글 캐시 역직렬화 실패", e);
+            return null;
+        }
+    }
+}
@@ -1,34 +1,49 @@
 package com.depromeet.stonebed.domain.comment.application;
 
+import static com.depromeet.stonebed.global.common.constants.CommentConstants.*;
+
+import com.depromeet.stonebed.domain.comment.dao.CommentJdbcRepository;
 import com.depromeet.stonebed.domain.comment.dao.CommentRepository;
 import com.depromeet.stonebed.domain.comment.domain.Comment;
+import com.depromeet.stonebed.domain.comment.dto.CommentPathDto;
+import com.depromeet.stonebed.domain.comment.dto.FindCommentDto;
 import com.depromeet.stonebed.domain.comment.dto.request.CommentCreateRequest;
+import com.depromeet.stonebed.domain.comment.dto.request.CommentRootFindRequest;
 import com.depromeet.stonebed.domain.comment.dto.response.CommentCreateResponse;
 import com.depromeet.stonebed.domain.comment.dto.response.CommentFindOneResponse;
 import com.depromeet.stonebed.domain.comment.dto.response.CommentFindResponse;
+import com.depromeet.stonebed.domain.comment.dto.response.CommentRootFindOneResponse;
+import com.depromeet.stonebed.domain.comment.dto.response.CommentRootFindResponse;
+import com.depromeet.stonebed.domain.comment.event.CommentCreatedEvent;
 import com.depromeet.stonebed.domain.fcm.application.FcmNotificationService;
-import com.depromeet.stonebed.domain.fcm.dao.FcmTokenRepository;
-import com.depromeet.stonebed.domain.fcm.domain.FcmNotificationType;
-import com.depromeet.stonebed.domain.fcm.domain.FcmToken;
+import com.depromeet.stonebed.domain.feed.application.FeedPopularityService;
+import com.depromeet.stonebed.domain.feed.event.FeedChangeType;
+import com.depromeet.stonebed.domain.feed.event.FeedContentChangedEvent;
 import com.depromeet.stonebed.domain.member.domain.Member;
-import com.depromeet.stonebed.domain.member.domain.MemberStatus;
 import com.depromeet.stonebed.domain.missionRecord.dao.MissionRecordRepository;
 import com.depromeet.stonebed.domain.missionRecord.domain.MissionRecord;
 import com.depromeet.stonebed.global.common.constants.FcmNotificationConstants;
 import com.depromeet.stonebed.global.error.ErrorCode;
 import com.depromeet.stonebed.global.error.exception.CustomException;
 import com.depromeet.stonebed.global.util.MemberUtil;
+import java.util.ArrayList;
 import java.util.HashMap;
-import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Optional;
 import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
+@Slf4j
 @Service
 @RequiredArgsConstructor
 @Transactional
@@ -36,205 +51,304 @@ public class CommentService {
 
     private final MemberUtil memberUtil;
     private final CommentRepository commentRepository;
+    private final CommentJdbcRepository commentJdbcRepository;
+    private final CommentCacheService commentCacheService;
     private final MissionRecordRepository missionRecordRepository;
     private final FcmNotificationService fcmNotificationService;
-    private final FcmTokenRepository fcmTokenRepository;
+    private final FeedPopularityService feedPopularityService;
+    private final ApplicationEventPublisher eventPublisher;
     private static final Long ROOT_COMMENT_PARENT_ID = -1L;
+    private static final int COMMENT_PATH_BACKFILL_SIZE = 1000;
 
     public CommentCreateResponse createComment(CommentCreateRequest request) {
         final Member member = memberUtil.getCurrentMember();
         final MissionRecord missionRecord = findMissionRecordById(request.recordId());
         final Comment comment = createAndSaveComment(request, member, missionRecord);
-        sendCommentNotification(missionRecord, comment, request.parentId());
+        missionRecordRepository.increaseCommentCount(missionRecord.getId());
+        eventPublisher.publishEvent(
+                FeedContentChangedEvent.ofRecord(
+                        missionRecord.getMember().getId(),
+                        missionRecord.getId(),
+                        FeedChangeType.COMMENTED));
+        feedPopularityService.increaseCommentScore(missionRecord.getId());
+        sendCommentNotifications(comment, missionRecord, member);
+        eventPublisher.publishEvent(CommentCreatedEvent.of(comment.getId(), comment.getRecordId()));
         return CommentCreateResponse.of(comment.getId());
     }
 
+    // 알림과 발송할 메시지(아웃박스)를 댓글과 같은 트랜잭션에서 저장하고, 실제 발송은 아웃박스 릴레이가 처리
+    private void sendCommentNotifications(
+            Comment comment, MissionRecord missionRecord, Member commentWriter) {
+        Map<Long, FcmNotificationConstants> recipients =
+                collectNotificationRecipients(missionRecord, comment, commentWriter.getId());
+        if (recipients.isEmpty()) {
+            return;
+        }
+
+        fcmNotificationService.sendCommentNotifications(
+                comment.getId(),
+                missionRecord.getId(),
+                commentWriter.getProfile().getNickname(),
+                recipients);
+    }
+
     @Transactional(readOnly = true)
     public CommentFindResponse findCommentsByRecordId(Long recordId) {
-        final MissionRecord missionRecord = findMissionRecordById(recordId);
-        final List<Comment> allComments =
-                commentRepository.findAllCommentsByMissionRecord(missionRecord);
-        Map<Long, List<Comment>> commentsByParentId = groupCommentsByParentId(allComments);
-        List<CommentFindOneResponse> rootResponses =
-                convertToCommentFindOneResponses(commentsByParentId);
-        return CommentFindResponse.of(rootResponses);
+        return commentCacheService
+                .find(recordId)
+                .orElseGet(
+                        () -> {
+                            findMissionRecordById(recordId);
+                            return cacheComments(
+                                    recordId,
+                                    commentRepository.findAllCommentDtosByRecordId(recordId),
+                                    false);
+                        });
     }
 
-    private Comment createAndSaveComment(
-            CommentCreateRequest request, Member member, MissionRecord missionRecord) {
-        final Comment comment =
-                request.parentId() != null
-                        ? Comment.createComment(
-                                missionRecord.getId(),
-                                member,
-                                request.content(),
-                                findCommentById(request.parentId()))
-                        : Comment.createComment(
-                                missionRecord.getId(), member, request.content(), null);
-        return commentRepository.save(comment);
+    // 댓글 트리를 만들기 전에 ETag를 계산할 수 있도록 기록 ID와 댓글 버전 토큰을 반환
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public Optional<List<Object>> findCommentVersionValues(Long recordId) {
+        return commentCacheService
+                .findVersion(recordId)
+                .map(version -> List.of(recordId, version));
     }
 
-    private void sendCommentNotification(
-            MissionRecord missionRecord, Comment comment, Long parentId) {
-        Member missionRecordOwner = missionRecord.getMember();
-        Member commentWriter = comment.getWriter();
-
-        if (isRootComment(parentId, missionRecordOwner, commentWriter)) {
-            sendCommentNotification(
-                    missionRecordOwner,
-                    FcmNotificationConstants.COMMENT,
-                    missionRecord,
-                    comment,
-                    commentWriter);
-        } else if (isReplyComment(comment)) {
-            sendReplyNotifications(missionRecord, comment, commentWriter);
-        }
+    // 답글은 같은 기록의 댓글이 작성되거나 작성자 정보가 바뀔 때만 달라지므로 기록의 댓글 버전 토큰을 사용
+    @Transactional(readOnly = true)
+    public Optional<List<Object>> findReplyVersionValues(Long commentId) {
+        final Comment rootComment = findCommentById(commentId);
+        return commentCacheService
+                .findVersion(rootComment.getRecordId())
+                .map(version -> List.of(commentId, rootComment.getRecordId(), version));
     }
 
-    private boolean isRootComment(Long parentId, Member missionRecordOwner, Member commentWriter) {
-        return !missionRecordOwner.equals(commentWriter) && parentId == null;
+    // 댓글 작성이 커밋된 뒤 호출. 방금 작성한 댓글이 포함되도록 쓰기 DB에서 조회
+    public void refreshCommentCache(Long recordId) {
+        cacheComments(recordId, commentRepository.findAllCommentDtosByRecordId(recordId), true);
     }
 
-    private boolean isReplyComment(Comment comment) {
-        return comment.getParent() != null;
+    @Transactional(readOnly = true)
+    public CommentRootFindResponse findRootComments(CommentRootFindRequest request) {
+        Long cursorId = parseCursor(request.cursor());
+        List<FindCommentDto> rootComments =
+                commentRepository.findRootCommentDtos(
+                        request.recordId(), cursorId, request.limit() + 1);
+
+        boolean hasNext = rootComments.size() > request.limit();
+        if (hasNext) {
+            rootComments = rootComments.subList(0, request.limit());
+        }
+
+        Map<Long, Long> replyCounts =
+                commentRepository.countRepliesByParentIds(
+                        rootComments.stream().map(FindCommentDto::commentId).toList());
+        List<CommentRootFindOneResponse> responses =
+                rootComments.stream()
+                        .map(
+                                rootComment ->
+                                        CommentRootFindOneResponse.from(
+                                                rootComment,
+                                                replyCounts.getOrDefault(
+                                                        rootComment.commentId(), 0L)))
+                        .toList();
+        String nextCursor =
+                hasNext
+                        ? String.valueOf(rootComments.get(rootComments.size() - 1).commentId())
+                        : null;
+        return CommentRootFindResponse.of(responses, nextCursor);
     }
 
-    private void sendReplyNotifications(
-            MissionRecord missionRecord, Comment comment, Member commentWriter) {
-        Member parentCommentWriter = comment.getParent().getWriter();
-        Member missionRecordOwner = missionRecord.getMember();
+    @Transactional(readOnly = true)
+    public CommentFindResponse findReplies(Long commentId) {
+        final Comment rootComment = findCommentById(commentId);
+        // 경로가 아직 채워지지 않은 댓글은 기록의 댓글 전체에서 하위 댓글을 찾음
+        List<FindCommentDto> comments =
+                rootComment.getPath() != null
+                        ? commentRepository.findAllCommentDtosByPathPrefix(
+                                rootComment.getDescendantPath())
+                        : commentRepository.findAllCommentDtosByRecordId(rootComment.getRecordId());
+        return CommentFindResponse.of(buildCommentTree(comments, commentId));
+    }
 
-        if (!missionRecordOwner.equals(commentWriter)) {
-            sendCommentNotification(
-                    missionRecordOwner,
-                    FcmNotificationConstants.RECORD_RE_COMMENT,
-                    missionRecord,
-                    comment,
-                    commentWriter);
-        } else if (!parentCommentWriter.equals(commentWriter)) {
-            sendCommentNotification(
-                    parentCommentWriter,
-                    FcmNotificationConstants.RE_COMMENT,
-                    missionRecord,
-                    comment,
-                    commentWriter);
-        }
+    /**
+     * 경로가 없는 기존 댓글의 경로와 깊이를 채웁니다.
+     *
+     * <p>부모 댓글은 항상 자식 댓글보다 먼저 저장되어 ID가 작으므로, ID 순으로 채우면 부모의 경로가 먼저 채워집니다.
+     *
+     * @return 채운 댓글 수
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public long backfillCommentPaths() {
+        long filledCount = 0;
+        Long cursorId = null;
+
+        while (true) {
+            List<CommentPathDto> comments =
+                    commentRepository.findPathMissingComments(
+                            cursorId, COMMENT_PATH_BACKFILL_SIZE);
+            if (comments.isEmpty()) {
+                return filledCount;
+            }
 
-        Set<Member> commentRecipients = collectNotificationRecipients(comment);
-        commentRecipients.remove(parentCommentWriter);
+            Set<Long> parentIds =
+                    comments.stream()
+                            .map(CommentPathDto::parentId)
+                            .filter(Objects::nonNull)
+                            .collect(Collectors.toSet());
+            Map<Long, CommentPathDto> pathsById =
+                    parentIds.isEmpty()
+                            ? new HashMap<>()
+                            : commentRepository.findCommentPathsByIds(parentIds).stream()
+                                    .filter(parent -> parent.path() != null)
+                                    .collect(
+                                            Collectors.toMap(
+                                                    CommentPathDto::commentId,
+                                                    Function.identity()));
 
-        for (Member recipient : commentRecipients) {
-            sendCommentNotification(
-                    recipient,
-                    FcmNotificationConstants.RE_COMMENT,
-                    missionRecord,
-                    comment,
-                    commentWriter);
+            List<CommentPathDto> filledComments = new ArrayList<>();
+            for (CommentPathDto comment : comments) {
+                if (comment.parentId() != null && !pathsById.containsKey(comment.parentId())) {
+                    continue;
+                }
+                CommentPathDto filledComment =
+                        comment.withParent(pathsById.get(comment.parentId()));
+                // 경로 컬럼에 들어가지 않는 깊은 답글과 그 하위 댓글은 채우지 않음
+                if (filledComment.path().length() > COMMENT_PATH_MAX_LENGTH) {
+                    log.warn("경로가 너무 긴 댓글 - commentId: {}", comment.commentId());
+                    continue;
+                }
+                pathsById.put(filledComment.commentId(), filledComment);
+                filledComments.add(filledComment);
+            }
+
+            commentJdbcRepository.updatePaths(filledComments);
+            filledCount += filledComments.size();
+            cursorId = comments.get(comments.size() - 1).commentId();
         }
     }
 
-    private void sendCommentNotification(
-            Member recipient,
-            FcmNotificationConstants notificationType,
-            MissionRecord missionRecord,
-            Comment comment,
-            Member commentWriter) {
-        String title = notificationType.getTitle();
-        String message = commentWriter.getProfile().getNickname() + notificationType.getMessage();
-        List<String> tokens = retrieveFcmTokens(Set.of(recipient));
-        String notificationTypeName =
-                notificationType.name().equals(FcmNotificationConstants.RECORD_RE_COMMENT.name())
-                        ? FcmNotificationConstants.RE_COMMENT.name()
-                        : notificationType.name();
-        fcmNotificationService.sendAndNotifications(
-                title,
-                message,
-                tokens,
-                comment.getId(),
-                missionRecord.getId(),
-                FcmNotificationType.valueOf(notificationTypeName));
+    private Comment createAndSaveComment(
+            CommentCreateRequest request, Member member, MissionRecord missionRecord) {
+        final Comment parent =
+                request.parentId() != null ? findCommentById(request.parentId()) : null;
+        if (parent != null && !parent.canReply()) {
+            throw new CustomException(ErrorCode.COMMENT_DEPTH_EXCEEDED);
+        }
+
+        final Comment comment =
+                Comment.createComment(missionRecord.getId(), member, request.content(), parent);
+        return commentRepository.save(comment);
     }
 
-    private Set<Member> collectNotificationRecipients(Comment comment) {
-        Map<Long, Member> notificationRecipientsMap = new HashMap<>();
-        Comment currentComment = comment;
+    // 기록 작성자, 부모 댓글 작성자, 상위 댓글들에 답글을 단 작성자 순으로 회원별 알림 종류를 결정
+    private Map<Long, FcmNotificationConstants> collectNotificationRecipients(
+            MissionRecord missionRecord, Comment comment, Long commentWriterId) {
+        Map<Long, FcmNotificationConstants> recipients = new LinkedHashMap<>();
+        Long missionRecordOwnerId = missionRecord.getMember().getId();
 
-        while (currentComment.getParent() != null) {
-            currentComment = currentComment.getParent();
-            currentComment.getReplyComments().stream()
-                    .map(Comment::getWriter)
-                    .forEach(writer -> notificationRecipientsMap.put(writer.getId(), writer));
+        if (comment.getParent() == null) {
+            if (!missionRecordOwnerId.equals(commentWriterId)) {
+                recipients.put(missionRecordOwnerId, FcmNotificationConstants.COMMENT);
+            }
+            return recipients;
         }
 
-        notificationRecipientsMap.remove(comment.getWriter().getId());
-        return new HashSet<>(notificationRecipientsMap.values());
+        // 답글 알림 대상은 조상 댓글과 그 답글을 한 번에 조회해 계산
+        List<FindCommentDto> comments =
+                comment.getPath() != null
+                        ? commentRepository.findThreadCommentDtos(comment.getAncestorIds())
+                        : commentRepository.findAllCommentDtosByRecordId(missionRecord.getId());
+        Map<Long, FindCommentDto> commentsById =
+                comments.stream()
+                        .collect(Collectors.toMap(FindCommentDto::commentId, Function.identity()));
+        Map<Long, List<FindCommentDto>> repliesByParentId =
+                comments.stream()
+                        .filter(reply -> !reply.isRoot())
+                        .collect(Collectors.groupingBy(FindCommentDto::parentId));
+
+        FindCommentDto parentComment = commentsById.get(comment.getParent().getId());
+        if (parentComment == null) {
+            return recipients;
+        }
+        Long parentCommentWriterId = parentComment.writerId();
+
+        if (!missionRecordOwnerId.equals(commentWriterId)) {
+            recipients.put(missionRecordOwnerId, FcmNotificationConstants.RECORD_RE_COMMENT);
+        } else if (parentCommentWriterId != null
+                && !parentCommentWriterId.equals(commentWriterId)) {
+            recipients.put(parentCommentWriterId, FcmNotificationConstants.RE_COMMENT);
+        }
+
+        FindCommentDto ancestor = parentComment;
+        while (ancestor != null) {
+            repliesByParentId.getOrDefault(ancestor.commentId(), List.of()).stream()
+                    .map(FindCommentDto::writerId)
+                    .filter(Objects::nonNull)
+                    .filter(writerId -> !writerId.equals(commentWriterId))
+                    .filter(writerId -> !writerId.equals(parentCommentWriterId))
+                    .forEach(
+                            writerId ->
+                                    recipients.putIfAbsent(
+                                            writerId, FcmNotificationConstants.RE_COMMENT));
+            ancestor = ancestor.isRoot() ? null : commentsById.get(ancestor.parentId());
+        }
+        return recipients;
     }
 
-    private List<String> retrieveFcmTokens(Set<Member> notificationRecipients) {
-        return notificationRecipients.stream()
-                .flatMap(member -> fcmTokenRepository.findByMember(member).stream())
-                .map(FcmToken::getToken)
-                .filter(Objects::nonNull)
-                .filter(token -> !token.isEmpty() && !token.isBlank())
-                .collect(Collectors.toList());
+    // 응답에 포함된 가장 큰 댓글 ID를 캐시 버전으로 사용
+    private CommentFindResponse cacheComments(
+            Long recordId, List<FindCommentDto> comments, boolean fromPrimary) {
+        CommentFindResponse response =
+                CommentFindResponse.of(buildCommentTree(comments, ROOT_COMMENT_PARENT_ID));
+        long version = comments.stream().mapToLong(FindCommentDto::commentId).max().orElse(0L);
+        commentCacheService.put(recordId, version, response, fromPrimary);
+        return response;
     }
 
-    private Map<Long, List<Comment>> groupCommentsByParentId(List<Comment> allComments) {
-        return allComments.stream()
-                .collect(
-                        Collectors.groupingBy(
-                                comment -> {
-                                    Comment parent = comment.getParent();
-                                    return (parent != null)
-                                            ? parent.getId()
-                                            : ROOT_COMMENT_PARENT_ID;
-                                }));
+    // 부모 ID별로 한 번 묶은 뒤 parentId 아래의 트리를 구성
+    private List<CommentFindOneResponse> buildCommentTree(
+            List<FindCommentDto> comments, Long parentId) {
+        Map<Long, List<FindCommentDto>> commentsByParentId =
+                comments.stream()
+                        .collect(
+                                Collectors.groupingBy(
+                                        comment ->
+                                                comment.isRoot()
+                                                        ? ROOT_COMMENT_PARENT_ID
+                                                        : comment.parentId(),
+                                        LinkedHashMap::new,
+                                        Collectors.toList()));
+        return convertToCommentFindOneResponses(commentsByParentId, parentId);
     }
 
     private List<CommentFindOneResponse> convertToCommentFindOneResponses(
-            Map<Long, List<Comment>> commentsByParentId) {
-        List<Comment> rootComments =
-                commentsByParentId.getOrDefault(ROOT_COMMENT_PARENT_ID, List.of());
-        return rootComments.stream()
-                .map(comment -> convertToCommentFindOneResponse(comment, commentsByParentId))
-                .collect(Collectors.toList());
+            Map<Long, List<FindCommentDto>> commentsByParentId, Long parentId) {
+        return commentsByParentId.getOrDefault(parentId, List.of()).stream()
+                .map(
+                        comment ->
+                                CommentFindOneResponse.of(
+                                        comment.parentId(),
+                                        comment.commentId(),
+                                        comment.content(),
+                                        comment.displayWriterId(),
+                                        comment.displayWriterNickname(),
+                                        comment.displayWriterProfileImageUrl(),
+                                        comment.createdAt().toString(),
+                                        convertToCommentFindOneResponses(
+                                                commentsByParentId, comment.commentId())))
+                .toList();
     }
 
-    private CommentFindOneResponse convertToCommentFindOneResponse(
-            Comment comment, Map<Long, List<Comment>> commentsByParentId) {
-
-        List<CommentFindOneResponse> replyCommentsResponses =
-                commentsByParentId.getOrDefault(comment.getId(), List.of()).stream()
-                        .map(
-                                childComment ->
-                                        convertToCommentFindOneResponse(
-                                                childComment, commentsByParentId))
-                        .collect(Collectors.toList());
-
-        // 작성자가 null인지 확인
-        Long writerId = null;
-        String writerNickname = "탈퇴한 회원";
-        String writerProfileImageUrl = null;
-
-        if (comment.getWriter() != null) {
-            if (comment.getWriter().getStatus() != MemberStatus.DELETED) {
-                writerId = comment.getWriter().getId();
-                writerNickname = comment.getWriter().getProfile().getNickname();
-                writerProfileImageUrl = comment.getWriter().getProfile().getProfileImageUrl();
-            } else {
-                writerProfileImageUrl = "INACTIVE_" + comment.getWriter().getRaisePet().getValue();
-            }
+    private Long parseCursor(String cursor) {
+        if (cursor == null) {
+            return null;
+        }
+        try {
+            return Long.parseLong(cursor);
+        } catch (NumberFormatException e) {
+            throw new CustomException(ErrorCode.INVALID_CURSOR_FORMAT);
         }
-
-        return CommentFindOneResponse.of(
-                comment.getParent() != null ? comment.getParent().getId() : null,
-                comment.getId(),
-                comment.getContent(),
-                writerId,
-                writerNickname,
-                writerProfileImageUrl,
-                comment.getCreatedAt().toString(),
-                replyCommentsResponses);
     }
 
     private MissionRecord findMissionRecordById(Long recordId) {
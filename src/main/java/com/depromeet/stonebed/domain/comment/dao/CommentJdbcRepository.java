@@ -0,0 +1,32 @@
+package com.depromeet.stonebed.domain.comment.dao;
+
+import com.depromeet.stonebed.domain.comment.dto.CommentPathDto;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+@Repository
+@RequiredArgsConstructor
+public class CommentJdbcRepository {
+    private static final String UPDATE_PATH_SQL =
+            "UPDATE comment SET path = ?, depth = ? WHERE comment_id = ? AND path IS NULL";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public void updatePaths(List<CommentPathDto> comments) {
+        if (comments.isEmpty()) {
+            return;
+        }
+
+        jdbcTemplate.batchUpdate(
+                UPDATE_PATH_SQL,
+                comments,
+                comments.size(),
+                (ps, comment) -> {
+                    ps.setString(1, comment.path());
+                    ps.setInt(2, comment.depth());
+                    ps.setLong(3, comment.commentId());
+                });
+    }
+}
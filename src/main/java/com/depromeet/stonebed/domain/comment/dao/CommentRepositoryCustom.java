@@ -1,11 +1,27 @@
 package com.depromeet.stonebed.domain.comment.dao;
 
-import com.depromeet.stonebed.domain.comment.domain.Comment;
-import com.depromeet.stonebed.domain.missionRecord.domain.MissionRecord;
+import com.depromeet.stonebed.domain.comment.dto.CommentPathDto;
+import com.depromeet.stonebed.domain.comment.dto.FindCommentDto;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 
 public interface CommentRepositoryCustom {
-    List<Comment> findAllCommentsByMissionRecord(MissionRecord missionRecord);
+    List<FindCommentDto> findAllCommentDtosByRecordId(Long recordId);
+
+    List<FindCommentDto> findRootCommentDtos(Long recordId, Long cursorId, int size);
+
+    Map<Long, Long> countRepliesByParentIds(List<Long> parentIds);
+
+    List<FindCommentDto> findAllCommentDtosByPathPrefix(String pathPrefix);
+
+    List<FindCommentDto> findThreadCommentDtos(List<Long> ancestorIds);
+
+    List<CommentPathDto> findPathMissingComments(Long cursorId, int size);
+
+    List<CommentPathDto> findCommentPathsByIds(Collection<Long> commentIds);
+
+    List<Long> findRecordIdsByWriterId(Long memberId);
 
     void updateEmptyMemberAllByMember(Long memberId);
 }
@@ -1,12 +1,20 @@
 package com.depromeet.stonebed.domain.comment.dao;
 
 import static com.depromeet.stonebed.domain.comment.domain.QComment.comment;
+import static com.depromeet.stonebed.domain.member.domain.QMember.member;
 
-import com.depromeet.stonebed.domain.comment.domain.Comment;
+import com.depromeet.stonebed.domain.comment.dto.CommentPathDto;
+import com.depromeet.stonebed.domain.comment.dto.FindCommentDto;
 import com.depromeet.stonebed.domain.member.domain.Member;
-import com.depromeet.stonebed.domain.missionRecord.domain.MissionRecord;
+import com.querydsl.core.Tuple;
+import com.querydsl.core.types.Projections;
+import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.jpa.impl.JPAQuery;
 import com.querydsl.jpa.impl.JPAQueryFactory;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 
 @RequiredArgsConstructor
@@ -14,15 +22,85 @@ public class CommentRepositoryImpl implements CommentRepositoryCustom {
 
     private final JPAQueryFactory queryFactory;
 
+    // 작성자까지 한 번에 조회하고 트리는 애플리케이션에서 구성
     @Override
-    public List<Comment> findAllCommentsByMissionRecord(MissionRecord missionRecord) {
+    public List<FindCommentDto> findAllCommentDtosByRecordId(Long recordId) {
+        return getBaseSelectQuery()
+                .where(comment.recordId.eq(recordId))
+                .orderBy(comment.id.asc())
+                .fetch();
+    }
+
+    @Override
+    public List<FindCommentDto> findRootCommentDtos(Long recordId, Long cursorId, int size) {
+        return getBaseSelectQuery()
+                .where(comment.recordId.eq(recordId), comment.parent.isNull(), isAfter(cursorId))
+                .orderBy(comment.id.asc())
+                .limit(size)
+                .fetch();
+    }
+
+    @Override
+    public Map<Long, Long> countRepliesByParentIds(List<Long> parentIds) {
+        if (parentIds.isEmpty()) {
+            return Map.of();
+        }
+
+        List<Tuple> counts =
+                queryFactory
+                        .select(comment.parent.id, comment.count())
+                        .from(comment)
+                        .where(comment.parent.id.in(parentIds))
+                        .groupBy(comment.parent.id)
+                        .fetch();
+        return counts.stream()
+                .collect(
+                        Collectors.toMap(
+                                tuple -> tuple.get(comment.parent.id),
+                                tuple -> tuple.get(comment.count())));
+    }
+
+    // 경로 인덱스의 접두사 범위 조회로 하위 댓글 전체를 가져옴
+    @Override
+    public List<FindCommentDto> findAllCommentDtosByPathPrefix(String pathPrefix) {
+        return getBaseSelectQuery()
+                .where(comment.path.startsWith(pathPrefix))
+                .orderBy(comment.id.asc())
+                .fetch();
+    }
+
+    // 조상 댓글과 조상 댓글에 달린 답글을 한 번에 조회
+    @Override
+    public List<FindCommentDto> findThreadCommentDtos(List<Long> ancestorIds) {
+        return getBaseSelectQuery()
+                .where(comment.id.in(ancestorIds).or(comment.parent.id.in(ancestorIds)))
+                .orderBy(comment.id.asc())
+                .fetch();
+    }
+
+    @Override
+    public List<CommentPathDto> findPathMissingComments(Long cursorId, int size) {
+        return getPathSelectQuery()
+                .where(comment.path.isNull(), isAfter(cursorId))
+                .orderBy(comment.id.asc())
+                .limit(size)
+                .fetch();
+    }
+
+    @Override
+    public List<CommentPathDto> findCommentPathsByIds(Collection<Long> commentIds) {
+        return getPathSelectQuery()
+                .where(comment.id.in(commentIds))
+                .fetch();
+    }
+
+    @Override
+    public List<Long> findRecordIdsByWriterId(Long memberId) {
         return queryFactory
-                .selectFrom(comment)
-                .leftJoin(comment.parent)
-                .fetchJoin()
-                .leftJoin(comment.replyComments)
-                .fetchJoin()
-                .where(comment.recordId.eq(missionRecord.getId()))
+                .select(comment.recordId)
+                .distinct()
+                .from(comment)
+                .where(comment.writer.id.eq(memberId))
                 .fetch();
     }
 
@@ -34,4 +112,38 @@ public class CommentRepositoryImpl implements CommentRepositoryCustom {
                 .where(comment.writer.id.eq(memberId))
                 .execute();
     }
+
+    private JPAQuery<FindCommentDto> getBaseSelectQuery() {
+        return queryFactory
+                .select(
+                        Projections.constructor(
+                                FindCommentDto.class,
+                                comment.id,
+                                comment.parent.id,
+                                member.id,
+                                member.status,
+                                member.profile.nickname,
+                                member.profile.profileImageUrl,
+                                member.raisePet,
+                                comment.content,
+                                comment.createdAt))
+                .from(comment)
+                .leftJoin(comment.writer, member);
+    }
+
+    private JPAQuery<CommentPathDto> getPathSelectQuery() {
+        return queryFactory
+                .select(
+                        Projections.constructor(
+                                CommentPathDto.class,
+                                comment.id,
+                                comment.parent.id,
+                                comment.path,
+                                comment.depth))
+                .from(comment);
+    }
+
+    private BooleanExpression isAfter(Long cursorId) {
+        return cursorId == null ? null : comment.id.gt(cursorId);
+    }
 }
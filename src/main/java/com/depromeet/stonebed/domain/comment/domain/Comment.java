@@ -1,5 +1,7 @@
 package com.depromeet.stonebed.domain.comment.domain;
 
+import static com.depromeet.stonebed.global.common.constants.CommentConstants.*;
+
 import com.depromeet.stonebed.domain.common.BaseTimeEntity;
 import com.depromeet.stonebed.domain.member.domain.Member;
 import io.swagger.v3.oas.annotations.media.Schema;
@@ -10,22 +12,32 @@ import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.OneToMany;
 import jakarta.persistence.Table;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
-@Table(name = "comment")
+@Table(
+        name = "comment",
+        indexes = {
+            @Index(name = "idx_comment_record", columnList = "record_id, parent_id, comment_id"),
+            @Index(name = "idx_comment_parent", columnList = "parent_id"),
+            @Index(name = "idx_comment_path", columnList = "path")
+        })
 @Entity
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class Comment extends BaseTimeEntity {
+    public static final String ROOT_PATH = "/";
+    private static final String PATH_DELIMITER = "/";
 
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -50,6 +62,14 @@ public class Comment extends BaseTimeEntity {
     @JoinColumn(name = "parent_id")
     private Comment parent;
 
+    // 조상 댓글 ID 경로 (예: /1/5/), 최상위 댓글은 /
+    @Column(name = "path", length = COMMENT_PATH_MAX_LENGTH)
+    private String path;
+
+    // 최상위 댓글은 0
+    @Column(name = "depth")
+    private Integer depth;
+
     // 자식 댓글
     @OneToMany(mappedBy = "parent", orphanRemoval = true)
     private List<Comment> replyComments = new ArrayList<>();
@@ -60,6 +80,14 @@ public class Comment extends BaseTimeEntity {
         this.writer = writer;
         this.content = content;
         this.parent = parent;
+        // 부모의 경로가 아직 채워지지 않았다면 백필에서 채움
+        if (parent == null) {
+            this.path = ROOT_PATH;
+            this.depth = 0;
+        } else if (parent.getPath() != null) {
+            this.path = parent.getDescendantPath();
+            this.depth = parent.getDepth() + 1;
+        }
     }
 
     public static Comment createComment(
@@ -71,4 +99,25 @@ public class Comment extends BaseTimeEntity {
                 .parent(parent)
                 .build();
     }
+
+    public static String childPathOf(String parentPath, Long parentId) {
+        return parentPath + parentId + PATH_DELIMITER;
+    }
+
+    // 이 댓글의 모든 하위 댓글 경로가 시작하는 접두사
+    public String getDescendantPath() {
+        return childPathOf(path, id);
+    }
+
+    // 경로가 아직 채워지지 않은 댓글은 백필에서 경로 길이를 확인
+    public boolean canReply() {
+        return path == null || getAncestorIds().size() < COMMENT_MAX_DEPTH;
+    }
+
+    public List<Long> getAncestorIds() {
+        return Arrays.stream(path.split(PATH_DELIMITER))
+                .filter(segment -> !segment.isEmpty())
+                .map(Long::valueOf)
+                .toList();
+    }
 }
@@ -0,0 +1,18 @@
+package com.depromeet.stonebed.domain.comment.dto;
+
+import com.depromeet.stonebed.domain.comment.domain.Comment;
+
+/** 댓글 경로 백필에 필요한 필드만 담은 DTO입니다. */
+public record CommentPathDto(Long commentId, Long parentId, String path, Integer depth) {
+
+    public CommentPathDto withParent(CommentPathDto parent) {
+        if (parent == null) {
+            return new CommentPathDto(commentId, null, Comment.ROOT_PATH, 0);
+        }
+        return new CommentPathDto(
+                commentId,
+                parentId,
+                Comment.childPathOf(parent.path(), parent.commentId()),
+                parent.depth() + 1);
+    }
+}
@@ -0,0 +1,63 @@
+package com.depromeet.stonebed.domain.comment.dto;
+
+import com.depromeet.stonebed.domain.comment.domain.Comment;
+import com.depromeet.stonebed.domain.member.domain.Member;
+import com.depromeet.stonebed.domain.member.domain.MemberStatus;
+import com.depromeet.stonebed.domain.member.domain.RaisePet;
+import java.time.LocalDateTime;
+
+/** 댓글 트리를 만들기 위한 표시용 필드만 담은 DTO입니다. 엔티티 대신 스칼라 값으로 한 번에 조회합니다. */
+public record FindCommentDto(
+        Long commentId,
+        Long parentId,
+        Long writerId,
+        MemberStatus writerStatus,
+        String writerNickname,
+        String writerProfileImageUrl,
+        RaisePet writerRaisePet,
+        String content,
+        LocalDateTime createdAt) {
+    private static final String DELETED_WRITER_NICKNAME = "탈퇴한 회원";
+    private static final String INACTIVE_PROFILE_IMAGE_PREFIX = "INACTIVE_";
+
+    public static FindCommentDto from(Comment comment) {
+        Member writer = comment.getWriter();
+        return new FindCommentDto(
+                comment.getId(),
+                comment.getParent() != null ? comment.getParent().getId() : null,
+                writer != null ? writer.getId() : null,
+                writer != null ? writer.getStatus() : null,
+                writer != null ? writer.getProfile().getNickname() : null,
+                writer != null ? writer.getProfile().getProfileImageUrl() : null,
+                writer != null ? writer.getRaisePet() : null,
+                comment.getContent(),
+                comment.getCreatedAt());
+    }
+
+    public boolean isRoot() {
+        return parentId == null;
+    }
+
+    // 작성자가 없거나 탈퇴한 경우 작성자 정보를 노출하지 않음
+    public Long displayWriterId() {
+        return isActiveWriter() ? writerId : null;
+    }
+
+    public String displayWriterNickname() {
+        return isActiveWriter() ? writerNickname : DELETED_WRITER_NICKNAME;
+    }
+
+    public String displayWriterProfileImageUrl() {
+        if (writerId == null) {
+            return null;
+        }
+        if (writerStatus == MemberStatus.DELETED) {
+            return INACTIVE_PROFILE_IMAGE_PREFIX + writerRaisePet.getValue();
+        }
+        return writerProfileImageUrl;
+    }
+
+    private boolean isActiveWriter() {
+        return writerId != null && writerStatus != MemberStatus.DELETED;
+    }
+}
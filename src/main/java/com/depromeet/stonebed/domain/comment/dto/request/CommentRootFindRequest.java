@@ -0,0 +1,11 @@
+package com.depromeet.stonebed.domain.comment.dto.request;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+
+public record CommentRootFindRequest(
+        @Schema(description = "기록 ID", example = "1") @NotNull Long recordId,
+        @Schema(description = "커서 위치 (마지막으로 받은 댓글 ID)", example = "10") String cursor,
+        @Schema(description = "조회할 댓글 수", example = "20") @Min(1) @Max(50) int limit) {}
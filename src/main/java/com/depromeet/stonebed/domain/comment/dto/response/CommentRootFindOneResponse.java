@@ -0,0 +1,25 @@
+package com.depromeet.stonebed.domain.comment.dto.response;
+
+import com.depromeet.stonebed.domain.comment.dto.FindCommentDto;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+public record CommentRootFindOneResponse(
+        @Schema(description = "댓글 ID", example = "1") Long commentId,
+        @Schema(description = "댓글 내용", example = "너무 이쁘자나~") String content,
+        @Schema(description = "작성자 ID", example = "1") Long writerId,
+        @Schema(description = "작성자 닉네임", example = "왈왈대장") String writerNickname,
+        @Schema(description = "작성자 프로필 이미지 URL", example = "https://default.walwal/profile.jpg")
+                String writerProfileImageUrl,
+        @Schema(description = "작성일", example = "2021-10-01T00:00:00") String createdAt,
+        @Schema(description = "답글 수", example = "3") Long replyCount) {
+    public static CommentRootFindOneResponse from(FindCommentDto comment, Long replyCount) {
+        return new CommentRootFindOneResponse(
+                comment.commentId(),
+                comment.content(),
+                comment.displayWriterId(),
+                comment.displayWriterNickname(),
+                comment.displayWriterProfileImageUrl(),
+                comment.createdAt().toString(),
+                replyCount);
+    }
+}
@@ -0,0 +1,13 @@
+package com.depromeet.stonebed.domain.comment.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.util.List;
+
+public record CommentRootFindResponse(
+        @Schema(description = "댓글 목록") List<CommentRootFindOneResponse> comments,
+        @Schema(description = "다음 커서 위치", example = "30") String nextCursor) {
+    public static CommentRootFindResponse of(
+            List<CommentRootFindOneResponse> comments, String nextCursor) {
+        return new CommentRootFindResponse(comments, nextCursor);
+    }
+}
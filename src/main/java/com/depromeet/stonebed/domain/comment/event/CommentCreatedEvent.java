@@ -0,0 +1,7 @@
+package com.depromeet.stonebed.domain.comment.event;
+
+public record CommentCreatedEvent(Long commentId, Long recordId) {
+    public static CommentCreatedEvent of(Long commentId, Long recordId) {
+        return new CommentCreatedEvent(commentId, recordId);
+    }
+}
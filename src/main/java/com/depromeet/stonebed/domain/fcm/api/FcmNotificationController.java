@@ -57,4 +57,11 @@ public class FcmNotificationController {
         fcmNotificationService.markNotificationAsRead(notificationId);
         return ResponseEntity.ok().build();
     }
+
+    @Operation(summary = "전체 알림 읽음 처리", description = "모든 회원에게 보낸 알림을 읽음 상태로 변경합니다.")
+    @PostMapping("/broadcasts/{broadcastId}/read")
+    public ResponseEntity<Void> fcmBroadcastAsRead(@PathVariable("broadcastId") Long broadcastId) {
+        fcmNotificationService.markBroadcastAsRead(broadcastId);
+        return ResponseEntity.ok().build();
+    }
 }
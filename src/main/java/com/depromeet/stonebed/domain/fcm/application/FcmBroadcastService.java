@@ -0,0 +1,149 @@
+package com.depromeet.stonebed.domain.fcm.application;
+
+import static com.depromeet.stonebed.global.common.constants.NotificationConstants.*;
+
+import com.depromeet.stonebed.domain.fcm.dao.FcmBroadcastCheckpointRepository;
+import com.depromeet.stonebed.domain.fcm.dao.FcmTokenRepository;
+import com.depromeet.stonebed.domain.fcm.domain.FcmBroadcastAudience;
+import com.depromeet.stonebed.domain.fcm.domain.FcmBroadcastCheckpoint;
+import com.depromeet.stonebed.domain.fcm.domain.FcmNotificationType;
+import com.depromeet.stonebed.domain.fcm.dto.FcmRecipientDto;
+import com.depromeet.stonebed.global.common.constants.FcmNotificationConstants;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+
+/**
+ * 전체 사용자, 또는 조건에 맞는 사용자에게 보내는 알림을 토큰 ID 순으로 나누어 보냅니다.
+ *
+ * <p>알림함에는 전체 알림 한 건만 저장하고, 모든 토큰을 한 번에 불러오지 않고 구간마다 발송 메시지를 일괄 저장합니다. 어느 토큰까지 보냈는지
+ * 체크포인트로 남겨 중단된 알림은 이어서 보냅니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class FcmBroadcastService {
+    private final FcmNotificationService fcmNotificationService;
+    private final FcmTokenRepository fcmTokenRepository;
+    private final FcmBroadcastCheckpointRepository fcmBroadcastCheckpointRepository;
+
+    /**
+     * 체크포인트가 없으면 새로 만들고, 있으면 기록된 다음 토큰부터 보냅니다.
+     *
+     * @param date 알림 날짜, 같은 날짜의 같은 알림은 하나의 체크포인트를 사용
+     * @return 이번 실행에서 보낸 알림 수
+     */
+    public long broadcast(
+            FcmNotificationConstants notificationConstants,
+            FcmNotificationType notificationType,
+            FcmBroadcastAudience audience,
+            LocalDate date) {
+        String broadcastKey = FcmBroadcastCheckpoint.dailyKey(notificationConstants, date);
+        FcmBroadcastCheckpoint checkpoint =
+                fcmBroadcastCheckpointRepository
+                        .findById(broadcastKey)
+                        .orElseGet(
+                                () ->
+                                        startBroadcast(
+                                                broadcastKey,
+                                                notificationConstants,
+                                                notificationType,
+                                                audience,
+                                                date));
+        return sendFrom(checkpoint, notificationConstants, notificationType, audience, date);
+    }
+
+    // 시작했지만 끝나지 않은 알림만 이어서 보냄
+    public long resume(
+            FcmNotificationConstants notificationConstants,
+            FcmNotificationType notificationType,
+            FcmBroadcastAudience audience,
+            LocalDate date) {
+        return fcmBroadcastCheckpointRepository
+                .findById(FcmBroadcastCheckpoint.dailyKey(notificationConstants, date))
+                .map(
+                        checkpoint ->
+                                sendFrom(
+                                        checkpoint,
+                                        notificationConstants,
+                                        notificationType,
+                                        audience,
+                                        date))
+                .orElse(0L);
+    }
+
+    private long sendFrom(
+            FcmBroadcastCheckpoint checkpoint,
+            FcmNotificationConstants notificationConstants,
+            FcmNotificationType notificationType,
+            FcmBroadcastAudience audience,
+            LocalDate date) {
+        String broadcastKey = checkpoint.getBroadcastKey();
+        if (checkpoint.isCompleted()) {
+            return 0;
+        }
+
+        Long cursorId = checkpoint.getLastFcmTokenId();
+        long sentCount = 0;
+        while (true) {
+            List<FcmRecipientDto> recipients = findRecipientsAfter(audience, date, cursorId);
+            if (recipients.isEmpty()) {
+                fcmNotificationService.completeBroadcast(broadcastKey);
+                break;
+            }
+
+            if (fcmNotificationService.sendBroadcastChunk(
+                    broadcastKey, cursorId, notificationConstants, notificationType, recipients)) {
+                sentCount += recipients.size();
+                cursorId = recipients.get(recipients.size() - 1).fcmTokenId();
+                continue;
+            }
+
+            // 다른 실행이 먼저 보낸 구간은 건너뛰고 기록된 위치부터 이어서 보냄
+            Optional<FcmBroadcastCheckpoint> latest =
+                    fcmBroadcastCheckpointRepository.findById(broadcastKey);
+            if (latest.isEmpty() || latest.get().isCompleted()) {
+                break;
+            }
+            cursorId = latest.get().getLastFcmTokenId();
+        }
+
+        log.info("전체 알림 전송 - key: {}, 전송 수: {}", broadcastKey, sentCount);
+        return sentCount;
+    }
+
+    private List<FcmRecipientDto> findRecipientsAfter(
+            FcmBroadcastAudience audience, LocalDate date, Long cursorId) {
+        if (audience == FcmBroadcastAudience.INCOMPLETE_MISSION_MEMBERS) {
+            return fcmTokenRepository.findIncompleteMissionRecipientsAfter(
+                    cursorId,
+                    date.atStartOfDay(),
+                    date.plusDays(1).atStartOfDay(),
+                    FCM_BROADCAST_CHUNK_SIZE);
+        }
+        return fcmTokenRepository.findValidRecipientsAfter(cursorId, FCM_BROADCAST_CHUNK_SIZE);
+    }
+
+    // 다른 서버가 먼저 시작한 경우 그 체크포인트를 사용
+    private FcmBroadcastCheckpoint startBroadcast(
+            String broadcastKey,
+            FcmNotificationConstants notificationConstants,
+            FcmNotificationType notificationType,
+            FcmBroadcastAudience audience,
+            LocalDate date) {
+        try {
+            return fcmNotificationService.startBroadcast(
+                    broadcastKey,
+                    notificationConstants,
+                    notificationType,
+                    audience,
+                    date.atStartOfDay());
+        } catch (DataIntegrityViolationException e) {
+            return fcmBroadcastCheckpointRepository.findById(broadcastKey).orElseThrow(() -> e);
+        }
+    }
+}
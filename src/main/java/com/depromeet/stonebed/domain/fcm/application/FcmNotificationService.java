@@ -2,17 +2,24 @@ package com.depromeet.stonebed.domain.fcm.application;
 
 import static com.depromeet.stonebed.global.common.constants.NotificationConstants.*;
 
+import com.depromeet.stonebed.domain.fcm.dao.FcmBroadcastCheckpointRepository;
+import com.depromeet.stonebed.domain.fcm.dao.FcmBroadcastNotificationRepository;
+import com.depromeet.stonebed.domain.fcm.dao.FcmBroadcastReadRepository;
+import com.depromeet.stonebed.domain.fcm.dao.FcmNotificationJdbcRepository;
 import com.depromeet.stonebed.domain.fcm.dao.FcmNotificationRepository;
 import com.depromeet.stonebed.domain.fcm.dao.FcmTokenRepository;
+import com.depromeet.stonebed.domain.fcm.domain.FcmBroadcastAudience;
+import com.depromeet.stonebed.domain.fcm.domain.FcmBroadcastCheckpoint;
+import com.depromeet.stonebed.domain.fcm.domain.FcmBroadcastNotification;
 import com.depromeet.stonebed.domain.fcm.domain.FcmMessage;
 import com.depromeet.stonebed.domain.fcm.domain.FcmNotification;
 import com.depromeet.stonebed.domain.fcm.domain.FcmNotificationType;
 import com.depromeet.stonebed.domain.fcm.domain.FcmToken;
+import com.depromeet.stonebed.domain.fcm.dto.FcmRecipientDto;
 import com.depromeet.stonebed.domain.fcm.dto.response.FcmNotificationDto;
 import com.depromeet.stonebed.domain.fcm.dto.response.FcmNotificationResponse;
 import com.depromeet.stonebed.domain.member.dao.MemberRepository;
 import com.depromeet.stonebed.domain.member.domain.Member;
-import com.depromeet.stonebed.domain.missionRecord.dao.MissionRecordBoostRepository;
 import com.depromeet.stonebed.domain.missionRecord.dao.MissionRecordRepository;
 import com.depromeet.stonebed.domain.missionRecord.domain.MissionRecord;
 import com.depromeet.stonebed.domain.sqs.application.SqsMessageService;
@@ -23,11 +30,14 @@ import com.depromeet.stonebed.global.util.MemberUtil;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeParseException;
 import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.stream.Collectors;
-import java.util.stream.IntStream;
+import java.util.stream.Stream;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.PageRequest;
@@ -43,9 +53,12 @@ import org.springframework.transaction.annotation.Transactional;
 public class FcmNotificationService {
     private final SqsMessageService sqsMessageService;
     private final FcmNotificationRepository notificationRepository;
-    private final MissionRecordBoostRepository missionRecordBoostRepository;
+    private final FcmNotificationJdbcRepository notificationJdbcRepository;
     private final MissionRecordRepository missionRecordRepository;
     private final FcmTokenRepository fcmTokenRepository;
+    private final FcmBroadcastCheckpointRepository fcmBroadcastCheckpointRepository;
+    private final FcmBroadcastNotificationRepository fcmBroadcastNotificationRepository;
+    private final FcmBroadcastReadRepository fcmBroadcastReadRepository;
     private final MemberRepository memberRepository;
     private final MemberUtil memberUtil;
 
@@ -72,14 +85,59 @@ public class FcmNotificationService {
     public FcmNotificationResponse getNotificationsForCurrentMember(String cursor, int limit) {
         Member member = memberUtil.getCurrentMember();
 
+        LocalDateTime cursorDate = parseCursorDate(cursor);
+
         Pageable pageable = PageRequest.of(0, limit, Sort.by(Sort.Direction.DESC, "createdAt"));
-        List<FcmNotification> notifications = getNotifications(cursor, member.getId(), pageable);
-        List<FcmNotificationDto> notificationData = convertToNotificationDto(notifications);
-        String nextCursor = getNextCursor(notifications);
+        List<FcmNotification> notifications =
+                notificationRepository.findMissionRecordNotificationByMemberPaging(
+                        member.getId(), cursorDate, pageable);
+        List<FcmNotificationDto> notificationData =
+                mergeByCreatedAt(
+                        convertToNotificationDto(notifications),
+                        findBroadcastNotificationDtos(member, cursorDate, limit),
+                        limit);
+        String nextCursor = getNextCursor(member, notificationData);
 
         return FcmNotificationResponse.from(notificationData, nextCursor);
     }
 
+    // 회원이 대상인 전체 알림을 읽음 표시와 함께 조회
+    private List<FcmNotificationDto> findBroadcastNotificationDtos(
+            Member member, LocalDateTime cursorDate, int limit) {
+        List<FcmBroadcastNotification> broadcasts =
+                fcmBroadcastNotificationRepository.findBroadcastNotificationsByMemberPaging(
+                        member.getId(), member.getCreatedAt(), cursorDate, limit);
+        if (broadcasts.isEmpty()) {
+            return List.of();
+        }
+
+        Set<Long> readBroadcastIds =
+                new HashSet<>(
+                        fcmBroadcastReadRepository.findReadBroadcastIds(
+                                member.getId(),
+                                broadcasts.stream().map(FcmBroadcastNotification::getId).toList()));
+        return broadcasts.stream()
+                .map(
+                        broadcast ->
+                                FcmNotificationDto.from(
+                                        broadcast, readBroadcastIds.contains(broadcast.getId())))
+                .toList();
+    }
+
+    private List<FcmNotificationDto> mergeByCreatedAt(
+            List<FcmNotificationDto> notifications,
+            List<FcmNotificationDto> broadcasts,
+            int limit) {
+        if (broadcasts.isEmpty()) {
+            return notifications;
+        }
+
+        return Stream.concat(notifications.stream(), broadcasts.stream())
+                .sorted(Comparator.comparing(FcmNotificationDto::createdAt).reversed())
+                .limit(limit)
+                .toList();
+    }
+
     private List<FcmNotificationDto> convertToNotificationDto(List<FcmNotification> notifications) {
         List<Long> targetIds = notifications.stream().map(FcmNotification::getTargetId).toList();
 
@@ -99,85 +157,65 @@ public class FcmNotificationService {
                 .toList();
     }
 
-    private List<FcmNotification> getNotifications(
-            String cursor, Long memberId, Pageable pageable) {
+    private LocalDateTime parseCursorDate(String cursor) {
         try {
-            LocalDateTime cursorDate = null;
-            if (cursor != null) cursorDate = LocalDateTime.parse(cursor, DATE_FORMATTER);
-
-            return notificationRepository.findMissionRecordNotificationByMemberPaging(
-                    memberId, cursorDate, pageable);
+            return cursor != null ? LocalDateTime.parse(cursor, DATE_FORMATTER) : null;
         } catch (DateTimeParseException e) {
             throw new CustomException(ErrorCode.INVALID_CURSOR_DATE_FORMAT);
         }
     }
 
-    private String getNextCursor(List<FcmNotification> notifications) {
+    // 다른 회원의 알림이나 대상이 아닌 전체 알림으로 빈 페이지가 생기지 않도록 목록과 같은 조건으로 확인
+    private String getNextCursor(Member member, List<FcmNotificationDto> notifications) {
         if (notifications.isEmpty()) return null;
 
-        FcmNotification lastNotification = notifications.get(notifications.size() - 1);
+        LocalDateTime lastCreatedAt = notifications.get(notifications.size() - 1).createdAt();
 
         boolean hasNext =
-                notificationRepository.existsByCreatedAtLessThan(lastNotification.getCreatedAt());
+                notificationRepository.existsMissionRecordNotificationByMemberBefore(
+                                member.getId(), lastCreatedAt)
+                        || fcmBroadcastNotificationRepository
+                                .existsBroadcastNotificationByMemberBefore(
+                                        member.getId(), member.getCreatedAt(), lastCreatedAt);
 
-        return hasNext ? lastNotification.getCreatedAt().format(DATE_FORMATTER) : null;
+        return hasNext ? lastCreatedAt.format(DATE_FORMATTER) : null;
     }
 
-    public void checkAndSendBoostNotification(MissionRecord missionRecord) {
-        Long totalBoostCount =
-                missionRecordBoostRepository.sumBoostCountByMissionRecord(missionRecord.getId());
-
-        if (totalBoostCount != null) {
-            Optional<FcmNotificationConstants> notificationType =
-                    determineNotificationType(totalBoostCount);
-
-            long boostCount = determineBoostCount(totalBoostCount);
-
-            notificationType.ifPresent(
-                    type -> {
-                        if (!notificationAlreadySent(missionRecord, type)) {
-                            sendBoostNotification(missionRecord, type, boostCount);
-                        }
-                    });
-        }
+    /**
+     * 이번 반영으로 넘은 부스트 알림 기준이 있으면 알림 내역과 발송 메시지를 저장합니다.
+     *
+     * <p>부스트를 반영한 트랜잭션 안에서 호출해 부스트 수와 알림이 함께 커밋되도록 합니다. 여러 기준을 한 번에 넘으면 가장 큰 기준만
+     * 알립니다.
+     */
+    public void sendBoostMilestoneNotification(
+            MissionRecord missionRecord, long previousBoostCount, long totalBoostCount) {
+        BOOST_MILESTONES.stream()
+                .filter(milestone -> previousBoostCount < milestone)
+                .filter(milestone -> milestone <= totalBoostCount)
+                .reduce((first, second) -> second)
+                .ifPresent(
+                        milestone ->
+                                determineNotificationType(milestone)
+                                        .ifPresent(
+                                                type ->
+                                                        sendBoostNotification(
+                                                                missionRecord, type, milestone)));
     }
 
-    private boolean notificationAlreadySent(
-            MissionRecord missionRecord, FcmNotificationConstants notificationConstants) {
-        return notificationRepository.existsByTargetIdAndTypeAndTitle(
-                missionRecord.getId(),
-                FcmNotificationType.BOOSTER,
-                notificationConstants.getTitle());
-    }
-
-    private Optional<FcmNotificationConstants> determineNotificationType(Long totalBoostCount) {
-        if (totalBoostCount >= SUPER_POPULAR_THRESHOLD) {
+    private Optional<FcmNotificationConstants> determineNotificationType(Long milestone) {
+        if (milestone >= SUPER_POPULAR_THRESHOLD) {
             return Optional.of(FcmNotificationConstants.SUPER_POPULAR);
         }
-        if (totalBoostCount >= POPULAR_THRESHOLD) {
+        if (milestone >= POPULAR_THRESHOLD) {
             return Optional.of(FcmNotificationConstants.POPULAR);
         }
-        if (totalBoostCount >= FIRST_BOOST_THRESHOLD) {
+        if (milestone >= FIRST_BOOST_THRESHOLD) {
             return Optional.of(FcmNotificationConstants.FIRST_BOOST);
         }
 
         return Optional.empty();
     }
 
-    private long determineBoostCount(Long totalBoostCount) {
-        if (totalBoostCount >= SUPER_POPULAR_THRESHOLD) {
-            return SUPER_POPULAR_THRESHOLD;
-        }
-        if (totalBoostCount >= POPULAR_THRESHOLD) {
-            return POPULAR_THRESHOLD;
-        }
-        if (totalBoostCount >= FIRST_BOOST_THRESHOLD) {
-            return FIRST_BOOST_THRESHOLD;
-        }
-
-        return 0;
-    }
-
     private Optional<String> getTokenForMember(Member member) {
         return fcmTokenRepository.findByMember(member).map(FcmToken::getToken);
     }
@@ -189,33 +227,32 @@ public class FcmNotificationService {
     private void createAndSendFcmMessage(
             String title, String message, String token, String deepLink) {
         FcmMessage fcmMessage = FcmMessage.of(title, message, token, deepLink);
-        sqsMessageService.sendMessage(fcmMessage);
+        sqsMessageService.enqueueMessage(fcmMessage);
     }
 
     private void sendBoostNotification(
             MissionRecord missionRecord,
             FcmNotificationConstants notificationConstants,
-            long boostCount) {
+            long milestone) {
         String token = validateTokenForMember(missionRecord.getMember()).orElse(null);
         if (token == null) return;
 
-        String deepLink =
-                FcmNotification.generateDeepLink(
-                        FcmNotificationType.BOOSTER, missionRecord.getId(), boostCount);
+        FcmNotification notification =
+                FcmNotification.createBoostNotification(
+                        notificationConstants.getTitle(),
+                        notificationConstants.getMessage(),
+                        missionRecord.getMember(),
+                        missionRecord.getId(),
+                        milestone);
+
+        // 먼저 저장에 성공한 경우에만 발송 메시지를 남겨 같은 기준의 알림을 한 번만 보냄
+        if (!notificationJdbcRepository.saveIfAbsent(notification)) return;
+
         createAndSendFcmMessage(
-                notificationConstants.getTitle(),
-                notificationConstants.getMessage(),
+                notification.getTitle(),
+                notification.getMessage(),
                 token,
-                deepLink);
-
-        saveNotification(
-                FcmNotificationType.BOOSTER,
-                notificationConstants.getTitle(),
-                notificationConstants.getMessage(),
-                missionRecord.getId(),
-                missionRecord.getMember().getId(),
-                false,
-                deepLink);
+                notification.getDeepLink());
     }
 
     public void markNotificationAsRead(Long notificationId) {
@@ -229,73 +266,134 @@ public class FcmNotificationService {
         notificationRepository.save(notification);
     }
 
-    private List<FcmNotification> buildNotificationList(
-            String title,
-            String message,
-            List<String> tokens,
-            Long targetId,
-            FcmNotificationType notificationType,
-            String deepLink) {
-        List<FcmNotification> notifications = new ArrayList<>();
-
-        for (String token : tokens) {
-            Member member =
-                    fcmTokenRepository
-                            .findByToken(token)
-                            .map(FcmToken::getMember)
-                            .orElseThrow(
-                                    () -> new CustomException(ErrorCode.FAILED_TO_FIND_FCM_TOKEN));
-
-            FcmNotification newNotification =
-                    FcmNotification.createNotification(
-                            notificationType, title, message, member, targetId, false, deepLink);
-            notifications.add(newNotification);
+    public void markBroadcastAsRead(Long broadcastId) {
+        final Member member = memberUtil.getCurrentMember();
+        // 대상이 아닌 전체 알림에는 읽음 표시를 남기지 않음
+        if (!fcmBroadcastNotificationRepository.existsBroadcastNotificationForMember(
+                broadcastId, member.getId(), member.getCreatedAt())) {
+            throw new CustomException(ErrorCode.NOTIFICATION_NOT_FOUND);
         }
 
-        return notifications;
+        notificationJdbcRepository.saveBroadcastReadIfAbsent(member.getId(), broadcastId);
     }
 
-    public void sendAndNotifications(
-            String title,
-            String message,
-            List<String> tokens,
-            Long sourceId,
-            Long targetId,
-            FcmNotificationType notificationType) {
-        List<List<String>> batches = createBatches(tokens);
+    /**
+     * 댓글 하나로 발생한 알림을 한 번에 보냅니다.
+     *
+     * <p>수신자 토큰은 한 번의 쿼리로 조회하고, 알림 내역과 발송 메시지를 같은 트랜잭션에서 일괄 저장합니다. 토큰이 없는 수신자는 제외합니다.
+     *
+     * @param recipients 수신자 회원 ID별 알림 종류
+     */
+    public void sendCommentNotifications(
+            Long commentId,
+            Long missionRecordId,
+            String writerNickname,
+            Map<Long, FcmNotificationConstants> recipients) {
+        Map<Long, String> tokens =
+                fcmTokenRepository.findValidTokensByMemberIds(recipients.keySet());
+        if (tokens.isEmpty()) return;
+
+        String deepLink = FcmNotification.generateCommentDeepLink(commentId, missionRecordId);
+        List<FcmMessage> messages = new ArrayList<>();
+        List<FcmNotification> notifications = new ArrayList<>();
 
-        String deepLink = FcmNotification.generateDeepLink(notificationType, targetId, null);
+        recipients.forEach(
+                (memberId, notificationConstants) -> {
+                    String token = tokens.get(memberId);
+                    if (token == null) return;
+
+                    String title = notificationConstants.getTitle();
+                    String message = writerNickname + notificationConstants.getMessage();
+                    messages.add(FcmMessage.of(title, message, token, deepLink));
+                    notifications.add(
+                            FcmNotification.createNotification(
+                                    toCommentNotificationType(notificationConstants),
+                                    title,
+                                    message,
+                                    memberRepository.getReferenceById(memberId),
+                                    missionRecordId,
+                                    false,
+                                    deepLink));
+                });
 
-        if (notificationType == FcmNotificationType.COMMENT
-                || notificationType == FcmNotificationType.RE_COMMENT) {
-            deepLink = FcmNotification.generateCommentDeepLink(sourceId, targetId);
-        }
+        notificationJdbcRepository.saveAll(notifications);
+        sqsMessageService.enqueueMessages(messages);
+    }
 
-        for (List<String> batch : batches) {
-            sqsMessageService.sendBatchMessages(batch, title, message, deepLink);
+    /**
+     * 알림함에 보일 전체 알림 한 건과 체크포인트를 함께 저장합니다.
+     *
+     * <p>전체 알림의 키가 유니크하므로 여러 서버가 동시에 시작해도 한 곳만 저장하고, 나머지는 {@link
+     * org.springframework.dao.DataIntegrityViolationException}으로 실패합니다.
+     */
+    public FcmBroadcastCheckpoint startBroadcast(
+            String broadcastKey,
+            FcmNotificationConstants notificationConstants,
+            FcmNotificationType notificationType,
+            FcmBroadcastAudience audience,
+            LocalDateTime segmentStartAt) {
+        fcmBroadcastNotificationRepository.saveAndFlush(
+                FcmBroadcastNotification.createFcmBroadcastNotification(
+                        broadcastKey,
+                        notificationType,
+                        notificationConstants.getTitle(),
+                        notificationConstants.getMessage(),
+                        audience,
+                        segmentStartAt));
+        return fcmBroadcastCheckpointRepository.save(
+                FcmBroadcastCheckpoint.createFcmBroadcastCheckpoint(broadcastKey));
+    }
+
+    /**
+     * 전체 알림의 한 구간을 보내고, 어디까지 보냈는지 같은 트랜잭션에서 기록합니다.
+     *
+     * <p>알림 내역은 회원마다 저장하지 않고 발송 메시지만 저장합니다. 체크포인트 행을 잠근 뒤 기록된 위치가 이 구간의 시작과 같을 때만 저장하므로,
+     * 여러 서버가 같은 구간을 처리해도 한 번만 보냅니다.
+     *
+     * @return 다른 실행이 이미 이 구간을 처리했거나 알림이 끝났으면 false
+     */
+    public boolean sendBroadcastChunk(
+            String broadcastKey,
+            Long cursorId,
+            FcmNotificationConstants notificationConstants,
+            FcmNotificationType notificationType,
+            List<FcmRecipientDto> recipients) {
+        FcmBroadcastCheckpoint checkpoint =
+                fcmBroadcastCheckpointRepository.findByIdForUpdate(broadcastKey).orElse(null);
+        if (checkpoint == null
+                || checkpoint.isCompleted()
+                || !checkpoint.getLastFcmTokenId().equals(cursorId)) {
+            return false;
         }
 
-        List<FcmNotification> notifications =
-                buildNotificationList(title, message, tokens, targetId, notificationType, deepLink);
-        notificationRepository.saveAll(notifications);
+        String deepLink = FcmNotification.generateDeepLink(notificationType, null, null);
+        sqsMessageService.enqueueMessages(
+                recipients.stream()
+                        .map(
+                                recipient ->
+                                        FcmMessage.of(
+                                                notificationConstants.getTitle(),
+                                                notificationConstants.getMessage(),
+                                                recipient.token(),
+                                                deepLink))
+                        .toList());
+        checkpoint.advance(recipients.get(recipients.size() - 1).fcmTokenId());
+        return true;
     }
 
-    private List<List<String>> createBatches(List<String> tokens) {
-        return IntStream.range(
-                        0,
-                        (tokens.size() + SQS_BATCH_SIZE - 1)
-                                / SQS_BATCH_SIZE) // ceil(tokens.size() / SQS_BATCH_SIZE
-                .mapToObj(
-                        i ->
-                                tokens.subList(
-                                        i * SQS_BATCH_SIZE,
-                                        Math.min(tokens.size(), (i + 1) * SQS_BATCH_SIZE)))
-                .collect(Collectors.toList());
+    public void completeBroadcast(String broadcastKey) {
+        fcmBroadcastCheckpointRepository
+                .findByIdForUpdate(broadcastKey)
+                .ifPresent(FcmBroadcastCheckpoint::complete);
     }
 
-    @Transactional(readOnly = true)
-    public List<String> getAllTokens() {
-        return fcmTokenRepository.findAllValidTokens();
+    // 내 기록에 달린 답글 알림도 답글 알림으로 저장
+    private FcmNotificationType toCommentNotificationType(
+            FcmNotificationConstants notificationConstants) {
+        if (notificationConstants == FcmNotificationConstants.RECORD_RE_COMMENT) {
+            return FcmNotificationType.RE_COMMENT;
+        }
+        return FcmNotificationType.valueOf(notificationConstants.name());
     }
 
     @Transactional
@@ -0,0 +1,15 @@
+package com.depromeet.stonebed.domain.fcm.dao;
+
+import com.depromeet.stonebed.domain.fcm.domain.FcmBroadcastCheckpoint;
+import jakarta.persistence.LockModeType;
+import java.util.Optional;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+
+public interface FcmBroadcastCheckpointRepository
+        extends JpaRepository<FcmBroadcastCheckpoint, String> {
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT c FROM FcmBroadcastCheckpoint c WHERE c.broadcastKey = :broadcastKey")
+    Optional<FcmBroadcastCheckpoint> findByIdForUpdate(String broadcastKey);
+}
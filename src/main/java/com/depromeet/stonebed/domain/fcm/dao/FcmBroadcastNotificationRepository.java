@@ -0,0 +1,8 @@
+package com.depromeet.stonebed.domain.fcm.dao;
+
+import com.depromeet.stonebed.domain.fcm.domain.FcmBroadcastNotification;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface FcmBroadcastNotificationRepository
+        extends JpaRepository<FcmBroadcastNotification, Long>,
+                FcmBroadcastNotificationRepositoryCustom {}
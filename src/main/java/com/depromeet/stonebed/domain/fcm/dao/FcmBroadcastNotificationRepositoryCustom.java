@@ -0,0 +1,16 @@
+package com.depromeet.stonebed.domain.fcm.dao;
+
+import com.depromeet.stonebed.domain.fcm.domain.FcmBroadcastNotification;
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface FcmBroadcastNotificationRepositoryCustom {
+    List<FcmBroadcastNotification> findBroadcastNotificationsByMemberPaging(
+            Long memberId, LocalDateTime joinedAt, LocalDateTime cursorDate, int size);
+
+    boolean existsBroadcastNotificationByMemberBefore(
+            Long memberId, LocalDateTime joinedAt, LocalDateTime createdAt);
+
+    boolean existsBroadcastNotificationForMember(
+            Long broadcastId, Long memberId, LocalDateTime joinedAt);
+}
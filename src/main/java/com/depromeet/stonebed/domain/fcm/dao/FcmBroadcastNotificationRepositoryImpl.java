@@ -0,0 +1,94 @@
+package com.depromeet.stonebed.domain.fcm.dao;
+
+import static com.depromeet.stonebed.domain.fcm.domain.QFcmBroadcastNotification.*;
+import static com.depromeet.stonebed.domain.missionRecord.domain.QMissionRecord.*;
+
+import com.depromeet.stonebed.domain.fcm.domain.FcmBroadcastAudience;
+import com.depromeet.stonebed.domain.fcm.domain.FcmBroadcastNotification;
+import com.depromeet.stonebed.domain.missionRecord.domain.MissionRecordStatus;
+import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.jpa.JPAExpressions;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import java.time.LocalDateTime;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+
+@RequiredArgsConstructor
+public class FcmBroadcastNotificationRepositoryImpl
+        implements FcmBroadcastNotificationRepositoryCustom {
+    private final JPAQueryFactory jpaQueryFactory;
+
+    // 가입 이후에 보낸 전체 알림 중 회원이 대상에 포함되는 알림만 조회
+    @Override
+    public List<FcmBroadcastNotification> findBroadcastNotificationsByMemberPaging(
+            Long memberId, LocalDateTime joinedAt, LocalDateTime cursorDate, int size) {
+        return jpaQueryFactory
+                .selectFrom(fcmBroadcastNotification)
+                .where(goeJoinedAt(joinedAt), loeCursorDate(cursorDate), isAudience(memberId))
+                .orderBy(fcmBroadcastNotification.createdAt.desc())
+                .limit(size)
+                .fetch();
+    }
+
+    // 목록 조회와 같은 조건으로 다음 페이지가 있는지 확인
+    @Override
+    public boolean existsBroadcastNotificationByMemberBefore(
+            Long memberId, LocalDateTime joinedAt, LocalDateTime createdAt) {
+        return jpaQueryFactory
+                        .selectOne()
+                        .from(fcmBroadcastNotification)
+                        .where(
+                                goeJoinedAt(joinedAt),
+                                fcmBroadcastNotification.createdAt.lt(createdAt),
+                                isAudience(memberId))
+                        .fetchFirst()
+                != null;
+    }
+
+    @Override
+    public boolean existsBroadcastNotificationForMember(
+            Long broadcastId, Long memberId, LocalDateTime joinedAt) {
+        return jpaQueryFactory
+                        .selectOne()
+                        .from(fcmBroadcastNotification)
+                        .where(
+                                fcmBroadcastNotification.id.eq(broadcastId),
+                                goeJoinedAt(joinedAt),
+                                isAudience(memberId))
+                        .fetchFirst()
+                != null;
+    }
+
+    // 미완료 미션 알림은 알림을 보낸 시점까지 그날 완료한 기록이 없는 회원만 대상
+    private BooleanExpression isAudience(Long memberId) {
+        return fcmBroadcastNotification
+                .audience
+                .eq(FcmBroadcastAudience.ALL_MEMBERS)
+                .or(
+                        fcmBroadcastNotification
+                                .audience
+                                .eq(FcmBroadcastAudience.INCOMPLETE_MISSION_MEMBERS)
+                                .and(
+                                        JPAExpressions.selectOne()
+                                                .from(missionRecord)
+                                                .where(
+                                                        missionRecord.member.id.eq(memberId),
+                                                        missionRecord.status.eq(
+                                                                MissionRecordStatus.COMPLETED),
+                                                        missionRecord.createdAt.goe(
+                                                                fcmBroadcastNotification
+                                                                        .segmentStartAt),
+                                                        missionRecord.createdAt.lt(
+                                                                fcmBroadcastNotification
+                                                                        .createdAt))
+                                                .notExists()));
+    }
+
+    private BooleanExpression goeJoinedAt(LocalDateTime joinedAt) {
+        return joinedAt != null ? fcmBroadcastNotification.createdAt.goe(joinedAt) : null;
+    }
+
+    private BooleanExpression loeCursorDate(LocalDateTime cursorDate) {
+        return cursorDate != null ? fcmBroadcastNotification.createdAt.loe(cursorDate) : null;
+    }
+}
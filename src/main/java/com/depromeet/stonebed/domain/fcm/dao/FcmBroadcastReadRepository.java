@@ -0,0 +1,23 @@
+package com.depromeet.stonebed.domain.fcm.dao;
+
+import com.depromeet.stonebed.domain.fcm.domain.FcmBroadcastRead;
+import java.util.Collection;
+import java.util.List;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface FcmBroadcastReadRepository extends JpaRepository<FcmBroadcastRead, Long> {
+    @Query(
+            "SELECT r.broadcastId FROM FcmBroadcastRead r"
+                    + " WHERE r.memberId = :memberId AND r.broadcastId IN :broadcastIds")
+    List<Long> findReadBroadcastIds(
+            @Param("memberId") Long memberId,
+            @Param("broadcastIds") Collection<Long> broadcastIds);
+
+    // Delete
+    @Modifying
+    @Query("DELETE FROM FcmBroadcastRead r WHERE r.memberId = :memberId")
+    void deleteAllByMember(@Param("memberId") Long memberId);
+}
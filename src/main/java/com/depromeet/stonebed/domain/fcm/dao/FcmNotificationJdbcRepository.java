@@ -0,0 +1,103 @@
+package com.depromeet.stonebed.domain.fcm.dao;
+
+import com.depromeet.stonebed.domain.fcm.domain.FcmNotification;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+@Repository
+@RequiredArgsConstructor
+public class FcmNotificationJdbcRepository {
+    // 중복 여부는 dedup_key 유니크 키로만 판단
+    private static final String INSERT_WITH_DEDUP_KEY_SQL =
+            "INSERT INTO fcm_notification"
+                    + " (type, title, message, target_id, is_read, member_id, deep_link,"
+                    + " dedup_key, created_at, updated_at)"
+                    + " VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private static final String INSERT_SQL =
+            "INSERT INTO fcm_notification"
+                    + " (type, title, message, target_id, is_read, member_id, deep_link,"
+                    + " created_at, updated_at)"
+                    + " VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private static final String INSERT_BROADCAST_READ_IF_ABSENT_SQL =
+            "INSERT INTO fcm_broadcast_read (member_id, broadcast_id)"
+                    + " SELECT ?, ? FROM DUAL"
+                    + " WHERE NOT EXISTS (SELECT 1 FROM fcm_broadcast_read"
+                    + " WHERE member_id = ? AND broadcast_id = ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    // 영속성 컨텍스트를 거치지 않고 한 번의 배치로 저장
+    public void saveAll(List<FcmNotification> notifications) {
+        if (notifications.isEmpty()) {
+            return;
+        }
+
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        jdbcTemplate.batchUpdate(
+                INSERT_SQL,
+                notifications,
+                notifications.size(),
+                (ps, notification) -> {
+                    ps.setString(1, notification.getType().name());
+                    ps.setString(2, notification.getTitle());
+                    ps.setString(3, notification.getMessage());
+                    ps.setObject(4, notification.getTargetId());
+                    ps.setBoolean(5, notification.getIsRead());
+                    ps.setLong(6, notification.getMember().getId());
+                    ps.setString(7, notification.getDeepLink());
+                    ps.setTimestamp(8, now);
+                    ps.setTimestamp(9, now);
+                });
+    }
+
+    /**
+     * 중복 방지 키가 같은 알림이 없을 때만 저장합니다.
+     *
+     * <p>별도 조회 없이 dedup_key 유니크 키 위반으로 중복을 판단하므로, 동시에 저장하는 경우에도 한 건만 저장됩니다. JPA 영속성 컨텍스트를
+     * 거치지 않으므로 중복으로 실패해도 진행 중인 트랜잭션은 유지됩니다.
+     *
+     * @return 새로 저장했으면 true
+     */
+    public boolean saveIfAbsent(FcmNotification notification) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        try {
+            int inserted =
+                    jdbcTemplate.update(
+                            INSERT_WITH_DEDUP_KEY_SQL,
+                            notification.getType().name(),
+                            notification.getTitle(),
+                            notification.getMessage(),
+                            notification.getTargetId(),
+                            notification.getIsRead(),
+                            notification.getMember().getId(),
+                            notification.getDeepLink(),
+                            notification.getDedupKey(),
+                            now,
+                            now);
+            return inserted > 0;
+        } catch (DuplicateKeyException e) {
+            return false;
+        }
+    }
+
+    // 이미 읽은 알림을 다시 읽음 처리해도 실패하지 않음
+    public void saveBroadcastReadIfAbsent(Long memberId, Long broadcastId) {
+        try {
+            jdbcTemplate.update(
+                    INSERT_BROADCAST_READ_IF_ABSENT_SQL,
+                    memberId,
+                    broadcastId,
+                    memberId,
+                    broadcastId);
+        } catch (DuplicateKeyException e) {
+            // 동시에 읽음 처리한 경우
+        }
+    }
+}
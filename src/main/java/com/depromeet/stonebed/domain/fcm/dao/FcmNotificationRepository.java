@@ -1,9 +1,7 @@
 package com.depromeet.stonebed.domain.fcm.dao;
 
 import com.depromeet.stonebed.domain.fcm.domain.FcmNotification;
-import com.depromeet.stonebed.domain.fcm.domain.FcmNotificationType;
 import com.depromeet.stonebed.domain.member.domain.Member;
-import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 import org.springframework.data.domain.Pageable;
@@ -18,10 +16,6 @@ public interface FcmNotificationRepository
 
     Optional<FcmNotification> findByIdAndMember(Long id, Member member);
 
-    boolean existsByCreatedAtLessThan(LocalDateTime createdAt);
-
-    boolean existsByTargetIdAndTypeAndTitle(Long targetId, FcmNotificationType type, String title);
-
     // Delete
     @Modifying
     @Query("DELETE FROM FcmNotification fn WHERE fn.member.id = :memberId")
@@ -8,4 +8,7 @@ import org.springframework.data.domain.Pageable;
 public interface FcmNotificationRepositoryCustom {
     List<FcmNotification> findMissionRecordNotificationByMemberPaging(
             Long memberId, LocalDateTime cursorDate, Pageable pageable);
+
+    boolean existsMissionRecordNotificationByMemberBefore(
+            Long memberId, LocalDateTime createdAt);
 }
@@ -26,18 +26,36 @@ public class FcmNotificationRepositoryImpl implements FcmNotificationRepositoryC
                 .on(fcmNotification.member.id.eq(memberId))
                 .leftJoin(missionRecord)
                 .on(fcmNotification.targetId.eq(missionRecord.id))
-                .where(
-                        loeCursorDate(cursorDate),
-                        missionRecord
-                                .display
-                                .eq(MissionRecordDisplay.PUBLIC)
-                                .or(fcmNotification.targetId.isNull()))
+                .where(loeCursorDate(cursorDate), isVisible())
                 .orderBy(fcmNotification.createdAt.desc())
                 .limit(pageable.getPageSize())
                 .offset(pageable.getOffset())
                 .fetch();
     }
 
+    // 목록 조회와 같은 조건으로 다음 페이지가 있는지 확인
+    @Override
+    public boolean existsMissionRecordNotificationByMemberBefore(
+            Long memberId, LocalDateTime createdAt) {
+        return jpaQueryFactory
+                        .selectOne()
+                        .from(fcmNotification)
+                        .innerJoin(fcmNotification.member)
+                        .on(fcmNotification.member.id.eq(memberId))
+                        .leftJoin(missionRecord)
+                        .on(fcmNotification.targetId.eq(missionRecord.id))
+                        .where(fcmNotification.createdAt.lt(createdAt), isVisible())
+                        .fetchFirst()
+                != null;
+    }
+
+    private BooleanExpression isVisible() {
+        return missionRecord
+                .display
+                .eq(MissionRecordDisplay.PUBLIC)
+                .or(fcmNotification.targetId.isNull());
+    }
+
     private BooleanExpression loeCursorDate(LocalDateTime cursorDate) {
         return cursorDate != null ? fcmNotification.createdAt.loe(cursorDate) : null;
     }
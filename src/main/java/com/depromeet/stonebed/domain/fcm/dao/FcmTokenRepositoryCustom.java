@@ -1,7 +1,16 @@
 package com.depromeet.stonebed.domain.fcm.dao;
 
+import com.depromeet.stonebed.domain.fcm.dto.FcmRecipientDto;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 
 public interface FcmTokenRepositoryCustom {
-    List<String> findAllValidTokens();
+    List<FcmRecipientDto> findValidRecipientsAfter(Long cursorId, int size);
+
+    List<FcmRecipientDto> findIncompleteMissionRecipientsAfter(
+            Long cursorId, LocalDateTime startAt, LocalDateTime endAt, int size);
+
+    Map<Long, String> findValidTokensByMemberIds(Collection<Long> memberIds);
 }
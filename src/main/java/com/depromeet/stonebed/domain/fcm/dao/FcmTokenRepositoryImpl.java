@@ -2,11 +2,22 @@ package com.depromeet.stonebed.domain.fcm.dao;
 
 import static com.depromeet.stonebed.domain.fcm.domain.QFcmToken.*;
 import static com.depromeet.stonebed.domain.member.domain.QMember.*;
+import static com.depromeet.stonebed.domain.missionRecord.domain.QMissionRecord.*;
 
+import com.depromeet.stonebed.domain.fcm.dto.FcmRecipientDto;
 import com.depromeet.stonebed.domain.member.domain.MemberStatus;
+import com.depromeet.stonebed.domain.missionRecord.domain.MissionRecordStatus;
+import com.querydsl.core.Tuple;
+import com.querydsl.core.types.Projections;
 import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.jpa.JPAExpressions;
+import com.querydsl.jpa.impl.JPAQuery;
 import com.querydsl.jpa.impl.JPAQueryFactory;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 
 @RequiredArgsConstructor
@@ -14,14 +25,69 @@ public class FcmTokenRepositoryImpl implements FcmTokenRepositoryCustom {
 
     private final JPAQueryFactory jpaQueryFactory;
 
+    // 토큰 ID 순으로 커서 다음부터 조회
     @Override
-    public List<String> findAllValidTokens() {
+    public List<FcmRecipientDto> findValidRecipientsAfter(Long cursorId, int size) {
+        return getRecipientsAfterQuery(cursorId).limit(size).fetch();
+    }
+
+    // 기간 안에 완료한 미션 기록이 있는 회원은 NOT EXISTS로 DB에서 제외
+    @Override
+    public List<FcmRecipientDto> findIncompleteMissionRecipientsAfter(
+            Long cursorId, LocalDateTime startAt, LocalDateTime endAt, int size) {
+        return getRecipientsAfterQuery(cursorId)
+                .where(
+                        JPAExpressions.selectOne()
+                                .from(missionRecord)
+                                .where(
+                                        missionRecord.member.id.eq(member.id),
+                                        missionRecord.status.eq(MissionRecordStatus.COMPLETED),
+                                        missionRecord.createdAt.goe(startAt),
+                                        missionRecord.createdAt.lt(endAt))
+                                .notExists())
+                .limit(size)
+                .fetch();
+    }
+
+    private JPAQuery<FcmRecipientDto> getRecipientsAfterQuery(Long cursorId) {
         return jpaQueryFactory
-                .select(fcmToken.token)
+                .select(
+                        Projections.constructor(
+                                FcmRecipientDto.class, fcmToken.id, member.id, fcmToken.token))
                 .from(fcmToken)
                 .join(fcmToken.member, member)
-                .where(isMemberStatusNormal(), isTokenNotNull())
-                .fetch();
+                .where(
+                        fcmToken.id.gt(cursorId),
+                        isMemberStatusNormal(),
+                        isTokenNotNull(),
+                        fcmToken.token.isNotEmpty())
+                .orderBy(fcmToken.id.asc());
+    }
+
+    // 회원 ID별 토큰을 한 번의 IN 쿼리로 조회
+    @Override
+    public Map<Long, String> findValidTokensByMemberIds(Collection<Long> memberIds) {
+        if (memberIds.isEmpty()) {
+            return Map.of();
+        }
+
+        List<Tuple> tokens =
+                jpaQueryFactory
+                        .select(member.id, fcmToken.token)
+                        .from(fcmToken)
+                        .join(fcmToken.member, member)
+                        .where(
+                                member.id.in(memberIds),
+                                isMemberStatusNormal(),
+                                isTokenNotNull(),
+                                fcmToken.token.isNotEmpty())
+                        .fetch();
+        return tokens.stream()
+                .collect(
+                        Collectors.toMap(
+                                tuple -> tuple.get(member.id),
+                                tuple -> tuple.get(fcmToken.token),
+                                (first, second) -> first));
     }
 
     private BooleanExpression isMemberStatusNormal() {
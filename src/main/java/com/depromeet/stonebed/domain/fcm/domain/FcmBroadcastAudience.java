@@ -0,0 +1,7 @@
+package com.depromeet.stonebed.domain.fcm.domain;
+
+public enum FcmBroadcastAudience {
+    ALL_MEMBERS,
+    // 알림 날짜에 완료한 미션 기록이 없는 회원
+    INCOMPLETE_MISSION_MEMBERS
+}
@@ -0,0 +1,54 @@
+package com.depromeet.stonebed.domain.fcm.domain;
+
+import com.depromeet.stonebed.domain.common.BaseTimeEntity;
+import com.depromeet.stonebed.global.common.constants.FcmNotificationConstants;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import java.time.LocalDate;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/** 전체 사용자에게 보내는 알림을 어느 토큰까지 보냈는지 기록합니다. 중단된 알림은 기록된 다음 토큰부터 이어서 보냅니다. */
+@Getter
+@Entity
+@Table(name = "fcm_broadcast_checkpoint")
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class FcmBroadcastCheckpoint extends BaseTimeEntity {
+    @Id
+    @Column(name = "broadcast_key", length = 100)
+    private String broadcastKey;
+
+    // 마지막으로 보낸 토큰 ID
+    @Column(nullable = false)
+    private Long lastFcmTokenId;
+
+    @Column(nullable = false)
+    private boolean completed;
+
+    @Builder(access = AccessLevel.PRIVATE)
+    private FcmBroadcastCheckpoint(String broadcastKey) {
+        this.broadcastKey = broadcastKey;
+        this.lastFcmTokenId = 0L;
+        this.completed = false;
+    }
+
+    public static FcmBroadcastCheckpoint createFcmBroadcastCheckpoint(String broadcastKey) {
+        return FcmBroadcastCheckpoint.builder().broadcastKey(broadcastKey).build();
+    }
+
+    public static String dailyKey(FcmNotificationConstants notification, LocalDate date) {
+        return notification.name() + ":" + date;
+    }
+
+    public void advance(Long lastFcmTokenId) {
+        this.lastFcmTokenId = lastFcmTokenId;
+    }
+
+    public void complete() {
+        this.completed = true;
+    }
+}
@@ -0,0 +1,91 @@
+package com.depromeet.stonebed.domain.fcm.domain;
+
+import com.depromeet.stonebed.domain.common.BaseTimeEntity;
+import jakarta.persistence.*;
+import java.time.LocalDateTime;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 전체 알림을 회원마다 저장하지 않고 한 번만 저장합니다.
+ *
+ * <p>알림함을 조회할 때 대상 조건에 맞는 회원에게만 보여주고, 읽음 여부는 {@link FcmBroadcastRead}로 관리합니다.
+ */
+@Getter
+@Entity
+@Table(
+        name = "fcm_broadcast_notification",
+        uniqueConstraints = {
+            @UniqueConstraint(
+                    name = "fcm_broadcast_notification_key_uk",
+                    columnNames = {"broadcast_key"})
+        },
+        indexes = {@Index(name = "idx_fcm_broadcast_created", columnList = "created_at")})
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class FcmBroadcastNotification extends BaseTimeEntity {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "broadcast_id")
+    private Long id;
+
+    @Column(name = "broadcast_key", nullable = false, length = 100)
+    private String broadcastKey;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private FcmNotificationType type;
+
+    @Column(nullable = false)
+    private String title;
+
+    @Column(nullable = false)
+    private String message;
+
+    private String deepLink;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private FcmBroadcastAudience audience;
+
+    // 미션 완료 여부를 판단하는 기간의 시작 시각, 끝은 알림 생성 시각
+    @Column(nullable = false)
+    private LocalDateTime segmentStartAt;
+
+    @Builder(access = AccessLevel.PRIVATE)
+    private FcmBroadcastNotification(
+            String broadcastKey,
+            FcmNotificationType type,
+            String title,
+            String message,
+            String deepLink,
+            FcmBroadcastAudience audience,
+            LocalDateTime segmentStartAt) {
+        this.broadcastKey = broadcastKey;
+        this.type = type;
+        this.title = title;
+        this.message = message;
+        this.deepLink = deepLink;
+        this.audience = audience;
+        this.segmentStartAt = segmentStartAt;
+    }
+
+    public static FcmBroadcastNotification createFcmBroadcastNotification(
+            String broadcastKey,
+            FcmNotificationType type,
+            String title,
+            String message,
+            FcmBroadcastAudience audience,
+            LocalDateTime segmentStartAt) {
+        return FcmBroadcastNotification.builder()
+                .broadcastKey(broadcastKey)
+                .type(type)
+                .title(title)
+                .message(message)
+                .deepLink(FcmNotification.generateDeepLink(type, null, null))
+                .audience(audience)
+                .segmentStartAt(segmentStartAt)
+                .build();
+    }
+}
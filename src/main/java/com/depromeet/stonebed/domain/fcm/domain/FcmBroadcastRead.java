@@ -0,0 +1,29 @@
+package com.depromeet.stonebed.domain.fcm.domain;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/** 회원이 읽은 전체 알림입니다. 읽은 경우에만 저장합니다. */
+@Getter
+@Entity
+@Table(
+        name = "fcm_broadcast_read",
+        uniqueConstraints = {
+            @UniqueConstraint(
+                    name = "fcm_broadcast_read_uk",
+                    columnNames = {"member_id", "broadcast_id"})
+        })
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class FcmBroadcastRead {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "member_id", nullable = false)
+    private Long memberId;
+
+    @Column(name = "broadcast_id", nullable = false)
+    private Long broadcastId;
+}
@@ -10,7 +10,13 @@ import lombok.NoArgsConstructor;
 
 @Getter
 @Entity
-@Table(name = "fcm_notification")
+@Table(
+        name = "fcm_notification",
+        uniqueConstraints = {
+            @UniqueConstraint(
+                    name = "fcm_notification_dedup_uk",
+                    columnNames = {"dedup_key"})
+        })
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class FcmNotification extends BaseTimeEntity {
     @Id
@@ -39,6 +45,9 @@ public class FcmNotification extends BaseTimeEntity {
     @Schema(description = "딥링크 URL", example = "myapp://notification/1")
     private String deepLink;
 
+    // 한 번만 보내야 하는 알림의 중복 방지 키
+    private String dedupKey;
+
     private static final String DEEP_LINK_PREFIX = "myapp://";
 
     private FcmNotification(
@@ -69,6 +78,22 @@ public class FcmNotification extends BaseTimeEntity {
         return new FcmNotification(type, title, message, member, targetId, isRead, deepLink);
     }
 
+    public static FcmNotification createBoostNotification(
+            String title, String message, Member member, Long missionRecordId, long milestone) {
+        FcmNotification notification =
+                new FcmNotification(
+                        FcmNotificationType.BOOSTER,
+                        title,
+                        message,
+                        member,
+                        missionRecordId,
+                        false,
+                        generateDeepLink(FcmNotificationType.BOOSTER, missionRecordId, milestone));
+        notification.dedupKey =
+                FcmNotificationType.BOOSTER.name() + ":" + missionRecordId + ":" + milestone;
+        return notification;
+    }
+
     public void markAsRead() {
         this.isRead = true;
     }
@@ -0,0 +1,4 @@
+package com.depromeet.stonebed.domain.fcm.dto;
+
+/** 알림을 받을 회원과 토큰입니다. 토큰 ID는 전체 알림을 나누어 보낼 때 커서로 사용합니다. */
+public record FcmRecipientDto(Long fcmTokenId, Long memberId, String token) {}
@@ -1,5 +1,6 @@
 package com.depromeet.stonebed.domain.fcm.dto.response;
 
+import com.depromeet.stonebed.domain.fcm.domain.FcmBroadcastNotification;
 import com.depromeet.stonebed.domain.fcm.domain.FcmNotification;
 import com.depromeet.stonebed.domain.fcm.domain.FcmNotificationType;
 import com.depromeet.stonebed.domain.missionRecord.domain.MissionRecord;
@@ -17,7 +18,9 @@ public record FcmNotificationDto(
         @Schema(description = "타겟 ID", example = "1") Long targetId,
         @Schema(description = "알림 딥링크 URL", example = "myapp://notification/1") String deepLink,
         @Schema(description = "알림 전송 시간", example = "2024-08-17 13:31:19")
-                LocalDateTime createdAt) {
+                LocalDateTime createdAt,
+        @Schema(description = "전체 알림 여부, 읽음 처리 API가 다릅니다.", example = "false")
+                Boolean isBroadcast) {
 
     public static FcmNotificationDto from(
             FcmNotification notification, MissionRecord missionRecord) {
@@ -32,6 +35,21 @@ public record FcmNotificationDto(
                 notification.getIsRead(),
                 notification.getTargetId(),
                 notification.getDeepLink(),
-                notification.getCreatedAt());
+                notification.getCreatedAt(),
+                false);
+    }
+
+    public static FcmNotificationDto from(FcmBroadcastNotification broadcast, boolean isRead) {
+        return new FcmNotificationDto(
+                broadcast.getId(),
+                broadcast.getType(),
+                broadcast.getTitle(),
+                broadcast.getMessage(),
+                null,
+                isRead,
+                null,
+                broadcast.getDeepLink(),
+                broadcast.getCreatedAt(),
+                true);
     }
 }
@@ -1,15 +1,25 @@
 package com.depromeet.stonebed.domain.feed.api;
 
 import com.depromeet.stonebed.domain.feed.application.FeedService;
+import com.depromeet.stonebed.domain.feed.dto.FeedKeyPage;
+import com.depromeet.stonebed.domain.feed.dto.request.FeedBatchGetRequest;
+import com.depromeet.stonebed.domain.feed.dto.request.FeedFollowingGetRequest;
 import com.depromeet.stonebed.domain.feed.dto.request.FeedGetRequest;
+import com.depromeet.stonebed.domain.feed.dto.request.FeedPopularGetRequest;
 import com.depromeet.stonebed.domain.feed.dto.response.v1.FeedContentGetResponse;
 import com.depromeet.stonebed.domain.feed.dto.response.v1.FeedGetResponse;
+import com.depromeet.stonebed.domain.feed.dto.response.v2.FeedBatchGetResponse;
 import com.depromeet.stonebed.domain.feed.dto.response.v2.FeedGetResponseV2;
+import com.depromeet.stonebed.global.util.ETagUtil;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
+import java.util.List;
+import java.util.Optional;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 @Tag(name = "7. [피드]", description = "피드 관련 API입니다.")
 @RestController
@@ -17,6 +27,7 @@ import org.springframework.web.bind.annotation.*;
 @RequiredArgsConstructor
 public class FeedController {
     private final FeedService feedService;
+    private final ETagUtil eTagUtil;
 
     @Operation(summary = "피드 조회", description = "내 피드를 조회하는 API입니다.")
     @GetMapping
@@ -26,13 +37,42 @@ public class FeedController {
 
     @Operation(summary = "피드 조회", description = "내 피드를 조회하는 API입니다.")
     @GetMapping("/v2")
-    public FeedGetResponseV2 feedFindV2(@Valid FeedGetRequest request) {
-        return feedService.findFeedV2(request);
+    public ResponseEntity<FeedGetResponseV2> feedFindV2(
+            @Valid FeedGetRequest request, WebRequest webRequest) {
+        FeedKeyPage feedKeyPage = feedService.findFeedKeyPage(request);
+        Optional<List<Object>> versionValues = feedService.findFeedVersionValues(feedKeyPage);
+        // If-None-Match가 일치하면 항목을 조회하지 않고 304 응답
+        if (eTagUtil.checkNotModified(versionValues, webRequest)) {
+            return null;
+        }
+        return ResponseEntity.ok(feedService.findFeedV2(feedKeyPage));
+    }
+
+    @Operation(summary = "팔로잉 피드 조회", description = "내가 팔로우한 회원들의 피드를 조회하는 API입니다.")
+    @GetMapping("/following")
+    public FeedGetResponseV2 followingFeedFind(@Valid FeedFollowingGetRequest request) {
+        return feedService.findFollowingFeed(request);
+    }
+
+    @Operation(summary = "인기 피드 조회", description = "부스트와 댓글이 많은 최근 기록 순으로 피드를 조회하는 API입니다.")
+    @GetMapping("/popular")
+    public FeedGetResponseV2 popularFeedFind(@Valid FeedPopularGetRequest request) {
+        return feedService.findPopularFeed(request);
+    }
+
+    @Operation(summary = "피드 일괄 조회", description = "여러 기록의 피드를 요청한 순서대로 한 번에 조회하는 API입니다.")
+    @GetMapping("/batch")
+    public FeedBatchGetResponse feedFindBatch(@Valid FeedBatchGetRequest request) {
+        return feedService.findFeedBatch(request);
     }
 
     @Operation(summary = "단일 피드 조회", description = "단일 피드를 조회하는 API입니다.")
     @GetMapping("/{recordId}")
-    public FeedContentGetResponse feedFindOne(@PathVariable Long recordId) {
-        return feedService.findFeedOne(recordId);
+    public ResponseEntity<FeedContentGetResponse> feedFindOne(
+            @PathVariable Long recordId, WebRequest webRequest) {
+        if (eTagUtil.checkNotModified(feedService.findFeedOneVersionValues(recordId), webRequest)) {
+            return null;
+        }
+        return ResponseEntity.ok(feedService.findFeedOne(recordId));
     }
 }
@@ -0,0 +1,111 @@
+package com.depromeet.stonebed.domain.feed.application;
+
+import static com.depromeet.stonebed.global.common.constants.FeedConstants.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Service;
+
+/**
+ * 피드 항목과 기록별 댓글의 버전 토큰을 관리합니다.
+ *
+ * <p>조회 응답을 만들기 전에 ETag를 계산할 수 있도록, 캐시를 갱신하거나 삭제할 때마다 새 토큰을 저장합니다. 토큰이 없으면 조회할 때 새로 만들어
+ * 저장하므로 만료된 뒤에도 이전 토큰이 다시 쓰이지 않고, 갱신에 실패하더라도 TTL이 지나면 새 토큰으로 바뀝니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ContentVersionService {
+    private static final String WRITTEN_VERSION = "";
+
+    // KEYS: 버전 키 n개, 변경 표시 키 n개 / ARGV: 새 토큰, TTL
+    // 변경 표시가 남아 있으면 레플리카에서 이전 데이터를 읽을 수 있으므로 빈 값을 반환
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> GET_OR_INIT_SCRIPT =
+            new DefaultRedisScript<>(
+                    """
+                    local size = #KEYS / 2
+                    local versions = {}
+                    for i = 1, size do
+                        local version = redis.call('GET', KEYS[i])
+                        if redis.call('EXISTS', KEYS[size + i]) == 1 then
+                            version = ''
+                        elseif not version then
+                            version = ARGV[1] .. ':' .. i
+                            redis.call('SET', KEYS[i], version, 'EX', ARGV[2])
+                        end
+                        versions[i] = version
+                    end
+                    return versions
+                    """,
+                    List.class);
+
+    private final StringRedisTemplate redisTemplate;
+
+    /**
+     * 요청한 키 순서대로 버전 토큰을 반환합니다.
+     *
+     * @param writtenKeys 버전 키와 같은 순서의 변경 표시 키
+     * @return 변경 표시가 남아 있는 키가 있거나 Redis 장애 시에는 빈 값
+     */
+    @SuppressWarnings("unchecked")
+    public Optional<List<String>> findVersions(
+            List<String> versionKeys, List<String> writtenKeys) {
+        if (versionKeys.isEmpty()) {
+            return Optional.of(List.of());
+        }
+
+        List<String> keys = new ArrayList<>(versionKeys);
+        keys.addAll(writtenKeys);
+        try {
+            List<String> versions =
+                    redisTemplate.execute(
+                            GET_OR_INIT_SCRIPT,
+                            keys,
+                            UUID.randomUUID().toString(),
+                            String.valueOf(CONTENT_VERSION_TTL.toSeconds()));
+            if (versions == null || versions.contains(WRITTEN_VERSION)) {
+                return Optional.empty();
+            }
+            return Optional.of(versions);
+        } catch (DataAccessException e) {
+            log.warn("버전 토큰 조회 실패 - keys: {}", versionKeys, e);
+            return Optional.empty();
+        }
+    }
+
+    public void renewAll(List<String> versionKeys) {
+        if (versionKeys.isEmpty()) {
+            return;
+        }
+
+        String version = UUID.randomUUID().toString();
+        try {
+            redisTemplate.executePipelined(
+                    (RedisCallback<Object>)
+                            connection -> {
+                                StringRedisConnection stringConnection =
+                                        (StringRedisConnection) connection;
+                                versionKeys.forEach(
+                                        key ->
+                                                stringConnection.setEx(
+                                                        key,
+                                                        CONTENT_VERSION_TTL.toSeconds(),
+                                                        version));
+                                return null;
+                            });
+        } catch (DataAccessException e) {
+            log.warn("버전 토큰 갱신 실패 - keys: {}", versionKeys, e);
+        }
+    }
+}
@@ -0,0 +1,43 @@
+package com.depromeet.stonebed.domain.feed.application;
+
+import com.depromeet.stonebed.domain.feed.event.FeedChangeType;
+import com.depromeet.stonebed.domain.feed.event.FeedContentChangedEvent;
+import com.depromeet.stonebed.domain.missionRecord.application.BoostLeaderboardService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/** 피드 변경 이벤트를 받아 커밋 이후에 항목 캐시와 페이지 캐시를 무효화합니다. */
+@Component
+@RequiredArgsConstructor
+public class FeedCacheEventListener {
+    private final FeedItemCacheService feedItemCacheService;
+    private final FeedPageCacheService feedPageCacheService;
+    private final FeedPopularityService feedPopularityService;
+    private final BoostLeaderboardService boostLeaderboardService;
+
+    // 커밋 전에 무효화하면 다른 요청이 이전 데이터로 캐시를 다시 채울 수 있음
+    @TransactionalEventListener(fallbackExecution = true)
+    public void handleFeedContentChanged(FeedContentChangedEvent event) {
+        if (event.recordIds() != null) {
+            feedItemCacheService.evictAll(event.recordIds());
+        } else {
+            feedItemCacheService.evictAllByMemberId(event.memberId());
+        }
+
+        if (event.changeType().isPageAffected()) {
+            feedPageCacheService.invalidate(event.memberId());
+        }
+
+        if (isRemovedFromFeed(event)) {
+            feedPopularityService.removeAll(event.recordIds());
+            boostLeaderboardService.removeAll(event.recordIds());
+        }
+    }
+
+    private boolean isRemovedFromFeed(FeedContentChangedEvent event) {
+        return event.recordIds() != null
+                && (event.changeType() == FeedChangeType.DELETED
+                        || event.changeType() == FeedChangeType.AUTHOR_WITHDRAWN);
+    }
+}
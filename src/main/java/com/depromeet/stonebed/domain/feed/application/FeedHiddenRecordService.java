@@ -0,0 +1,108 @@
+package com.depromeet.stonebed.domain.feed.application;
+
+import static com.depromeet.stonebed.global.common.constants.FeedConstants.*;
+
+import com.depromeet.stonebed.domain.report.dao.ReportRepository;
+import com.depromeet.stonebed.domain.report.domain.ReportDomain;
+import com.depromeet.stonebed.global.common.constants.RedisKeyConstants;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Service;
+
+/**
+ * 회원이 신고한 기록 ID를 회원별 Redis SET으로 관리해 피드에서 제외합니다.
+ *
+ * <p>피드 쿼리에 신고 테이블 조건을 붙이지 않고, 조회한 정렬 키를 이 집합으로 걸러냅니다. 집합이 없으면 신고 테이블에서 한 번 만들고, 신고한 기록이
+ * 없는 회원도 빈 집합과 구분할 수 있도록 표시용 값을 함께 저장합니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class FeedHiddenRecordService {
+    private static final String LOADED_MARKER = "0";
+
+    // 집합이 없으면 다음 조회 때 신고 테이블에서 다시 만들기 때문에, 이미 있는 집합에만 추가
+    private static final RedisScript<Long> ADD_IF_LOADED_SCRIPT =
+            new DefaultRedisScript<>(
+                    """
+                    if redis.call('EXISTS', KEYS[1]) == 1 then
+                        return redis.call('SADD', KEYS[1], ARGV[1])
+                    end
+                    return 0
+                    """,
+                    Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+    private final ReportRepository reportRepository;
+
+    public Set<Long> findHiddenRecordIds(Long memberId) {
+        String key = RedisKeyConstants.feedHiddenKey(memberId);
+        try {
+            Set<String> members = redisTemplate.opsForSet().members(key);
+            if (members != null && !members.isEmpty()) {
+                return members.stream()
+                        .filter(member -> !LOADED_MARKER.equals(member))
+                        .map(Long::valueOf)
+                        .collect(Collectors.toSet());
+            }
+        } catch (DataAccessException e) {
+            log.warn("숨김 기록 조회 실패 - memberId: {}", memberId, e);
+            return loadHiddenRecordIds(memberId);
+        }
+
+        Set<Long> hiddenRecordIds = loadHiddenRecordIds(memberId);
+        cacheHiddenRecordIds(key, hiddenRecordIds);
+        return hiddenRecordIds;
+    }
+
+    public void hide(Long memberId, Long recordId) {
+        try {
+            redisTemplate.execute(
+                    ADD_IF_LOADED_SCRIPT,
+                    List.of(RedisKeyConstants.feedHiddenKey(memberId)),
+                    String.valueOf(recordId));
+        } catch (DataAccessException e) {
+            log.warn("숨김 기록 추가 실패 - memberId: {}, recordId: {}", memberId, recordId, e);
+        }
+    }
+
+    // 한 페이지에 숨김 기록이 섞여도 페이지가 채워지도록 추가로 조회할 개수
+    public int getOverfetchSize(Set<Long> hiddenRecordIds) {
+        return Math.min(hiddenRecordIds.size(), FEED_HIDDEN_MAX_OVERFETCH);
+    }
+
+    private Set<Long> loadHiddenRecordIds(Long memberId) {
+        return new HashSet<>(
+                reportRepository.findTargetIdsByReporterIdAndReportDomain(
+                        memberId, ReportDomain.MISSION_RECORD));
+    }
+
+    private void cacheHiddenRecordIds(String key, Set<Long> hiddenRecordIds) {
+        try {
+            redisTemplate.executePipelined(
+                    (RedisCallback<Object>)
+                            connection -> {
+                                StringRedisConnection stringConnection =
+                                        (StringRedisConnection) connection;
+                                stringConnection.sAdd(key, LOADED_MARKER);
+                                for (Long recordId : hiddenRecordIds) {
+                                    stringConnection.sAdd(key, String.valueOf(recordId));
+                                }
+                                stringConnection.expire(key, FEED_HIDDEN_TTL.toSeconds());
+                                return null;
+                            });
+        } catch (DataAccessException e) {
+            log.warn("숨김 기록 캐시 저장 실패 - key: {}", key, e);
+        }
+    }
+}
@@ -0,0 +1,33 @@
+package com.depromeet.stonebed.domain.feed.application;
+
+import com.depromeet.stonebed.domain.feed.dto.FeedKey;
+import com.depromeet.stonebed.domain.feed.event.FeedRecordBoostedEvent;
+import com.depromeet.stonebed.domain.feed.event.FeedRecordCompletedEvent;
+import com.depromeet.stonebed.domain.missionRecord.application.BoostLeaderboardService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/** 미션 기록 완료, 부스트 이벤트를 받아 커밋 이후에 팔로워 타임라인과 인기 피드, 부스트 랭킹에 반영합니다. */
+@Component
+@RequiredArgsConstructor
+public class FeedIndexEventListener {
+    private final FeedTimelineService feedTimelineService;
+    private final FeedPopularityService feedPopularityService;
+    private final BoostLeaderboardService boostLeaderboardService;
+
+    // 커밋 전에 반영하면 롤백된 기록이 타임라인과 인기 피드에 남을 수 있음
+    @TransactionalEventListener(fallbackExecution = true)
+    public void handleRecordCompleted(FeedRecordCompletedEvent event) {
+        feedTimelineService.fanOut(
+                event.memberId(), FeedKey.of(event.recordId(), event.updatedAt()));
+        feedPopularityService.addCompletedRecord(event.recordId());
+    }
+
+    // 부스트가 DB에 반영되기 전에 점수를 올리면 반영에 실패한 부스트도 순위에 남음
+    @TransactionalEventListener(fallbackExecution = true)
+    public void handleRecordBoosted(FeedRecordBoostedEvent event) {
+        feedPopularityService.increaseBoostScore(event.recordId(), event.boostCount());
+        boostLeaderboardService.increaseBoostCount(event.recordId(), event.boostCount());
+    }
+}
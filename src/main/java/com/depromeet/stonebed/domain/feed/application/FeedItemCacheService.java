@@ -0,0 +1,188 @@
+package com.depromeet.stonebed.domain.feed.application;
+
+import static com.depromeet.stonebed.global.common.constants.FeedConstants.*;
+
+import com.depromeet.stonebed.domain.feed.dao.FeedRepository;
+import com.depromeet.stonebed.domain.feed.dto.FindFeedDto;
+import com.depromeet.stonebed.global.common.constants.RedisKeyConstants;
+import com.depromeet.stonebed.infra.properties.ReplicaLagGuardProperties;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Service;
+
+/**
+ * 피드 항목(표시용 필드)을 기록 ID 단위로 캐싱합니다.
+ *
+ * <p>피드 조회는 정렬 키만 DB에서 조회한 뒤, 항목은 이 캐시에서 한 번에 가져오고 없는 항목만 DB에서 채웁니다. Redis 장애 시에는 DB
+ * 조회로 대체합니다.
+ *
+ * <p>캐시 미스는 호출한 조회 트랜잭션(레플리카일 수 있음)에서 채웁니다. 커밋 이후 항목을 삭제할 때 허용 복제 지연 동안 유지되는 변경 표시를 남기고,
+ * 표시가 있는 항목은 캐싱하지 않아 레플리카의 변경 전 데이터가 TTL 동안 남지 않도록 합니다.
+ *
+ * <p>항목을 삭제할 때마다 항목의 버전 토큰도 새로 저장해, 조회 응답을 만들기 전에 ETag를 계산할 수 있도록 합니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class FeedItemCacheService {
+    // KEYS: 항목 키 n개, 변경 표시 키 n개 / ARGV: TTL, 항목 n개
+    private static final RedisScript<Long> FILL_SCRIPT =
+            new DefaultRedisScript<>(
+                    """
+                    local size = #KEYS / 2
+                    local filled = 0
+                    for i = 1, size do
+                        if redis.call('EXISTS', KEYS[size + i]) == 0 then
+                            redis.call('SET', KEYS[i], ARGV[i + 1], 'EX', ARGV[1])
+                            filled = filled + 1
+                        end
+                    end
+                    return filled
+                    """,
+                    Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final FeedRepository feedRepository;
+    private final ReplicaLagGuardProperties replicaLagGuardProperties;
+    private final ContentVersionService contentVersionService;
+
+    // 요청한 ID 순서를 유지하고, 삭제되었거나 공개되지 않은 기록은 제외
+    public List<FindFeedDto> findAllByIds(List<Long> recordIds) {
+        if (recordIds.isEmpty()) {
+            return List.of();
+        }
+
+        Map<Long, FindFeedDto> feedsById = new HashMap<>(getCachedItems(recordIds));
+        List<Long> missedIds =
+                recordIds.stream().filter(id -> !feedsById.containsKey(id)).distinct().toList();
+
+        if (!missedIds.isEmpty()) {
+            List<FindFeedDto> loadedFeeds = feedRepository.findFeedContentsByIds(missedIds);
+            loadedFeeds.forEach(feed -> feedsById.put(feed.missionRecordId(), feed));
+            cacheItems(loadedFeeds);
+        }
+
+        return recordIds.stream().map(feedsById::get).filter(Objects::nonNull).toList();
+    }
+
+    // 요청한 ID 순서대로 항목의 버전 토큰을 반환
+    public Optional<List<String>> findVersions(List<Long> recordIds) {
+        return contentVersionService.findVersions(
+                recordIds.stream().map(RedisKeyConstants::feedItemVersionKey).toList(),
+                recordIds.stream().map(RedisKeyConstants::feedItemWrittenKey).toList());
+    }
+
+    public void evict(Long recordId) {
+        evictAll(List.of(recordId));
+    }
+
+    public void evictAll(Collection<Long> recordIds) {
+        if (recordIds.isEmpty()) {
+            return;
+        }
+
+        long writtenTtlSeconds = replicaLagGuardProperties.staleReadWindow().toSeconds();
+        try {
+            redisTemplate.executePipelined(
+                    (RedisCallback<Object>)
+                            connection -> {
+                                StringRedisConnection stringConnection =
+                                        (StringRedisConnection) connection;
+                                for (Long recordId : recordIds) {
+                                    stringConnection.setEx(
+                                            RedisKeyConstants.feedItemWrittenKey(recordId),
+                                            writtenTtlSeconds,
+                                            String.valueOf(recordId));
+                                    stringConnection.del(RedisKeyConstants.feedItemKey(recordId));
+                                }
+                                return null;
+                            });
+        } catch (DataAccessException e) {
+            log.warn("피드 항목 캐시 삭제 실패 - recordIds: {}", recordIds, e);
+        }
+        contentVersionService.renewAll(
+                recordIds.stream().map(RedisKeyConstants::feedItemVersionKey).toList());
+    }
+
+    public void evictAllByMemberId(Long memberId) {
+        evictAll(feedRepository.findRecordIdsByMemberId(memberId));
+    }
+
+    private Map<Long, FindFeedDto> getCachedItems(List<Long> recordIds) {
+        Map<Long, FindFeedDto> cachedItems = new HashMap<>();
+        try {
+            List<String> keys = recordIds.stream().map(RedisKeyConstants::feedItemKey).toList();
+            List<String> values = redisTemplate.opsForValue().multiGet(keys);
+            if (values == null) {
+                return cachedItems;
+            }
+
+            for (String value : values) {
+                FindFeedDto feed = deserialize(value);
+                if (feed != null) {
+                    cachedItems.put(feed.missionRecordId(), feed);
+                }
+            }
+        } catch (DataAccessException e) {
+            log.warn("피드 항목 캐시 조회 실패", e);
+        }
+        return cachedItems;
+    }
+
+    private void cacheItems(List<FindFeedDto> feeds) {
+        if (feeds.isEmpty()) {
+            return;
+        }
+
+        List<String> keys = new ArrayList<>();
+        feeds.forEach(feed -> keys.add(RedisKeyConstants.feedItemKey(feed.missionRecordId())));
+        feeds.forEach(
+                feed -> keys.add(RedisKeyConstants.feedItemWrittenKey(feed.missionRecordId())));
+        List<String> args = new ArrayList<>();
+        args.add(String.valueOf(FEED_ITEM_TTL.toSeconds()));
+        feeds.forEach(feed -> args.add(serialize(feed)));
+
+        try {
+            redisTemplate.execute(FILL_SCRIPT, keys, args.toArray());
+        } catch (DataAccessException e) {
+            log.warn("피드 항목 캐시 저장 실패", e);
+        }
+    }
+
+    private String serialize(FindFeedDto feed) {
+        try {
+            return objectMapper.writeValueAsString(feed);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private FindFeedDto deserialize(String value) {
+        if (value == null) {
+            return null;
+        }
+
+        try {
+            return objectMapper.readValue(value, FindFeedDto.class);
+        } catch (JsonProcessingException e) {
+            log.warn("피드 항목 캐시 역직렬화 실패", e);
+            return null;
+        }
+    }
+}
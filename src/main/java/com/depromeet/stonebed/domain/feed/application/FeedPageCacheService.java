@@ -0,0 +1,156 @@
+package com.depromeet.stonebed.domain.feed.application;
+
+import static com.depromeet.stonebed.global.common.constants.FeedConstants.*;
+
+import com.depromeet.stonebed.domain.feed.dto.FeedCursor;
+import com.depromeet.stonebed.domain.feed.dto.FeedKey;
+import com.depromeet.stonebed.global.common.constants.RedisKeyConstants;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.List;
+import java.util.function.IntFunction;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Service;
+
+/**
+ * 전체 피드와 회원별 피드의 앞쪽 페이지(정렬 키 목록)를 짧은 TTL로 캐싱합니다.
+ *
+ * <p>캐시 키에 범위별 버전을 포함하고, 무효화 시에는 버전만 올려 이전 페이지들을 한 번에 버립니다. 항목의 표시 필드는 {@link
+ * FeedItemCacheService}에서 따로 관리하므로 부스트, 댓글 수 변경으로는 페이지를 무효화하지 않습니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class FeedPageCacheService {
+    private static final TypeReference<List<FeedKey>> FEED_KEYS_TYPE = new TypeReference<>() {};
+    private static final String FIRST_PAGE = "first";
+    private static final String CACHE_METRIC = "feed.page.cache";
+    private static final String INVALIDATION_METRIC = "feed.page.cache.invalidation";
+
+    private final StringRedisTemplate redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+
+    // 신고한 기록 수에 따라 조회 크기가 달라지므로 최대 크기로 캐싱하고 요청마다 필요한 만큼 잘라서 반환
+    public List<FeedKey> getOrLoad(
+            Long memberId,
+            FeedCursor cursor,
+            int limit,
+            int fetchSize,
+            IntFunction<List<FeedKey>> loader) {
+        if (!isCacheablePage(cursor)) {
+            return loader.apply(fetchSize);
+        }
+
+        int cacheSize = limit + 1 + FEED_HIDDEN_MAX_OVERFETCH;
+        String scope = getScope(memberId);
+        Long version = null;
+        try {
+            long currentVersion = getVersion(scope);
+            // 앞쪽 페이지에서 발급하지 않은 커서로는 캐시 키를 만들지 않음
+            if (cursor == null || isIssuedCursor(scope, currentVersion, cursor)) {
+                version = currentVersion;
+                String cached =
+                        redisTemplate
+                                .opsForValue()
+                                .get(getPageKey(scope, version, cacheSize, cursor));
+                if (cached != null) {
+                    meterRegistry.counter(CACHE_METRIC, "result", "hit").increment();
+                    return trimToSize(objectMapper.readValue(cached, FEED_KEYS_TYPE), fetchSize);
+                }
+            }
+        } catch (DataAccessException | JsonProcessingException e) {
+            log.warn("피드 페이지 캐시 조회 실패 - scope: {}", scope, e);
+        }
+
+        if (version == null) {
+            meterRegistry.counter(CACHE_METRIC, "result", "bypass").increment();
+            return loader.apply(fetchSize);
+        }
+
+        meterRegistry.counter(CACHE_METRIC, "result", "miss").increment();
+        List<FeedKey> feedKeys = loader.apply(cacheSize);
+        cachePage(scope, version, cacheSize, cursor, feedKeys);
+        return trimToSize(feedKeys, fetchSize);
+    }
+
+    public void invalidate(Long memberId) {
+        try {
+            increaseVersion(getScope(null));
+            meterRegistry.counter(INVALIDATION_METRIC, "scope", "global").increment();
+
+            if (memberId != null) {
+                increaseVersion(getScope(memberId));
+                meterRegistry.counter(INVALIDATION_METRIC, "scope", "member").increment();
+            }
+        } catch (DataAccessException e) {
+            log.warn("피드 페이지 캐시 무효화 실패 - memberId: {}", memberId, e);
+        }
+    }
+
+    // 커서가 없으면 첫 페이지, 페이지 번호가 없는 이전 버전 커서는 캐싱하지 않음 (발급 여부는 조회 시 따로 확인)
+    private boolean isCacheablePage(FeedCursor cursor) {
+        if (cursor == null) {
+            return true;
+        }
+        return cursor.pageIndex() != null && cursor.pageIndex() < FEED_PAGE_CACHE_MAX_PAGE;
+    }
+
+    private void increaseVersion(String scope) {
+        redisTemplate.opsForValue().increment(RedisKeyConstants.feedPageVersionKey(scope));
+    }
+
+    private List<FeedKey> trimToSize(List<FeedKey> feedKeys, int size) {
+        return feedKeys.size() > size ? feedKeys.subList(0, size) : feedKeys;
+    }
+
+    private long getVersion(String scope) {
+        String versionKey = RedisKeyConstants.feedPageVersionKey(scope);
+        String version = redisTemplate.opsForValue().get(versionKey);
+        return version == null ? 0L : Long.parseLong(version);
+    }
+
+    private boolean isIssuedCursor(String scope, long version, FeedCursor cursor) {
+        String cursorKey = RedisKeyConstants.feedPageCursorKey(scope, version);
+        return Boolean.TRUE.equals(redisTemplate.opsForSet().isMember(cursorKey, cursor.encode()));
+    }
+
+    private String getPageKey(String scope, long version, int cacheSize, FeedCursor cursor) {
+        return RedisKeyConstants.feedPageKey(
+                scope, version, cacheSize, cursor == null ? FIRST_PAGE : cursor.encode());
+    }
+
+    // 다음 페이지 커서는 항상 이 페이지의 키 중 하나로 만들어지므로 다음 페이지의 발급 커서로 함께 기록
+    private void cachePage(
+            String scope, long version, int cacheSize, FeedCursor cursor, List<FeedKey> feedKeys) {
+        String pageKey = getPageKey(scope, version, cacheSize, cursor);
+        int nextPageIndex = cursor == null ? 1 : cursor.pageIndex() + 1;
+        try {
+            redisTemplate
+                    .opsForValue()
+                    .set(pageKey, objectMapper.writeValueAsString(feedKeys), FEED_PAGE_TTL);
+            if (nextPageIndex < FEED_PAGE_CACHE_MAX_PAGE && !feedKeys.isEmpty()) {
+                String cursorKey = RedisKeyConstants.feedPageCursorKey(scope, version);
+                redisTemplate
+                        .opsForSet()
+                        .add(
+                                cursorKey,
+                                feedKeys.stream()
+                                        .map(key -> FeedCursor.from(key, nextPageIndex).encode())
+                                        .toArray(String[]::new));
+                redisTemplate.expire(cursorKey, FEED_PAGE_TTL);
+            }
+        } catch (DataAccessException | JsonProcessingException e) {
+            log.warn("피드 페이지 캐시 저장 실패 - key: {}", pageKey, e);
+        }
+    }
+
+    private String getScope(Long memberId) {
+        return memberId == null ? FEED_PAGE_GLOBAL_SCOPE : FEED_PAGE_MEMBER_SCOPE_PREFIX + memberId;
+    }
+}
@@ -0,0 +1,133 @@
+package com.depromeet.stonebed.domain.feed.application;
+
+import static com.depromeet.stonebed.global.common.constants.FeedConstants.*;
+
+import com.depromeet.stonebed.domain.feed.dao.FeedRepository;
+import com.depromeet.stonebed.global.common.constants.RedisKeyConstants;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Service;
+
+/**
+ * 인기 피드 점수(Redis ZSET)를 관리합니다.
+ *
+ * <p>점수는 log2(Σ 가중치 × 2^(이벤트 시각 / 반감기)) 입니다. 모든 기록이 같은 속도로 감쇠하므로 저장된 점수를 다시 계산하지 않고도
+ * 현재 시점의 감쇠 점수 순서와 같아지며, 부스트와 댓글이 생길 때마다 해당 기록의 점수만 갱신합니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class FeedPopularityService {
+    // log2(2^현재 점수 + 2^추가 점수)를 오버플로 없이 계산
+    private static final RedisScript<Long> INCREASE_SCRIPT =
+            new DefaultRedisScript<>(
+                    """
+                    local added = tonumber(ARGV[2])
+                    local current = redis.call('ZSCORE', KEYS[1], ARGV[1])
+                    local score = added
+                    if current then
+                        current = tonumber(current)
+                        local high = math.max(current, added)
+                        local low = math.min(current, added)
+                        score = high + math.log(1 + 2 ^ (low - high)) / math.log(2)
+                    end
+                    redis.call('ZADD', KEYS[1], score, ARGV[1])
+                    return 1
+                    """,
+                    Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+    private final FeedRepository feedRepository;
+
+    public void addCompletedRecord(Long recordId) {
+        increaseScore(recordId, POPULAR_COMPLETE_WEIGHT);
+    }
+
+    public void increaseBoostScore(Long recordId, Long boostCount) {
+        increaseScore(recordId, POPULAR_BOOST_WEIGHT * boostCount);
+    }
+
+    public void increaseCommentScore(Long recordId) {
+        increaseScore(recordId, POPULAR_COMMENT_WEIGHT);
+    }
+
+    public List<Long> findRecordIds(long offset, int size) {
+        String key = RedisKeyConstants.FEED_POPULAR_KEY;
+        Set<String> recordIds;
+        try {
+            recordIds = redisTemplate.opsForZSet().reverseRange(key, offset, offset + size - 1);
+        } catch (DataAccessException e) {
+            // Redis 장애 중에는 감쇠 없이 DB의 반응 수 순서로 대신 조회
+            log.warn("인기 피드 점수 조회 실패 - offset: {}", offset, e);
+            return feedRepository.findPopularRecordIds(
+                    LocalDateTime.now().minus(POPULAR_RETENTION), offset, size);
+        }
+        if (recordIds == null) {
+            return List.of();
+        }
+        return recordIds.stream().map(Long::valueOf).toList();
+    }
+
+    public void removeAll(Collection<Long> recordIds) {
+        if (recordIds.isEmpty()) {
+            return;
+        }
+
+        try {
+            redisTemplate
+                    .opsForZSet()
+                    .remove(
+                            RedisKeyConstants.FEED_POPULAR_KEY,
+                            recordIds.stream().map(String::valueOf).toArray());
+        } catch (DataAccessException e) {
+            log.warn("인기 피드 점수 삭제 실패 - recordIds: {}", recordIds, e);
+        }
+    }
+
+    // 보관 기간 전에 받은 최소 가중치 이하로 감쇠된 기록과 최대 개수를 넘는 기록을 정리
+    public long trim() {
+        String key = RedisKeyConstants.FEED_POPULAR_KEY;
+        double minScore = getTimeScore(LocalDateTime.now().minus(POPULAR_RETENTION));
+        Long expired =
+                redisTemplate
+                        .opsForZSet()
+                        .removeRangeByScore(key, Double.NEGATIVE_INFINITY, minScore);
+        Long overflowed = redisTemplate.opsForZSet().removeRange(key, 0, -(POPULAR_MAX_SIZE + 1));
+        return nullToZero(expired) + nullToZero(overflowed);
+    }
+
+    private void increaseScore(Long recordId, double weight) {
+        if (weight <= 0) {
+            return;
+        }
+
+        double score = getTimeScore(LocalDateTime.now()) + Math.log(weight) / Math.log(2);
+        try {
+            redisTemplate.execute(
+                    INCREASE_SCRIPT,
+                    List.of(RedisKeyConstants.FEED_POPULAR_KEY),
+                    String.valueOf(recordId),
+                    String.valueOf(score));
+        } catch (DataAccessException e) {
+            log.warn("인기 피드 점수 갱신 실패 - recordId: {}", recordId, e);
+        }
+    }
+
+    private double getTimeScore(LocalDateTime time) {
+        long elapsedSeconds = Duration.between(POPULAR_SCORE_EPOCH, time).toSeconds();
+        return (double) elapsedSeconds / POPULAR_HALF_LIFE.toSeconds();
+    }
+
+    private long nullToZero(Long value) {
+        return value == null ? 0L : value;
+    }
+}
@@ -1,17 +1,34 @@
 package com.depromeet.stonebed.domain.feed.application;
 
+import static com.depromeet.stonebed.global.common.constants.FeedConstants.*;
+
 import com.depromeet.stonebed.domain.feed.dao.FeedRepository;
+import com.depromeet.stonebed.domain.feed.dto.FeedCursor;
+import com.depromeet.stonebed.domain.feed.dto.FeedKey;
+import com.depromeet.stonebed.domain.feed.dto.FeedKeyPage;
 import com.depromeet.stonebed.domain.feed.dto.FindFeedDto;
+import com.depromeet.stonebed.domain.feed.dto.request.FeedBatchGetRequest;
+import com.depromeet.stonebed.domain.feed.dto.request.FeedFollowingGetRequest;
 import com.depromeet.stonebed.domain.feed.dto.request.FeedGetRequest;
+import com.depromeet.stonebed.domain.feed.dto.request.FeedPopularGetRequest;
 import com.depromeet.stonebed.domain.feed.dto.response.v1.FeedContentGetResponse;
 import com.depromeet.stonebed.domain.feed.dto.response.v1.FeedGetResponse;
+import com.depromeet.stonebed.domain.feed.dto.response.v2.FeedBatchGetResponse;
 import com.depromeet.stonebed.domain.feed.dto.response.v2.FeedContentGetResponseV2;
 import com.depromeet.stonebed.domain.feed.dto.response.v2.FeedGetResponseV2;
+import com.depromeet.stonebed.domain.follow.dao.FollowRepository;
 import com.depromeet.stonebed.global.error.ErrorCode;
 import com.depromeet.stonebed.global.error.exception.CustomException;
+import com.depromeet.stonebed.global.util.SecurityUtil;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 @Service
@@ -19,62 +36,118 @@ import org.springframework.transaction.annotation.Transactional;
 @RequiredArgsConstructor
 public class FeedService {
     private final FeedRepository feedRepository;
+    private final FeedItemCacheService feedItemCacheService;
+    private final FeedHiddenRecordService feedHiddenRecordService;
+    private final FeedPageCacheService feedPageCacheService;
+    private final FeedPopularityService feedPopularityService;
+    private final FeedTimelineService feedTimelineService;
+    private final FollowRepository followRepository;
+    private final SecurityUtil securityUtil;
 
     @Transactional(readOnly = true)
     public FeedGetResponse findFeed(FeedGetRequest request) {
-        List<FindFeedDto> feeds = getFeeds(request.cursor(), request.memberId(), request.limit());
+        FeedKeyPage feedKeyPage = findFeedKeyPage(request);
 
         List<FeedContentGetResponse> feedContentList =
-                feeds.stream().map(FeedContentGetResponse::from).toList();
+                hydrateFeeds(feedKeyPage.feedKeys()).stream()
+                        .map(FeedContentGetResponse::from)
+                        .toList();
 
-        String nextCursor = getNextCursor(feeds, request.limit());
+        return FeedGetResponse.from(feedContentList, feedKeyPage.nextCursor());
+    }
 
-        if (nextFeedNotExists(feeds, request.memberId())) {
-            nextCursor = null;
-        }
+    @Transactional(readOnly = true)
+    public FeedKeyPage findFeedKeyPage(FeedGetRequest request) {
+        FeedCursor cursor = FeedCursor.decode(request.cursor());
+        Set<Long> hiddenRecordIds = findHiddenRecordIds();
+        int fetchSize = getFetchSize(request.limit(), hiddenRecordIds);
+
+        List<FeedKey> fetchedKeys =
+                getFeedKeys(cursor, request.memberId(), request.limit(), fetchSize);
+        List<FeedKey> visibleKeys = excludeHidden(fetchedKeys, hiddenRecordIds);
+        String nextCursor =
+                getNextCursor(
+                        getNextCursorKey(fetchedKeys, visibleKeys, request.limit(), fetchSize),
+                        getNextPageIndex(cursor));
 
-        return FeedGetResponse.from(feedContentList, nextCursor);
+        return FeedKeyPage.of(trimToLimit(visibleKeys, request.limit()), nextCursor);
     }
 
-    private boolean nextFeedNotExists(List<FindFeedDto> feeds, Long memberId) {
-        Long lastRecordId = getLastRecordId(feeds);
-        if (lastRecordId == null) {
-            return true;
-        }
+    // 정렬 키만 조회하고 다음 페이지 존재 여부는 limit보다 하나 더 조회해 판단 (앞쪽 페이지는 캐시 사용)
+    private List<FeedKey> getFeedKeys(FeedCursor cursor, Long memberId, int limit, int fetchSize) {
+        return feedPageCacheService.getOrLoad(
+                memberId,
+                cursor,
+                limit,
+                fetchSize,
+                size -> feedRepository.findFeedKeysUsingCursor(cursor, memberId, size));
+    }
 
-        return feedRepository.getNextFeedContent(lastRecordId, memberId) == null;
+    private Set<Long> findHiddenRecordIds() {
+        return feedHiddenRecordService.findHiddenRecordIds(securityUtil.getCurrentMemberId());
     }
 
-    private String getNextCursor(List<FindFeedDto> records, int limit) {
-        if (records.size() < limit) {
-            return null;
+    // 신고한 기록을 제외해도 페이지가 채워지도록 그만큼 더 조회
+    private int getFetchSize(int limit, Set<Long> hiddenRecordIds) {
+        return limit + 1 + feedHiddenRecordService.getOverfetchSize(hiddenRecordIds);
+    }
+
+    private List<FeedKey> excludeHidden(List<FeedKey> feedKeys, Set<Long> hiddenRecordIds) {
+        if (hiddenRecordIds.isEmpty()) {
+            return feedKeys;
         }
+        return feedKeys.stream()
+                .filter(feedKey -> !hiddenRecordIds.contains(feedKey.recordId()))
+                .toList();
+    }
 
-        return String.valueOf(getLastRecordId(records));
+    // 제외된 기록이 많아 페이지가 덜 찼더라도 조회한 키가 가득 찼다면 그 다음부터 이어서 조회
+    private FeedKey getNextCursorKey(
+            List<FeedKey> fetchedKeys, List<FeedKey> visibleKeys, int limit, int fetchSize) {
+        if (visibleKeys.size() > limit) {
+            return visibleKeys.get(limit - 1);
+        }
+        if (fetchedKeys.size() >= fetchSize) {
+            return fetchedKeys.get(fetchedKeys.size() - 1);
+        }
+        return null;
     }
 
-    private Long getLastRecordId(List<FindFeedDto> records) {
-        if (records.isEmpty()) {
+    // 페이지 번호가 없는 이전 버전 커서로 조회하면 다음 커서에도 페이지 번호를 담지 않음
+    private Integer getNextPageIndex(FeedCursor cursor) {
+        if (cursor == null) {
+            return 1;
+        }
+        return cursor.pageIndex() == null ? null : cursor.pageIndex() + 1;
+    }
+
+    private String getNextCursor(FeedKey nextCursorKey, Integer nextPageIndex) {
+        if (nextCursorKey == null) {
             return null;
         }
 
-        return records.get(records.size() - 1).missionRecord().getId();
+        FeedCursor nextCursor =
+                nextPageIndex == null
+                        ? FeedCursor.from(nextCursorKey)
+                        : FeedCursor.from(nextCursorKey, nextPageIndex);
+        return nextCursor.encode();
     }
 
-    private List<FindFeedDto> getFeeds(String cursor, Long memberId, int limit) {
-        return feedRepository.getFeedContentsUsingCursor(parseCursor(cursor), memberId, limit);
+    private List<FeedKey> trimToLimit(List<FeedKey> feedKeys, int limit) {
+        return feedKeys.size() > limit ? feedKeys.subList(0, limit) : feedKeys;
     }
 
-    private Long parseCursor(String cursor) {
-        if (cursor == null) {
-            return null;
-        }
+    private List<FindFeedDto> hydrateFeeds(List<FeedKey> feedKeys) {
+        return feedItemCacheService.findAllByIds(
+                feedKeys.stream().map(FeedKey::recordId).toList());
+    }
 
-        try {
-            return Long.parseLong(cursor);
-        } catch (NumberFormatException e) {
-            throw new CustomException(ErrorCode.INVALID_CURSOR_FORMAT);
-        }
+    // 항목을 조회하기 전에 ETag를 계산할 수 있도록 기록 ID와 항목 버전 토큰을 반환
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public Optional<List<Object>> findFeedOneVersionValues(Long recordId) {
+        return feedItemCacheService
+                .findVersions(List.of(recordId))
+                .map(versions -> List.of(recordId, versions.get(0)));
     }
 
     @Transactional(readOnly = true)
@@ -86,19 +159,180 @@ public class FeedService {
         return FeedContentGetResponse.from(feedOne);
     }
 
+    // 요청 순서를 유지하고, 없거나 공개되지 않은 기록은 제외
     @Transactional(readOnly = true)
-    public FeedGetResponseV2 findFeedV2(FeedGetRequest request) {
-        List<FindFeedDto> feeds = getFeeds(request.cursor(), request.memberId(), request.limit());
+    public FeedBatchGetResponse findFeedBatch(FeedBatchGetRequest request) {
+        List<Long> recordIds = request.ids().stream().distinct().toList();
+        List<FeedContentGetResponseV2> feedContentList =
+                feedItemCacheService.findAllByIds(recordIds).stream()
+                        .map(FeedContentGetResponseV2::from)
+                        .toList();
+
+        return FeedBatchGetResponse.from(feedContentList);
+    }
+
+    // 항목을 조회하기 전에 ETag를 계산할 수 있도록 정렬 키, 다음 커서와 항목 버전 토큰을 반환
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public Optional<List<Object>> findFeedVersionValues(FeedKeyPage feedKeyPage) {
+        List<FeedKey> feedKeys = feedKeyPage.feedKeys();
+        return feedItemCacheService
+                .findVersions(feedKeys.stream().map(FeedKey::recordId).toList())
+                .map(
+                        versions -> {
+                            List<Object> versionValues = new ArrayList<>();
+                            for (int i = 0; i < feedKeys.size(); i++) {
+                                versionValues.add(feedKeys.get(i).recordId());
+                                versionValues.add(feedKeys.get(i).updatedAt());
+                                versionValues.add(versions.get(i));
+                            }
+                            versionValues.add(feedKeyPage.nextCursor());
+                            return versionValues;
+                        });
+    }
 
+    @Transactional(readOnly = true)
+    public FeedGetResponseV2 findFeedV2(FeedKeyPage feedKeyPage) {
         List<FeedContentGetResponseV2> feedContentList =
-                feeds.stream().map(FeedContentGetResponseV2::from).toList();
+                hydrateFeeds(feedKeyPage.feedKeys()).stream()
+                        .map(FeedContentGetResponseV2::from)
+                        .toList();
 
-        String nextCursor = getNextCursor(feeds, request.limit());
+        return FeedGetResponseV2.from(feedContentList, feedKeyPage.nextCursor());
+    }
 
-        if (nextFeedNotExists(feeds, request.memberId())) {
-            nextCursor = null;
+    @Transactional(readOnly = true)
+    public FeedGetResponseV2 findFollowingFeed(FeedFollowingGetRequest request) {
+        Long memberId = securityUtil.getCurrentMemberId();
+        FeedCursor cursor = FeedCursor.decode(request.cursor());
+        Set<Long> hiddenRecordIds = feedHiddenRecordService.findHiddenRecordIds(memberId);
+        int fetchSize = getFetchSize(request.limit(), hiddenRecordIds);
+
+        // 팔로워가 많은 회원의 기록은 타임라인에 없으므로 DB에서 직접 조회해 병합
+        List<Long> heavyFolloweeIds =
+                followRepository.findTargetIdsBySourceIdAndFollowerCountOver(
+                        memberId, FANOUT_FOLLOWER_THRESHOLD);
+
+        List<FeedKey> feedKeys =
+                new ArrayList<>(getTimelineKeys(memberId, heavyFolloweeIds, cursor, fetchSize));
+        if (!heavyFolloweeIds.isEmpty()) {
+            feedKeys.addAll(
+                    feedRepository.findFeedKeysByMemberIds(heavyFolloweeIds, cursor, fetchSize));
         }
 
+        List<FeedKey> fetchedKeys = mergeFeedKeys(feedKeys, fetchSize);
+        List<FeedKey> visibleKeys = excludeHidden(fetchedKeys, hiddenRecordIds);
+        String nextCursor =
+                getNextCursor(
+                        getNextCursorKey(fetchedKeys, visibleKeys, request.limit(), fetchSize),
+                        null);
+
+        List<FeedContentGetResponseV2> feedContentList =
+                hydrateFeeds(trimToLimit(visibleKeys, request.limit())).stream()
+                        .map(FeedContentGetResponseV2::from)
+                        .toList();
+
+        return FeedGetResponseV2.from(feedContentList, nextCursor);
+    }
+
+    @Transactional(readOnly = true)
+    public FeedGetResponseV2 findPopularFeed(FeedPopularGetRequest request) {
+        int offset = decodePopularCursor(request.cursor());
+        Set<Long> hiddenRecordIds = findHiddenRecordIds();
+        int fetchSize = getFetchSize(request.limit(), hiddenRecordIds);
+
+        List<Long> fetchedIds = feedPopularityService.findRecordIds(offset, fetchSize);
+        List<Long> visibleIds =
+                fetchedIds.stream().filter(id -> !hiddenRecordIds.contains(id)).toList();
+        String nextCursor =
+                getPopularNextCursor(offset, fetchedIds, visibleIds, request.limit(), fetchSize);
+
+        // 인기 피드에서 빠지기 전에 비공개, 삭제된 기록은 조회 단계에서 제외됨
+        List<Long> pageRecordIds =
+                visibleIds.size() > request.limit()
+                        ? visibleIds.subList(0, request.limit())
+                        : visibleIds;
+        List<FeedContentGetResponseV2> feedContentList =
+                feedItemCacheService.findAllByIds(pageRecordIds).stream()
+                        .map(FeedContentGetResponseV2::from)
+                        .toList();
+
         return FeedGetResponseV2.from(feedContentList, nextCursor);
     }
+
+    // 다음 순위는 이번 페이지의 마지막 기록 바로 다음부터 (제외된 기록의 순위도 건너뜀)
+    private String getPopularNextCursor(
+            int offset, List<Long> fetchedIds, List<Long> visibleIds, int limit, int fetchSize) {
+        if (visibleIds.size() > limit) {
+            return String.valueOf(offset + fetchedIds.indexOf(visibleIds.get(limit - 1)) + 1);
+        }
+        if (fetchedIds.size() >= fetchSize) {
+            return String.valueOf(offset + fetchedIds.size());
+        }
+        return null;
+    }
+
+    // 점수가 계속 바뀌므로 인기 피드는 순위(offset)를 커서로 사용
+    private int decodePopularCursor(String cursor) {
+        if (cursor == null) {
+            return 0;
+        }
+
+        try {
+            int offset = Integer.parseInt(cursor);
+            if (offset < 0) {
+                throw new CustomException(ErrorCode.INVALID_CURSOR_FORMAT);
+            }
+            return offset;
+        } catch (NumberFormatException e) {
+            throw new CustomException(ErrorCode.INVALID_CURSOR_FORMAT);
+        }
+    }
+
+    // 타임라인이 없으면(최초 조회, 팔로우 변경, 만료) DB에서 재구성
+    private List<FeedKey> getTimelineKeys(
+            Long memberId, List<Long> heavyFolloweeIds, FeedCursor cursor, int size) {
+        if (feedTimelineService.hasTimeline(memberId)) {
+            List<FeedKey> timelineKeys =
+                    feedTimelineService.findTimelineKeys(memberId, cursor, size);
+            if (timelineKeys.size() >= size || !feedTimelineService.isTruncated(memberId)) {
+                return timelineKeys;
+            }
+
+            // 타임라인에 남아 있는 가장 오래된 기록을 지나면 DB에서 이어서 조회
+            List<Long> followeeIds = findTimelineFolloweeIds(memberId, heavyFolloweeIds);
+            if (followeeIds.isEmpty()) {
+                return timelineKeys;
+            }
+            return feedRepository.findFeedKeysByMemberIds(followeeIds, cursor, size);
+        }
+
+        List<Long> followeeIds = findTimelineFolloweeIds(memberId, heavyFolloweeIds);
+        if (followeeIds.isEmpty()) {
+            feedTimelineService.rebuildTimeline(memberId, List.of());
+            return List.of();
+        }
+
+        List<FeedKey> timelineKeys =
+                feedRepository.findFeedKeysByMemberIds(followeeIds, null, TIMELINE_MAX_SIZE);
+        feedTimelineService.rebuildTimeline(memberId, timelineKeys);
+
+        return timelineKeys.stream()
+                .filter(feedKey -> feedKey.isAfter(cursor))
+                .limit(size)
+                .toList();
+    }
+
+    private List<Long> findTimelineFolloweeIds(Long memberId, List<Long> heavyFolloweeIds) {
+        return followRepository.findTargetIdsBySourceId(memberId).stream()
+                .filter(followeeId -> !heavyFolloweeIds.contains(followeeId))
+                .toList();
+    }
+
+    private List<FeedKey> mergeFeedKeys(List<FeedKey> feedKeys, int size) {
+        Map<Long, FeedKey> merged = new LinkedHashMap<>();
+        feedKeys.stream()
+                .sorted(FeedKey.LATEST_FIRST)
+                .forEach(feedKey -> merged.putIfAbsent(feedKey.recordId(), feedKey));
+        return merged.values().stream().limit(size).toList();
+    }
 }
@@ -0,0 +1,153 @@
+package com.depromeet.stonebed.domain.feed.application;
+
+import static com.depromeet.stonebed.global.common.constants.FeedConstants.*;
+
+import com.depromeet.stonebed.domain.feed.dto.FeedCursor;
+import com.depromeet.stonebed.domain.feed.dto.FeedKey;
+import com.depromeet.stonebed.domain.follow.dao.FollowRepository;
+import com.depromeet.stonebed.global.common.constants.RedisKeyConstants;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations.TypedTuple;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Service;
+
+/**
+ * 팔로잉 피드용 회원별 타임라인(Redis ZSET)을 관리합니다.
+ *
+ * <p>미션 기록이 완료되면 작성자의 팔로워 타임라인에 기록 ID를 추가(fan-out on write)합니다. 팔로워가 많은 회원의 기록은
+ * 타임라인에 넣지 않고 조회 시점에 DB에서 병합합니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class FeedTimelineService {
+    // 이미 존재하는 타임라인에만 추가해 재구성 전의 불완전한 타임라인이 생기지 않도록 한다
+    private static final RedisScript<Long> FANOUT_SCRIPT =
+            new DefaultRedisScript<>(
+                    """
+                    for _, key in ipairs(KEYS) do
+                        if redis.call('EXISTS', key) == 1 then
+                            redis.call('ZADD', key, ARGV[1], ARGV[2])
+                            redis.call('ZREMRANGEBYRANK', key, 0, -(tonumber(ARGV[3]) + 1))
+                        end
+                    end
+                    return #KEYS
+                    """,
+                    Long.class);
+
+    // 삭제, 추가, 만료 설정을 한 번에 실행해 fan-out이 빈 키를 보거나 TTL 없는 키가 남지 않도록 한다
+    private static final RedisScript<Long> REBUILD_SCRIPT =
+            new DefaultRedisScript<>(
+                    """
+                    redis.call('DEL', KEYS[1])
+                    for i = 2, #ARGV, 2 do
+                        redis.call('ZADD', KEYS[1], ARGV[i], ARGV[i + 1])
+                    end
+                    redis.call('EXPIRE', KEYS[1], ARGV[1])
+                    return (#ARGV - 1) / 2
+                    """,
+                    Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+    private final FollowRepository followRepository;
+
+    public void fanOut(Long authorId, FeedKey feedKey) {
+        if (followRepository.countByTargetId(authorId) > FANOUT_FOLLOWER_THRESHOLD) {
+            return;
+        }
+
+        List<Long> followerIds = followRepository.findSourceIdsByTargetId(authorId);
+        String score = String.valueOf(feedKey.toScore());
+        String member = String.valueOf(feedKey.recordId());
+
+        try {
+            for (int i = 0; i < followerIds.size(); i += FANOUT_CHUNK_SIZE) {
+                List<String> keys =
+                        followerIds
+                                .subList(i, Math.min(i + FANOUT_CHUNK_SIZE, followerIds.size()))
+                                .stream()
+                                .map(RedisKeyConstants::feedTimelineKey)
+                                .toList();
+                redisTemplate.execute(
+                        FANOUT_SCRIPT, keys, score, member, String.valueOf(TIMELINE_MAX_SIZE));
+            }
+        } catch (DataAccessException e) {
+            log.warn("타임라인 fan-out 실패 - recordId: {}", feedKey.recordId(), e);
+        }
+    }
+
+    public boolean hasTimeline(Long memberId) {
+        String key = RedisKeyConstants.feedTimelineKey(memberId);
+        return Boolean.TRUE.equals(redisTemplate.hasKey(key));
+    }
+
+    // 조회할 기록이 없어도 빈 표시를 남겨 매 조회마다 DB에서 다시 재구성하지 않도록 한다
+    public void rebuildTimeline(Long memberId, Collection<FeedKey> feedKeys) {
+        List<String> args = new ArrayList<>();
+        args.add(String.valueOf(TIMELINE_TTL.toSeconds()));
+        for (FeedKey feedKey : feedKeys) {
+            args.add(String.valueOf(feedKey.toScore()));
+            args.add(String.valueOf(feedKey.recordId()));
+        }
+        if (feedKeys.isEmpty()) {
+            args.add("0");
+            args.add(TIMELINE_EMPTY_MARKER);
+        }
+
+        redisTemplate.execute(
+                REBUILD_SCRIPT,
+                List.of(RedisKeyConstants.feedTimelineKey(memberId)),
+                args.toArray());
+    }
+
+    public List<FeedKey> findTimelineKeys(Long memberId, FeedCursor cursor, int size) {
+        String key = RedisKeyConstants.feedTimelineKey(memberId);
+        double max = Double.POSITIVE_INFINITY;
+        long sameScoreCount = 0;
+
+        if (cursor != null) {
+            // 커서와 같은 점수의 항목은 ID로 다시 걸러내야 하므로 그만큼 더 조회
+            max = FeedKey.of(cursor.recordId(), cursor.updatedAt()).toScore();
+            Long count = redisTemplate.opsForZSet().count(key, max, max);
+            sameScoreCount = Objects.requireNonNullElse(count, 0L);
+        }
+
+        Set<TypedTuple<String>> tuples =
+                redisTemplate
+                        .opsForZSet()
+                        .reverseRangeByScoreWithScores(
+                                key, Double.NEGATIVE_INFINITY, max, 0, size + sameScoreCount);
+        redisTemplate.expire(key, TIMELINE_TTL);
+
+        if (tuples == null) {
+            return List.of();
+        }
+
+        return tuples.stream()
+                .filter(tuple -> !TIMELINE_EMPTY_MARKER.equals(tuple.getValue()))
+                .map(tuple -> FeedKey.fromScore(Long.valueOf(tuple.getValue()), tuple.getScore()))
+                .filter(feedKey -> feedKey.isAfter(cursor))
+                .sorted(FeedKey.LATEST_FIRST)
+                .limit(size)
+                .toList();
+    }
+
+    // 최대 크기만큼 차 있으면 오래된 기록이 잘려 나갔을 수 있음
+    public boolean isTruncated(Long memberId) {
+        Long size = redisTemplate.opsForZSet().zCard(RedisKeyConstants.feedTimelineKey(memberId));
+        return Objects.requireNonNullElse(size, 0L) >= TIMELINE_MAX_SIZE;
+    }
+
+    public void evictTimeline(Long memberId) {
+        redisTemplate.delete(RedisKeyConstants.feedTimelineKey(memberId));
+    }
+}
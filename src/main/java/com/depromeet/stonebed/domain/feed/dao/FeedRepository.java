@@ -1,6 +1,12 @@
 package com.depromeet.stonebed.domain.feed.dao;
 
 import com.depromeet.stonebed.domain.missionRecord.domain.MissionRecord;
+import java.util.List;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
-public interface FeedRepository extends JpaRepository<MissionRecord, Long>, FeedRepositoryCustom {}
+public interface FeedRepository extends JpaRepository<MissionRecord, Long>, FeedRepositoryCustom {
+    @Query("SELECT mr.id FROM MissionRecord mr WHERE mr.member.id = :memberId")
+    List<Long> findRecordIdsByMemberId(@Param("memberId") Long memberId);
+}
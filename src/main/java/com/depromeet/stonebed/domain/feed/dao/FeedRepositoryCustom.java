@@ -1,12 +1,19 @@
 package com.depromeet.stonebed.domain.feed.dao;
 
+import com.depromeet.stonebed.domain.feed.dto.FeedCursor;
+import com.depromeet.stonebed.domain.feed.dto.FeedKey;
 import com.depromeet.stonebed.domain.feed.dto.FindFeedDto;
+import java.time.LocalDateTime;
 import java.util.List;
 
 public interface FeedRepositoryCustom {
-    List<FindFeedDto> getFeedContentsUsingCursor(Long missionRecordId, Long memberId, int limit);
-
-    FindFeedDto getNextFeedContent(Long missionRecordId, Long memberId);
+    List<FeedKey> findFeedKeysUsingCursor(FeedCursor cursor, Long memberId, int limit);
 
     FindFeedDto findOneFeedContent(Long recordId);
+
+    List<FeedKey> findFeedKeysByMemberIds(List<Long> memberIds, FeedCursor cursor, int limit);
+
+    List<FindFeedDto> findFeedContentsByIds(List<Long> recordIds);
+
+    List<Long> findPopularRecordIds(LocalDateTime since, long offset, int limit);
 }
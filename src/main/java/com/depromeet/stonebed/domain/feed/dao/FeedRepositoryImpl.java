@@ -1,21 +1,21 @@
 package com.depromeet.stonebed.domain.feed.dao;
 
-import static com.depromeet.stonebed.domain.comment.domain.QComment.*;
 import static com.depromeet.stonebed.domain.member.domain.QMember.*;
 import static com.depromeet.stonebed.domain.mission.domain.QMission.*;
 import static com.depromeet.stonebed.domain.missionHistory.domain.QMissionHistory.*;
 import static com.depromeet.stonebed.domain.missionRecord.domain.QMissionRecord.*;
-import static com.depromeet.stonebed.domain.missionRecord.domain.QMissionRecordBoost.*;
+import static com.depromeet.stonebed.global.common.constants.FeedConstants.*;
 
+import com.depromeet.stonebed.domain.feed.dto.FeedCursor;
+import com.depromeet.stonebed.domain.feed.dto.FeedKey;
 import com.depromeet.stonebed.domain.feed.dto.FindFeedDto;
 import com.depromeet.stonebed.domain.missionRecord.domain.MissionRecordDisplay;
 import com.depromeet.stonebed.domain.missionRecord.domain.MissionRecordStatus;
 import com.querydsl.core.types.Projections;
 import com.querydsl.core.types.dsl.BooleanExpression;
-import com.querydsl.core.types.dsl.Expressions;
-import com.querydsl.jpa.JPAExpressions;
 import com.querydsl.jpa.impl.JPAQuery;
 import com.querydsl.jpa.impl.JPAQueryFactory;
+import java.time.LocalDateTime;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Repository;
@@ -26,14 +26,12 @@ public class FeedRepositoryImpl implements FeedRepositoryCustom {
     private final JPAQueryFactory queryFactory;
 
     @Override
-    public List<FindFeedDto> getFeedContentsUsingCursor(
-            Long missionRecordId, Long memberId, int limit) {
-        return getFeedBaseQuery(missionRecordId, memberId).limit(limit).fetch();
-    }
-
-    @Override
-    public FindFeedDto getNextFeedContent(Long missionRecordId, Long memberId) {
-        return getFeedBaseQuery(missionRecordId, memberId).fetchFirst();
+    public List<FeedKey> findFeedKeysUsingCursor(FeedCursor cursor, Long memberId, int limit) {
+        return getFeedKeyBaseQuery()
+                .where(isFeedVisible(), afterCursor(cursor), eqMemberId(memberId))
+                .orderBy(missionRecord.updatedAt.desc(), missionRecord.id.desc())
+                .limit(limit)
+                .fetch();
     }
 
     @Override
@@ -45,36 +43,76 @@ public class FeedRepositoryImpl implements FeedRepositoryCustom {
                 .fetchOne();
     }
 
-    private JPAQuery<FindFeedDto> getFeedBaseQuery(Long missionRecordId, Long memberId) {
-        return applyJoinsAndConditions(getBaseSelectQuery())
+    @Override
+    public List<FeedKey> findFeedKeysByMemberIds(
+            List<Long> memberIds, FeedCursor cursor, int limit) {
+        return getFeedKeyBaseQuery()
                 .where(
-                        missionRecord.status.eq(MissionRecordStatus.COMPLETED),
-                        missionRecord.display.in(MissionRecordDisplay.PUBLIC),
-                        ltMissionRecordId(missionRecordId),
-                        eqMemberId(memberId))
-                .groupBy(missionRecord.id)
-                .orderBy(missionRecord.updatedAt.desc());
+                        isFeedVisible(),
+                        missionRecord.member.id.in(memberIds),
+                        afterCursor(cursor))
+                .orderBy(missionRecord.updatedAt.desc(), missionRecord.id.desc())
+                .limit(limit)
+                .fetch();
+    }
+
+    @Override
+    public List<FindFeedDto> findFeedContentsByIds(List<Long> recordIds) {
+        return applyJoinsAndConditions(getBaseSelectQuery())
+                .where(isFeedVisible(), missionRecord.id.in(recordIds))
+                .fetch();
+    }
+
+    // 인기 피드 점수를 사용할 수 없을 때의 대체 순서로, 보관 기간 안의 기록을 반응 수 가중합 순으로 조회
+    @Override
+    public List<Long> findPopularRecordIds(LocalDateTime since, long offset, int limit) {
+        return queryFactory
+                .select(missionRecord.id)
+                .from(missionRecord)
+                .where(isFeedVisible(), missionRecord.updatedAt.goe(since))
+                .orderBy(
+                        missionRecord
+                                .boostCount
+                                .multiply(POPULAR_BOOST_WEIGHT)
+                                .add(missionRecord.commentCount.multiply(POPULAR_COMMENT_WEIGHT))
+                                .desc(),
+                        missionRecord.updatedAt.desc(),
+                        missionRecord.id.desc())
+                .offset(offset)
+                .limit(limit)
+                .fetch();
+    }
+
+    // 정렬 키만 조회해 인덱스 범위 스캔으로 처리
+    private JPAQuery<FeedKey> getFeedKeyBaseQuery() {
+        return queryFactory
+                .select(
+                        Projections.constructor(
+                                FeedKey.class, missionRecord.id, missionRecord.updatedAt))
+                .from(missionRecord);
     }
 
     private JPAQuery<FindFeedDto> getBaseSelectQuery() {
         return queryFactory.select(
                 Projections.constructor(
                         FindFeedDto.class,
-                        mission,
-                        missionRecord,
-                        member,
-                        // 서브쿼리를 통해 댓글 개수 계산
-                        JPAExpressions.select(comment.id.count())
-                                .from(comment)
-                                .where(comment.recordId.eq(missionRecord.id)),
-                        Expressions.asNumber(missionRecordBoost.count.sumLong().coalesce(0L))
-                                .as("totalBoostCount")));
+                        mission.id,
+                        mission.title,
+                        mission.completeMessage,
+                        missionRecord.id,
+                        missionRecord.imageUrl,
+                        missionRecord.content,
+                        missionRecord.updatedAt,
+                        member.id,
+                        member.profile.nickname,
+                        member.profile.profileImageUrl,
+                        // 댓글, 부스트 수는 mission_record에 비정규화된 카운터를 사용
+                        missionRecord.commentCount,
+                        missionRecord.boostCount));
     }
 
     private JPAQuery<FindFeedDto> applyJoinsAndConditions(JPAQuery<FindFeedDto> query) {
         return query.from(missionRecord)
-                .leftJoin(missionRecordBoost)
-                .on(missionRecordBoost.missionRecord.eq(missionRecord))
                 .leftJoin(member)
                 .on(missionRecord.member.eq(member))
                 .leftJoin(missionHistory)
@@ -83,8 +121,27 @@ public class FeedRepositoryImpl implements FeedRepositoryCustom {
                 .on(missionHistory.mission.eq(mission));
     }
 
-    private BooleanExpression ltMissionRecordId(Long missionRecordId) {
-        return missionRecordId != null ? missionRecord.id.lt(missionRecordId) : null;
+    private BooleanExpression isFeedVisible() {
+        return missionRecord
+                .status
+                .eq(MissionRecordStatus.COMPLETED)
+                .and(missionRecord.display.in(MissionRecordDisplay.PUBLIC));
+    }
+
+    // (updatedAt, id) 복합 키 기준으로 커서 이후의 항목만 조회
+    private BooleanExpression afterCursor(FeedCursor cursor) {
+        if (cursor == null) {
+            return null;
+        }
+
+        return missionRecord
+                .updatedAt
+                .lt(cursor.updatedAt())
+                .or(
+                        missionRecord
+                                .updatedAt
+                                .eq(cursor.updatedAt())
+                                .and(missionRecord.id.lt(cursor.recordId())));
     }
 
     private BooleanExpression eqMemberId(Long memberId) {
@@ -0,0 +1,76 @@
+package com.depromeet.stonebed.domain.feed.dto;
+
+import com.depromeet.stonebed.global.error.ErrorCode;
+import com.depromeet.stonebed.global.error.exception.CustomException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * 피드 정렬 키(updatedAt desc, recordId desc)를 담는 커서입니다.
+ *
+ * <p>클라이언트에는 버전이 포함된 base64url 문자열로만 노출합니다. v2부터 페이지 번호를 함께 담아 앞쪽 페이지만 캐싱하는 데 사용하며,
+ * 페이지 번호가 없는 v1 커서도 계속 허용합니다.
+ */
+public record FeedCursor(LocalDateTime updatedAt, Long recordId, Integer pageIndex) {
+    private static final String VERSION_1 = "v1";
+    private static final String VERSION_2 = "v2";
+    private static final String DELIMITER = "|";
+
+    public static FeedCursor of(LocalDateTime updatedAt, Long recordId) {
+        return new FeedCursor(updatedAt, recordId, null);
+    }
+
+    public static FeedCursor from(FeedKey key) {
+        return new FeedCursor(key.updatedAt(), key.recordId(), null);
+    }
+
+    public static FeedCursor from(FeedKey key, int pageIndex) {
+        return new FeedCursor(key.updatedAt(), key.recordId(), pageIndex);
+    }
+
+    public static FeedCursor decode(String cursor) {
+        if (cursor == null) {
+            return null;
+        }
+
+        try {
+            String decoded =
+                    new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] tokens = decoded.split("\\" + DELIMITER);
+
+            if (tokens.length == 3 && VERSION_1.equals(tokens[0])) {
+                return new FeedCursor(
+                        LocalDateTime.parse(tokens[1]), Long.parseLong(tokens[2]), null);
+            }
+            if (tokens.length == 4 && VERSION_2.equals(tokens[0])) {
+                int pageIndex = Integer.parseInt(tokens[3]);
+                if (pageIndex < 1) {
+                    throw new CustomException(ErrorCode.INVALID_CURSOR_FORMAT);
+                }
+                return new FeedCursor(
+                        LocalDateTime.parse(tokens[1]), Long.parseLong(tokens[2]), pageIndex);
+            }
+            throw new CustomException(ErrorCode.INVALID_CURSOR_FORMAT);
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new CustomException(ErrorCode.INVALID_CURSOR_FORMAT);
+        }
+    }
+
+    public String encode() {
+        String raw =
+                pageIndex == null
+                        ? String.join(
+                                DELIMITER, VERSION_1, updatedAt.toString(), recordId.toString())
+                        : String.join(
+                                DELIMITER,
+                                VERSION_2,
+                                updatedAt.toString(),
+                                recordId.toString(),
+                                pageIndex.toString());
+        return Base64.getUrlEncoder()
+                .withoutPadding()
+                .encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
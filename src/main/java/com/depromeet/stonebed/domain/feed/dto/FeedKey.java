@@ -0,0 +1,45 @@
+package com.depromeet.stonebed.domain.feed.dto;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Comparator;
+
+/** 피드 정렬에 필요한 최소 정보(기록 ID, 정렬 시각)만 담는 키입니다. */
+public record FeedKey(Long recordId, LocalDateTime updatedAt) {
+    private static final long MICROS_PER_SECOND = 1_000_000L;
+
+    // updatedAt desc, recordId desc
+    public static final Comparator<FeedKey> LATEST_FIRST =
+            Comparator.comparing(FeedKey::updatedAt)
+                    .thenComparing(FeedKey::recordId)
+                    .reversed();
+
+    public static FeedKey of(Long recordId, LocalDateTime updatedAt) {
+        return new FeedKey(recordId, updatedAt);
+    }
+
+    // Redis ZSET 점수는 epoch 마이크로초 (double로 손실 없이 표현 가능한 범위)
+    public static FeedKey fromScore(Long recordId, double score) {
+        long micros = (long) score;
+        Instant instant =
+                Instant.ofEpochSecond(
+                        Math.floorDiv(micros, MICROS_PER_SECOND),
+                        Math.floorMod(micros, MICROS_PER_SECOND) * 1_000L);
+        return new FeedKey(recordId, LocalDateTime.ofInstant(instant, ZoneId.systemDefault()));
+    }
+
+    public long toScore() {
+        Instant instant = updatedAt.atZone(ZoneId.systemDefault()).toInstant();
+        return instant.getEpochSecond() * MICROS_PER_SECOND + instant.getNano() / 1_000L;
+    }
+
+    public boolean isAfter(FeedCursor cursor) {
+        if (cursor == null) {
+            return true;
+        }
+
+        int compared = updatedAt.compareTo(cursor.updatedAt());
+        return compared < 0 || (compared == 0 && recordId < cursor.recordId());
+    }
+}
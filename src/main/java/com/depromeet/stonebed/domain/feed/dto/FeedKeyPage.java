@@ -0,0 +1,10 @@
+package com.depromeet.stonebed.domain.feed.dto;
+
+import java.util.List;
+
+/** 한 페이지에 노출할 정렬 키와 다음 페이지 커서입니다. */
+public record FeedKeyPage(List<FeedKey> feedKeys, String nextCursor) {
+    public static FeedKeyPage of(List<FeedKey> feedKeys, String nextCursor) {
+        return new FeedKeyPage(feedKeys, nextCursor);
+    }
+}
@@ -3,11 +3,20 @@ package com.depromeet.stonebed.domain.feed.dto;
 import com.depromeet.stonebed.domain.member.domain.Member;
 import com.depromeet.stonebed.domain.mission.domain.Mission;
 import com.depromeet.stonebed.domain.missionRecord.domain.MissionRecord;
+import java.time.LocalDateTime;
 
+/** 피드 항목의 표시용 필드만 담은 DTO입니다. 엔티티 대신 스칼라 값으로 조회하며 캐시에 그대로 저장합니다. */
 public record FindFeedDto(
-        Mission mission,
-        MissionRecord missionRecord,
-        Member author,
+        Long missionId,
+        String missionTitle,
+        String missionCompleteMessage,
+        Long missionRecordId,
+        String missionRecordImageUrl,
+        String content,
+        LocalDateTime updatedAt,
+        Long authorId,
+        String authorNickname,
+        String authorProfileImageUrl,
         Long totalCommentCount,
         Long totalBoostCount) {
     public static FindFeedDto from(
@@ -16,6 +25,18 @@ public record FindFeedDto(
             Member author,
             Long totalCommentCount,
             Long totalBoostCount) {
-        return new FindFeedDto(mission, missionRecord, author, totalCommentCount, totalBoostCount);
+        return new FindFeedDto(
+                mission.getId(),
+                mission.getTitle(),
+                mission.getCompleteMessage(),
+                missionRecord.getId(),
+                missionRecord.getImageUrl(),
+                missionRecord.getContent(),
+                missionRecord.getUpdatedAt(),
+                author.getId(),
+                author.getProfile().getNickname(),
+                author.getProfile().getProfileImageUrl(),
+                totalCommentCount,
+                totalBoostCount);
     }
 }
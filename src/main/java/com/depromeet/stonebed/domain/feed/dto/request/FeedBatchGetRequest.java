@@ -0,0 +1,14 @@
+package com.depromeet.stonebed.domain.feed.dto.request;
+
+import static com.depromeet.stonebed.global.common.constants.FeedConstants.FEED_BATCH_MAX_SIZE;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import java.util.List;
+
+public record FeedBatchGetRequest(
+        @Schema(description = "조회할 기록 ID 목록", example = "[1, 2, 3]")
+                @NotEmpty
+                @Size(max = FEED_BATCH_MAX_SIZE)
+                List<Long> ids) {}
@@ -0,0 +1,10 @@
+package com.depromeet.stonebed.domain.feed.dto.request;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+
+public record FeedFollowingGetRequest(
+        @Schema(description = "커서 위치", example = "djF8MjAyNC0wOC0wMVQxMjowMHwxNQ")
+                String cursor,
+        @Schema(description = "피드 당 항목 수", example = "5") @Min(1) @Max(50) int limit) {}
@@ -0,0 +1,9 @@
+package com.depromeet.stonebed.domain.feed.dto.request;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+
+public record FeedPopularGetRequest(
+        @Schema(description = "커서 위치", example = "20") String cursor,
+        @Schema(description = "피드 당 항목 수", example = "5") @Min(1) @Max(50) int limit) {}
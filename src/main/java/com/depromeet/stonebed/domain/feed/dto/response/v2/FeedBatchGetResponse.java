@@ -0,0 +1,9 @@
+package com.depromeet.stonebed.domain.feed.dto.response.v2;
+
+import java.util.List;
+
+public record FeedBatchGetResponse(List<FeedContentGetResponseV2> list) {
+    public static FeedBatchGetResponse from(List<FeedContentGetResponseV2> list) {
+        return new FeedBatchGetResponse(list);
+    }
+}
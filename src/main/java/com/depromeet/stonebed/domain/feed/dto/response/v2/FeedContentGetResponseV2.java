@@ -21,17 +21,17 @@ public record FeedContentGetResponseV2(
         @Schema(description = "미션 기록 컨텐츠") String content) {
     public static FeedContentGetResponseV2 from(FindFeedDto missionRecord) {
         return new FeedContentGetResponseV2(
-                missionRecord.mission().getId(),
-                missionRecord.mission().getTitle(),
-                missionRecord.mission().getCompleteMessage(),
-                missionRecord.missionRecord().getId(),
-                missionRecord.author().getId(),
-                missionRecord.author().getProfile().getNickname(),
-                missionRecord.author().getProfile().getProfileImageUrl(),
-                missionRecord.missionRecord().getImageUrl(),
-                missionRecord.missionRecord().getUpdatedAt().toLocalDate(),
+                missionRecord.missionId(),
+                missionRecord.missionTitle(),
+                missionRecord.missionCompleteMessage(),
+                missionRecord.missionRecordId(),
+                missionRecord.authorId(),
+                missionRecord.authorNickname(),
+                missionRecord.authorProfileImageUrl(),
+                missionRecord.missionRecordImageUrl(),
+                missionRecord.updatedAt().toLocalDate(),
                 missionRecord.totalBoostCount(),
                 missionRecord.totalCommentCount(),
-                missionRecord.missionRecord().getContent());
+                missionRecord.content());
     }
 }
@@ -0,0 +1,22 @@
+package com.depromeet.stonebed.domain.feed.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public enum FeedChangeType {
+    // 피드 노출 여부나 정렬(updatedAt)이 바뀌는 변경은 페이지 캐시도 무효화
+    COMPLETED(true),
+    CONTENT_UPDATED(true),
+    DISPLAY_UPDATED(true),
+    DELETED(true),
+    // 카운터, 작성자 프로필은 항목 캐시만 무효화 (updatedAt 변화 없음)
+    BOOSTED(false),
+    COMMENTED(false),
+    AUTHOR_UPDATED(false),
+    AUTHOR_WITHDRAWN(true),
+    ;
+
+    private final boolean pageAffected;
+}
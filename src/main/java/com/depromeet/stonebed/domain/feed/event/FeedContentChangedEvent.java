@@ -0,0 +1,25 @@
+package com.depromeet.stonebed.domain.feed.event;
+
+import java.util.List;
+
+/**
+ * 피드에 노출되는 내용이 바뀌었음을 알리는 이벤트입니다.
+ *
+ * <p>recordIds가 null이면 해당 회원의 모든 기록이 대상입니다.
+ */
+public record FeedContentChangedEvent(
+        Long memberId, List<Long> recordIds, FeedChangeType changeType) {
+    public static FeedContentChangedEvent ofRecord(
+            Long memberId, Long recordId, FeedChangeType changeType) {
+        return new FeedContentChangedEvent(memberId, List.of(recordId), changeType);
+    }
+
+    public static FeedContentChangedEvent ofRecords(
+            Long memberId, List<Long> recordIds, FeedChangeType changeType) {
+        return new FeedContentChangedEvent(memberId, recordIds, changeType);
+    }
+
+    public static FeedContentChangedEvent ofMember(Long memberId, FeedChangeType changeType) {
+        return new FeedContentChangedEvent(memberId, null, changeType);
+    }
+}
@@ -0,0 +1,8 @@
+package com.depromeet.stonebed.domain.feed.event;
+
+/** 미션 기록에 받은 부스트가 DB에 반영되었음을 알리는 이벤트입니다. */
+public record FeedRecordBoostedEvent(Long recordId, Long boostCount) {
+    public static FeedRecordBoostedEvent of(Long recordId, Long boostCount) {
+        return new FeedRecordBoostedEvent(recordId, boostCount);
+    }
+}
@@ -0,0 +1,11 @@
+package com.depromeet.stonebed.domain.feed.event;
+
+import java.time.LocalDateTime;
+
+/** 미션 기록이 완료되어 피드에 새로 노출되기 시작했음을 알리는 이벤트입니다. */
+public record FeedRecordCompletedEvent(Long memberId, Long recordId, LocalDateTime updatedAt) {
+    public static FeedRecordCompletedEvent of(
+            Long memberId, Long recordId, LocalDateTime updatedAt) {
+        return new FeedRecordCompletedEvent(memberId, recordId, updatedAt);
+    }
+}
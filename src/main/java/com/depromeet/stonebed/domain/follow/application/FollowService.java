@@ -1,5 +1,6 @@
 package com.depromeet.stonebed.domain.follow.application;
 
+import com.depromeet.stonebed.domain.feed.application.FeedTimelineService;
 import com.depromeet.stonebed.domain.follow.dao.FollowRepository;
 import com.depromeet.stonebed.domain.follow.domain.Follow;
 import com.depromeet.stonebed.domain.follow.dto.request.FollowCreateRequest;
@@ -24,6 +25,7 @@ public class FollowService {
     private final MemberUtil memberUtil;
     private final MemberRepository memberRepository;
     private final FollowRepository followRepository;
+    private final FeedTimelineService feedTimelineService;
 
     public void createFollow(FollowCreateRequest request) {
         Member currentMember = memberUtil.getCurrentMember();
@@ -37,6 +39,7 @@ public class FollowService {
 
         Follow follow = Follow.createFollowRelation(currentMember, targetMember);
         followRepository.save(follow);
+        feedTimelineService.evictTimeline(currentMember.getId());
     }
 
     public FollowerDeletedResponse deleteFollow(Long targetId) {
@@ -49,6 +52,7 @@ public class FollowService {
                         .orElseThrow(() -> new CustomException(ErrorCode.FOLLOW_NOT_EXIST));
 
         followRepository.delete(follow);
+        feedTimelineService.evictTimeline(currentMember.getId());
         return FollowerDeletedResponse.from(FollowStatus.NOT_FOLLOWING);
     }
 
@@ -5,6 +5,8 @@ import com.depromeet.stonebed.domain.member.domain.Member;
 import java.util.List;
 import java.util.Optional;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 public interface FollowRepository extends JpaRepository<Follow, Long> {
     boolean existsBySourceIdAndTargetId(Long sourceId, Long targetId);
@@ -12,4 +14,19 @@ public interface FollowRepository extends JpaRepository<Follow, Long> {
     Optional<Follow> findBySourceAndTarget(Member currentMember, Member targetMember);
 
     List<Follow> findAllBySource(Member currentMember);
+
+    long countByTargetId(Long targetId);
+
+    @Query("SELECT f.source.id FROM Follow f WHERE f.target.id = :targetId")
+    List<Long> findSourceIdsByTargetId(@Param("targetId") Long targetId);
+
+    @Query("SELECT f.target.id FROM Follow f WHERE f.source.id = :sourceId")
+    List<Long> findTargetIdsBySourceId(@Param("sourceId") Long sourceId);
+
+    @Query(
+            "SELECT f.target.id FROM Follow f WHERE f.source.id = :sourceId"
+                    + " AND (SELECT COUNT(f2) FROM Follow f2 WHERE f2.target = f.target)"
+                    + " > :threshold")
+    List<Long> findTargetIdsBySourceIdAndFollowerCountOver(
+            @Param("sourceId") Long sourceId, @Param("threshold") long threshold);
 }
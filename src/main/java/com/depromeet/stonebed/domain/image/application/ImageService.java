@@ -5,6 +5,8 @@ import com.amazonaws.services.s3.AmazonS3;
 import com.amazonaws.services.s3.Headers;
 import com.amazonaws.services.s3.model.CannedAccessControlList;
 import com.amazonaws.services.s3.model.GeneratePresignedUrlRequest;
+import com.depromeet.stonebed.domain.feed.event.FeedChangeType;
+import com.depromeet.stonebed.domain.feed.event.FeedContentChangedEvent;
 import com.depromeet.stonebed.domain.image.dao.ImageRepository;
 import com.depromeet.stonebed.domain.image.domain.Image;
 import com.depromeet.stonebed.domain.image.domain.ImageFileExtension;
@@ -31,6 +33,7 @@ import java.net.URL;
 import java.util.Date;
 import java.util.UUID;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
@@ -47,6 +50,7 @@ public class ImageService {
     private final SpringEnvironmentUtil springEnvironmentUtil;
     private final MissionRecordService missionRecordService;
     private final MissionService missionService;
+    private final ApplicationEventPublisher eventPublisher;
 
     public PresignedUrlResponse createMemberProfilePresignedUrl(
             MemberProfileImageCreateRequest request) {
@@ -94,6 +98,9 @@ public class ImageService {
 
         isValidImageUrl(imageUrl);
         currentMember.updateProfile(Profile.createProfile(request.nickname(), imageUrl));
+        eventPublisher.publishEvent(
+                FeedContentChangedEvent.ofMember(
+                        currentMember.getId(), FeedChangeType.AUTHOR_UPDATED));
         return ImageUrlResponse.of(imageUrl);
     }
 
@@ -1,5 +1,7 @@
 package com.depromeet.stonebed.domain.member.application;
 
+import com.depromeet.stonebed.domain.feed.event.FeedChangeType;
+import com.depromeet.stonebed.domain.feed.event.FeedContentChangedEvent;
 import com.depromeet.stonebed.domain.member.domain.Member;
 import com.depromeet.stonebed.domain.member.domain.Profile;
 import com.depromeet.stonebed.domain.member.dto.request.MemberProfileUpdateRequest;
@@ -7,6 +9,7 @@ import com.depromeet.stonebed.domain.member.dto.request.NicknameCheckRequest;
 import com.depromeet.stonebed.domain.member.dto.response.MemberInfoResponse;
 import com.depromeet.stonebed.global.util.MemberUtil;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -16,6 +19,7 @@ import org.springframework.transaction.annotation.Transactional;
 public class MemberService {
 
     private final MemberUtil memberUtil;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional(readOnly = true)
     public MemberInfoResponse findMemberMyInfo() {
@@ -40,6 +44,8 @@ public class MemberService {
 
         Profile profile = Profile.createProfile(request.nickname(), request.profileImageUrl());
         member.updateProfile(profile);
+        eventPublisher.publishEvent(
+                FeedContentChangedEvent.ofMember(member.getId(), FeedChangeType.AUTHOR_UPDATED));
     }
 
     public MemberInfoResponse findMemberInfoByNickname(String nickname) {
@@ -1,10 +1,14 @@
 package com.depromeet.stonebed.domain.missionRecord.api;
 
+import com.depromeet.stonebed.domain.missionRecord.application.BoostLeaderboardService;
 import com.depromeet.stonebed.domain.missionRecord.application.MissionRecordService;
+import com.depromeet.stonebed.domain.missionRecord.dto.request.BoostLeaderboardGetRequest;
 import com.depromeet.stonebed.domain.missionRecord.dto.request.MissionRecordBoostRequest;
 import com.depromeet.stonebed.domain.missionRecord.dto.request.MissionRecordCalendarRequest;
 import com.depromeet.stonebed.domain.missionRecord.dto.request.MissionRecordSaveRequest;
 import com.depromeet.stonebed.domain.missionRecord.dto.request.MissionRecordStartRequest;
+import com.depromeet.stonebed.domain.missionRecord.dto.response.BoostLeaderboardResponse;
+import com.depromeet.stonebed.domain.missionRecord.dto.response.MissionRecordBoostResponse;
 import com.depromeet.stonebed.domain.missionRecord.dto.response.MissionRecordCalendarResponse;
 import com.depromeet.stonebed.domain.missionRecord.dto.response.MissionRecordCompleteTotal;
 import com.depromeet.stonebed.domain.missionRecord.dto.response.MissionRecordIdResponse;
@@ -26,6 +30,7 @@ import org.springframework.web.bind.annotation.*;
 public class MissionRecordController {
 
     private final MissionRecordService missionRecordService;
+    private final BoostLeaderboardService boostLeaderboardService;
 
     @Operation(summary = "미션 탭 완료된 기록 리스트", description = "미션 탭에서 완료된 기록 리스트를 조회한다.")
     @GetMapping
@@ -80,10 +85,19 @@ public class MissionRecordController {
 
     @Operation(summary = "부스트 생성", description = "미션 기록에 부스트를 생성한다.")
     @PostMapping("/{recordId}/boost")
-    public ResponseEntity<Void> createMissionRecordBoost(
+    public ResponseEntity<MissionRecordBoostResponse> createMissionRecordBoost(
             @PathVariable("recordId") Long recordId,
             final @Valid @RequestBody MissionRecordBoostRequest request) {
-        missionRecordService.createBoost(recordId, request.count());
-        return ResponseEntity.status(HttpStatus.CREATED).build();
+        return ResponseEntity.status(HttpStatus.CREATED)
+                .body(missionRecordService.createBoost(recordId, request.count()));
+    }
+
+    @Operation(
+            summary = "부스트 랭킹 조회",
+            description = "오늘 또는 이번 주에 부스트를 많이 받은 미션 기록 순위를 조회한다. 피드 내용은 피드 일괄 조회 API로 조회한다.")
+    @GetMapping("/boost/leaderboard")
+    public BoostLeaderboardResponse boostLeaderboardFind(
+            @Valid BoostLeaderboardGetRequest request) {
+        return boostLeaderboardService.findLeaderboard(request);
     }
 }
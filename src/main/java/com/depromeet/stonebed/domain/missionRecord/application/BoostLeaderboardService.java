@@ -0,0 +1,173 @@
+package com.depromeet.stonebed.domain.missionRecord.application;
+
+import static com.depromeet.stonebed.global.common.constants.BoostConstants.*;
+
+import com.depromeet.stonebed.domain.missionRecord.dao.BoostLeaderboardSnapshotRepository;
+import com.depromeet.stonebed.domain.missionRecord.domain.BoostLeaderboardPeriod;
+import com.depromeet.stonebed.domain.missionRecord.domain.BoostLeaderboardSnapshot;
+import com.depromeet.stonebed.domain.missionRecord.dto.request.BoostLeaderboardGetRequest;
+import com.depromeet.stonebed.domain.missionRecord.dto.response.BoostLeaderboardItem;
+import com.depromeet.stonebed.domain.missionRecord.dto.response.BoostLeaderboardResponse;
+import com.depromeet.stonebed.global.common.constants.RedisKeyConstants;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.temporal.TemporalAdjusters;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations.TypedTuple;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 기록별 부스트 수 랭킹을 일자별 Redis ZSET으로 관리합니다.
+ *
+ * <p>부스트가 들어올 때마다 오늘 ZSET의 점수를 올리고, 주간 랭킹은 이번 주 일자별 ZSET을 ZUNIONSTORE로 합쳐 짧게 캐싱합니다. 전날
+ * 랭킹은 매일 밤 DB에 이력으로 저장합니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class BoostLeaderboardService {
+    private static final RedisScript<Long> INCREASE_SCRIPT =
+            new DefaultRedisScript<>(
+                    """
+                    redis.call('ZINCRBY', KEYS[1], ARGV[2], ARGV[1])
+                    redis.call('EXPIRE', KEYS[1], ARGV[3])
+                    return 1
+                    """,
+                    Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+    private final BoostLeaderboardSnapshotRepository boostLeaderboardSnapshotRepository;
+
+    public void increaseBoostCount(Long missionRecordId, Long boostCount) {
+        try {
+            redisTemplate.execute(
+                    INCREASE_SCRIPT,
+                    List.of(RedisKeyConstants.boostLeaderboardDailyKey(LocalDate.now())),
+                    String.valueOf(missionRecordId),
+                    String.valueOf(boostCount),
+                    String.valueOf(BOOST_LEADERBOARD_DAILY_TTL.toSeconds()));
+        } catch (DataAccessException e) {
+            log.warn("부스트 랭킹 갱신 실패 - missionRecordId: {}", missionRecordId, e);
+        }
+    }
+
+    // Redis를 사용할 수 없으면 빈 랭킹을 반환
+    public BoostLeaderboardResponse findLeaderboard(BoostLeaderboardGetRequest request) {
+        LocalDate today = LocalDate.now();
+        try {
+            String key =
+                    request.period() == BoostLeaderboardPeriod.WEEKLY
+                            ? getWeeklyKey(today)
+                            : RedisKeyConstants.boostLeaderboardDailyKey(today);
+            return BoostLeaderboardResponse.from(findRanking(key, request.limit()));
+        } catch (DataAccessException e) {
+            log.warn("부스트 랭킹 조회 실패 - period: {}", request.period(), e);
+            return BoostLeaderboardResponse.from(List.of());
+        }
+    }
+
+    /**
+     * 전날 랭킹을 DB에 저장합니다. 이미 저장된 날짜는 다시 저장하지 않습니다.
+     *
+     * <p>여러 서버가 동시에 저장하면 (날짜, 기록), (날짜, 순위) 유니크 키로 나중 트랜잭션이 {@link
+     * org.springframework.dao.DataIntegrityViolationException}으로 실패합니다.
+     */
+    @Transactional
+    public int snapshot(LocalDate rankingDate) {
+        if (boostLeaderboardSnapshotRepository.existsByRankingDate(rankingDate)) {
+            return 0;
+        }
+
+        List<BoostLeaderboardItem> ranking =
+                findRanking(
+                        RedisKeyConstants.boostLeaderboardDailyKey(rankingDate),
+                        BOOST_LEADERBOARD_SNAPSHOT_SIZE);
+        List<BoostLeaderboardSnapshot> snapshots =
+                ranking.stream()
+                        .map(
+                                item ->
+                                        BoostLeaderboardSnapshot.createBoostLeaderboardSnapshot(
+                                                rankingDate,
+                                                item.rank(),
+                                                item.missionRecordId(),
+                                                item.boostCount()))
+                        .toList();
+        boostLeaderboardSnapshotRepository.saveAll(snapshots);
+        return snapshots.size();
+    }
+
+    // 주간 랭킹에 합산되는 기간의 일자별 랭킹에서 삭제
+    public void removeAll(Collection<Long> missionRecordIds) {
+        if (missionRecordIds.isEmpty()) {
+            return;
+        }
+
+        LocalDate today = LocalDate.now();
+        Object[] members = missionRecordIds.stream().map(String::valueOf).toArray();
+        try {
+            for (LocalDate date = getWeekStartDate(today);
+                    !date.isAfter(today);
+                    date = date.plusDays(1)) {
+                redisTemplate
+                        .opsForZSet()
+                        .remove(RedisKeyConstants.boostLeaderboardDailyKey(date), members);
+            }
+            redisTemplate.delete(
+                    RedisKeyConstants.boostLeaderboardWeeklyKey(getWeekStartDate(today), today));
+        } catch (DataAccessException e) {
+            log.warn("부스트 랭킹 삭제 실패 - missionRecordIds: {}", missionRecordIds, e);
+        }
+    }
+
+    private String getWeeklyKey(LocalDate today) {
+        LocalDate startDate = getWeekStartDate(today);
+        String weeklyKey = RedisKeyConstants.boostLeaderboardWeeklyKey(startDate, today);
+        if (Boolean.TRUE.equals(redisTemplate.hasKey(weeklyKey))) {
+            return weeklyKey;
+        }
+
+        List<String> dailyKeys =
+                startDate
+                        .datesUntil(today.plusDays(1))
+                        .map(RedisKeyConstants::boostLeaderboardDailyKey)
+                        .toList();
+        redisTemplate
+                .opsForZSet()
+                .unionAndStore(
+                        dailyKeys.get(0), dailyKeys.subList(1, dailyKeys.size()), weeklyKey);
+        redisTemplate.expire(weeklyKey, BOOST_LEADERBOARD_WEEKLY_TTL);
+        return weeklyKey;
+    }
+
+    private List<BoostLeaderboardItem> findRanking(String key, int size) {
+        Set<TypedTuple<String>> tuples =
+                redisTemplate.opsForZSet().reverseRangeWithScores(key, 0, size - 1);
+        if (tuples == null) {
+            return List.of();
+        }
+
+        List<BoostLeaderboardItem> ranking = new ArrayList<>();
+        for (TypedTuple<String> tuple : tuples) {
+            ranking.add(
+                    BoostLeaderboardItem.of(
+                            ranking.size() + 1,
+                            Long.valueOf(tuple.getValue()),
+                            Math.round(tuple.getScore())));
+        }
+        return ranking;
+    }
+
+    private LocalDate getWeekStartDate(LocalDate date) {
+        return date.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+    }
+}
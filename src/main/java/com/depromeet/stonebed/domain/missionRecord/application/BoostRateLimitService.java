@@ -0,0 +1,144 @@
+package com.depromeet.stonebed.domain.missionRecord.application;
+
+import static com.depromeet.stonebed.global.common.constants.BoostConstants.*;
+
+import com.depromeet.stonebed.global.common.constants.RedisKeyConstants;
+import com.depromeet.stonebed.global.error.ErrorCode;
+import com.depromeet.stonebed.global.error.exception.CustomException;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Service;
+
+/**
+ * 회원별, (회원, 기록)별 토큰 버킷으로 부스트 요청 속도를 제한합니다.
+ *
+ * <p>버킷 상태는 Redis에 두어 모든 서버가 공유합니다. 한도를 넘은 키는 다시 채워질 때까지 서버 메모리에서 바로 거절해 같은 키로 몰리는 요청이
+ * Redis까지 가지 않도록 합니다. Redis 장애 시에는 제한하지 않습니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class BoostRateLimitService {
+    private static final String REJECTED_METRIC = "boost.rate.limit.rejected";
+
+    // 모든 버킷에 토큰이 있을 때만 하나씩 차감하고, 부족하면 버킷별로 다시 채워질 때까지 남은 밀리초를 반환
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> TOKEN_BUCKET_SCRIPT =
+            new DefaultRedisScript<>(
+                    """
+                    local time = redis.call('TIME')
+                    local now = tonumber(time[1]) * 1000 + math.floor(tonumber(time[2]) / 1000)
+                    local tokens = {}
+                    local retryAfter = {}
+                    local rejected = false
+
+                    for i = 1, #KEYS do
+                        local capacity = tonumber(ARGV[i * 2 - 1])
+                        local rate = tonumber(ARGV[i * 2]) / 1000
+                        local bucket = redis.call('HMGET', KEYS[i], 'tokens', 'updated')
+                        local current = tonumber(bucket[1]) or capacity
+                        local elapsed = math.max(0, now - (tonumber(bucket[2]) or now))
+                        tokens[i] = math.min(capacity, current + elapsed * rate)
+                        retryAfter[i] = 0
+                        if tokens[i] < 1 then
+                            retryAfter[i] = math.ceil((1 - tokens[i]) / rate)
+                            rejected = true
+                        end
+                    end
+
+                    if rejected then
+                        return retryAfter
+                    end
+
+                    for i = 1, #KEYS do
+                        local capacity = tonumber(ARGV[i * 2 - 1])
+                        local rate = tonumber(ARGV[i * 2]) / 1000
+                        redis.call('HSET', KEYS[i], 'tokens', tokens[i] - 1, 'updated', now)
+                        redis.call('PEXPIRE', KEYS[i], math.ceil(capacity / rate))
+                    end
+                    return retryAfter
+                    """,
+                    List.class);
+
+    private final StringRedisTemplate redisTemplate;
+    private final MeterRegistry meterRegistry;
+
+    // 한도를 넘은 키와 다시 요청할 수 있는 시각(epoch millis)
+    private final Map<String, Long> blockedUntil = new ConcurrentHashMap<>();
+
+    public void checkLimit(Long memberId, Long missionRecordId) {
+        String memberKey = RedisKeyConstants.boostMemberRateLimitKey(memberId);
+        String recordKey = RedisKeyConstants.boostRecordRateLimitKey(memberId, missionRecordId);
+        long now = System.currentTimeMillis();
+
+        if (isBlocked(memberKey, now) || isBlocked(recordKey, now)) {
+            reject("local");
+        }
+
+        List<String> keys = List.of(memberKey, recordKey);
+        List<?> retryAfterMillis;
+        try {
+            retryAfterMillis =
+                    redisTemplate.execute(
+                            TOKEN_BUCKET_SCRIPT,
+                            keys,
+                            String.valueOf(BOOST_MEMBER_BUCKET_CAPACITY),
+                            String.valueOf(BOOST_MEMBER_REFILL_PER_SECOND),
+                            String.valueOf(BOOST_RECORD_BUCKET_CAPACITY),
+                            String.valueOf(BOOST_RECORD_REFILL_PER_SECOND));
+        } catch (DataAccessException e) {
+            log.warn("부스트 요청 속도 확인 실패 - memberId: {}", memberId, e);
+            return;
+        }
+        if (retryAfterMillis == null) {
+            return;
+        }
+
+        boolean rejected = false;
+        for (int i = 0; i < keys.size(); i++) {
+            long retryAfter = ((Number) retryAfterMillis.get(i)).longValue();
+            if (retryAfter > 0) {
+                block(keys.get(i), now + retryAfter);
+                rejected = true;
+            }
+        }
+        if (rejected) {
+            reject("redis");
+        }
+    }
+
+    private boolean isBlocked(String key, long now) {
+        Long until = blockedUntil.get(key);
+        if (until == null) {
+            return false;
+        }
+        if (until <= now) {
+            blockedUntil.remove(key, until);
+            return false;
+        }
+        return true;
+    }
+
+    private void block(String key, long until) {
+        if (blockedUntil.size() >= BOOST_LOCAL_BLOCK_MAX_SIZE) {
+            long now = System.currentTimeMillis();
+            blockedUntil.values().removeIf(value -> value <= now);
+        }
+        if (blockedUntil.size() < BOOST_LOCAL_BLOCK_MAX_SIZE) {
+            blockedUntil.put(key, until);
+        }
+    }
+
+    private void reject(String source) {
+        meterRegistry.counter(REJECTED_METRIC, "source", source).increment();
+        throw new CustomException(ErrorCode.BOOST_RATE_LIMIT_EXCEEDED);
+    }
+}
@@ -0,0 +1,169 @@
+package com.depromeet.stonebed.domain.missionRecord.application;
+
+import static com.depromeet.stonebed.global.common.constants.BoostConstants.*;
+
+import com.depromeet.stonebed.domain.missionRecord.dao.MissionRecordBoostFlushRepository;
+import com.depromeet.stonebed.domain.missionRecord.dto.MissionRecordBoostDelta;
+import com.depromeet.stonebed.domain.missionRecord.dto.MissionRecordBoostFlushBatch;
+import com.depromeet.stonebed.global.common.constants.RedisKeyConstants;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 부스트를 Redis에 (기록, 회원) 단위로 모았다가 주기적으로 DB에 한 번에 반영합니다.
+ *
+ * <p>반영할 묶음은 RENAME으로 넘겨받아 그 사이 들어오는 부스트와 섞이지 않고, 반영 도중 서버가 내려가도 다음 실행에서 같은 묶음 ID로 이어서
+ * 처리합니다. 같은 묶음이 두 번 반영되지 않도록 DB에 묶음 ID를 함께 기록하고, 여러 서버가 같은 묶음을 처리해도 자신이 처리한
+ * 묶음만 지웁니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class MissionRecordBoostService {
+    private static final String FIELD_DELIMITER = ":";
+
+    // 반영 대기 중인 부스트와 반영 중인 부스트를 더해 DB에 아직 없는 부스트 수를 반환
+    private static final RedisScript<Long> ACCUMULATE_SCRIPT =
+            new DefaultRedisScript<>(
+                    """
+                    redis.call('HINCRBY', KEYS[1], ARGV[1], ARGV[3])
+                    local pending = redis.call('HINCRBY', KEYS[2], ARGV[2], ARGV[3])
+                    local flushing = redis.call('HGET', KEYS[3], ARGV[2])
+                    return pending + (tonumber(flushing) or 0)
+                    """,
+                    Long.class);
+
+    // 반영 중인 묶음이 남아 있으면 그 묶음을 다시 처리. 묶음 ID와 항목을 함께 반환해 다른 묶음과 섞이지 않도록 함
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> CLAIM_SCRIPT =
+            new DefaultRedisScript<>(
+                    """
+                    if redis.call('EXISTS', KEYS[3]) == 0 then
+                        if redis.call('EXISTS', KEYS[1]) == 0 then
+                            return {}
+                        end
+                        redis.call('RENAME', KEYS[1], KEYS[3])
+                        if redis.call('EXISTS', KEYS[2]) == 1 then
+                            redis.call('RENAME', KEYS[2], KEYS[4])
+                        end
+                        redis.call('SET', KEYS[5], ARGV[1])
+                    end
+                    local flushId = redis.call('GET', KEYS[5])
+                    if not flushId then
+                        flushId = ARGV[1]
+                        redis.call('SET', KEYS[5], flushId)
+                    end
+                    local result = {flushId}
+                    for _, value in ipairs(redis.call('HGETALL', KEYS[3])) do
+                        result[#result + 1] = value
+                    end
+                    return result
+                    """,
+                    List.class);
+
+    // 처리한 묶음이 아직 반영 중인 묶음일 때만 삭제 (다른 서버가 먼저 끝내고 새 묶음을 가져갔으면 그대로 둠)
+    private static final RedisScript<Long> COMPLETE_SCRIPT =
+            new DefaultRedisScript<>(
+                    """
+                    if redis.call('GET', KEYS[3]) ~= ARGV[1] then
+                        return 0
+                    end
+                    redis.call('DEL', KEYS[1], KEYS[2], KEYS[3])
+                    return 1
+                    """,
+                    Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+    private final MissionRecordBoostFlushRepository missionRecordBoostFlushRepository;
+
+    /**
+     * 부스트를 모아두고, 아직 DB에 반영되지 않은 해당 기록의 부스트 수를 반환합니다.
+     *
+     * @return Redis를 사용할 수 없으면 null
+     */
+    public Long accumulate(Long missionRecordId, Long memberId, Long count) {
+        try {
+            return redisTemplate.execute(
+                    ACCUMULATE_SCRIPT,
+                    List.of(
+                            RedisKeyConstants.BOOST_PENDING_KEY,
+                            RedisKeyConstants.BOOST_PENDING_RECORD_KEY,
+                            RedisKeyConstants.BOOST_FLUSHING_RECORD_KEY),
+                    missionRecordId + FIELD_DELIMITER + memberId,
+                    String.valueOf(missionRecordId),
+                    String.valueOf(count));
+        } catch (DataAccessException e) {
+            log.warn("부스트 누적 실패 - recordId: {}", missionRecordId, e);
+            return null;
+        }
+    }
+
+    /**
+     * 모아둔 부스트를 반영할 묶음으로 넘겨받습니다. 반영 중인 묶음이 남아 있으면 그 묶음을 다시 반환합니다.
+     *
+     * @return 반영할 부스트가 없으면 빈 값
+     */
+    public Optional<MissionRecordBoostFlushBatch> claimPendingBoosts() {
+        List<?> claimed =
+                redisTemplate.execute(
+                        CLAIM_SCRIPT,
+                        List.of(
+                                RedisKeyConstants.BOOST_PENDING_KEY,
+                                RedisKeyConstants.BOOST_PENDING_RECORD_KEY,
+                                RedisKeyConstants.BOOST_FLUSHING_KEY,
+                                RedisKeyConstants.BOOST_FLUSHING_RECORD_KEY,
+                                RedisKeyConstants.BOOST_FLUSH_ID_KEY),
+                        UUID.randomUUID().toString());
+        if (claimed == null || claimed.isEmpty()) {
+            return Optional.empty();
+        }
+
+        return Optional.of(
+                MissionRecordBoostFlushBatch.of(
+                        String.valueOf(claimed.get(0)),
+                        toDeltas(claimed.subList(1, claimed.size()))));
+    }
+
+    // DB 반영이 커밋된 뒤에 묶음을 지워야 실패 시 다음 실행에서 다시 처리할 수 있음
+    public void completeFlush(String flushId) {
+        redisTemplate.execute(
+                COMPLETE_SCRIPT,
+                List.of(
+                        RedisKeyConstants.BOOST_FLUSHING_KEY,
+                        RedisKeyConstants.BOOST_FLUSHING_RECORD_KEY,
+                        RedisKeyConstants.BOOST_FLUSH_ID_KEY),
+                flushId);
+    }
+
+    // 묶음 ID는 반영 중인 묶음이 지워질 때까지만 필요하므로 보관 기간이 지나면 삭제
+    @Transactional
+    public int purgeFlushHistory() {
+        return missionRecordBoostFlushRepository.deleteAllByCreatedAtBefore(
+                LocalDateTime.now().minus(BOOST_FLUSH_RETENTION));
+    }
+
+    // (기록:회원, 부스트 수)가 번갈아 담긴 HGETALL 결과
+    private List<MissionRecordBoostDelta> toDeltas(List<?> entries) {
+        List<MissionRecordBoostDelta> deltas = new ArrayList<>();
+        for (int i = 0; i + 1 < entries.size(); i += 2) {
+            String[] ids = String.valueOf(entries.get(i)).split(FIELD_DELIMITER);
+            deltas.add(
+                    MissionRecordBoostDelta.of(
+                            Long.valueOf(ids[0]),
+                            Long.valueOf(ids[1]),
+                            Long.valueOf(String.valueOf(entries.get(i + 1)))));
+        }
+        return deltas;
+    }
+}
@@ -1,19 +1,27 @@
 package com.depromeet.stonebed.domain.missionRecord.application;
 
 import com.depromeet.stonebed.domain.fcm.application.FcmNotificationService;
+import com.depromeet.stonebed.domain.feed.event.FeedChangeType;
+import com.depromeet.stonebed.domain.feed.event.FeedContentChangedEvent;
+import com.depromeet.stonebed.domain.feed.event.FeedRecordBoostedEvent;
+import com.depromeet.stonebed.domain.feed.event.FeedRecordCompletedEvent;
 import com.depromeet.stonebed.domain.member.domain.Member;
 import com.depromeet.stonebed.domain.member.domain.RaisePet;
 import com.depromeet.stonebed.domain.mission.dao.MissionRepository;
 import com.depromeet.stonebed.domain.mission.domain.Mission;
 import com.depromeet.stonebed.domain.missionHistory.dao.MissionHistoryRepository;
 import com.depromeet.stonebed.domain.missionHistory.domain.MissionHistory;
+import com.depromeet.stonebed.domain.missionRecord.dao.MissionRecordBoostBulkRepository;
 import com.depromeet.stonebed.domain.missionRecord.dao.MissionRecordBoostRepository;
 import com.depromeet.stonebed.domain.missionRecord.dao.MissionRecordRepository;
 import com.depromeet.stonebed.domain.missionRecord.domain.MissionRecord;
 import com.depromeet.stonebed.domain.missionRecord.domain.MissionRecordBoost;
 import com.depromeet.stonebed.domain.missionRecord.domain.MissionRecordDisplay;
 import com.depromeet.stonebed.domain.missionRecord.domain.MissionRecordStatus;
+import com.depromeet.stonebed.domain.missionRecord.dto.MissionRecordBoostDelta;
+import com.depromeet.stonebed.domain.missionRecord.dto.MissionRecordBoostFlushBatch;
 import com.depromeet.stonebed.domain.missionRecord.dto.request.MissionRecordCalendarRequest;
+import com.depromeet.stonebed.domain.missionRecord.dto.response.MissionRecordBoostResponse;
 import com.depromeet.stonebed.domain.missionRecord.dto.response.MissionRecordCalendarDto;
 import com.depromeet.stonebed.domain.missionRecord.dto.response.MissionRecordCalendarResponse;
 import com.depromeet.stonebed.domain.missionRecord.dto.response.MissionRecordCompleteTotal;
@@ -28,9 +36,13 @@ import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.time.format.DateTimeParseException;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
@@ -38,15 +50,20 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
+@Slf4j
 @Service
 @RequiredArgsConstructor
 @Transactional
 public class MissionRecordService {
+    private final MissionRecordBoostService missionRecordBoostService;
+    private final BoostRateLimitService boostRateLimitService;
     private final FcmNotificationService fcmNotificationService;
+    private final ApplicationEventPublisher eventPublisher;
     private final MissionRecordRepository missionRecordRepository;
     private final MissionRepository missionRepository;
     private final MissionHistoryRepository missionHistoryRepository;
     private final MissionRecordBoostRepository missionRecordBoostRepository;
+    private final MissionRecordBoostBulkRepository missionRecordBoostBulkRepository;
     private final MemberUtil memberUtil;
 
     private static final DateTimeFormatter DATE_FORMATTER =
@@ -103,6 +120,9 @@ public class MissionRecordService {
         missionRecord.updateContent(content);
 
         missionRecordRepository.save(missionRecord);
+        eventPublisher.publishEvent(
+                FeedContentChangedEvent.ofRecord(
+                        member.getId(), missionRecord.getId(), FeedChangeType.CONTENT_UPDATED));
     }
 
     public void deleteMissionRecord(Long recordId) {
@@ -112,10 +132,15 @@ public class MissionRecordService {
                         .orElseThrow(() -> new CustomException(ErrorCode.MISSION_RECORD_NOT_FOUND));
 
         missionRecordRepository.delete(missionRecord);
+        eventPublisher.publishEvent(
+                FeedContentChangedEvent.ofRecord(
+                        missionRecord.getMember().getId(), recordId, FeedChangeType.DELETED));
     }
 
-    public void createBoost(Long missionRecordId, Long boostCount) {
+    public MissionRecordBoostResponse createBoost(Long missionRecordId, Long boostCount) {
         Member currentMember = memberUtil.getCurrentMember();
+        boostRateLimitService.checkLimit(currentMember.getId(), missionRecordId);
+
         MissionRecord missionRecord =
                 missionRecordRepository
                         .findById(missionRecordId)
@@ -125,13 +150,78 @@ public class MissionRecordService {
             throw new CustomException(ErrorCode.BOOST_UNAVAILABLE_MY_FEED);
         }
 
+        // 연속 탭으로 들어오는 부스트는 Redis에 모았다가 스케줄러가 한 번에 반영
+        Long unflushedBoostCount =
+                missionRecordBoostService.accumulate(
+                        missionRecordId, currentMember.getId(), boostCount);
+        if (unflushedBoostCount != null) {
+            return MissionRecordBoostResponse.of(
+                    missionRecord.getBoostCount() + unflushedBoostCount);
+        }
+
+        saveBoost(missionRecord, currentMember, boostCount);
+        return MissionRecordBoostResponse.of(missionRecord.getBoostCount() + boostCount);
+    }
+
+    // Redis를 사용할 수 없을 때는 바로 DB에 반영
+    private void saveBoost(MissionRecord missionRecord, Member member, Long boostCount) {
         MissionRecordBoost missionRecordBoost =
-                MissionRecordBoost.createMissionRecordBoost(
-                        missionRecord, currentMember, boostCount);
+                MissionRecordBoost.createMissionRecordBoost(missionRecord, member, boostCount);
 
         missionRecordBoostRepository.save(missionRecordBoost);
+        missionRecordRepository.increaseBoostCount(missionRecord.getId(), boostCount);
+        handleBoostedRecord(
+                missionRecord,
+                missionRecord.getBoostCount(),
+                missionRecord.getBoostCount() + boostCount);
+    }
+
+    /**
+     * Redis에서 넘겨받은 부스트 묶음을 DB에 반영합니다.
+     *
+     * <p>부스트 수 증가와 부스트 알림 저장, 발송 메시지(아웃박스) 저장이 같은 트랜잭션에서 커밋되므로, 반영 이후 서버가 내려가도 알림이
+     * 사라지지 않습니다. 이미 반영된 묶음이면 아무것도 하지 않습니다.
+     */
+    public void applyFlushedBoosts(MissionRecordBoostFlushBatch batch) {
+        if (batch.deltas().isEmpty()) {
+            return;
+        }
+        if (!missionRecordBoostBulkRepository.saveAll(batch.flushId(), batch.deltas())) {
+            log.info("이미 반영된 부스트 묶음 - flushId: {}", batch.flushId());
+            return;
+        }
+
+        Map<Long, Long> countsByRecordId =
+                batch.deltas().stream()
+                        .collect(
+                                Collectors.groupingBy(
+                                        MissionRecordBoostDelta::missionRecordId,
+                                        Collectors.summingLong(MissionRecordBoostDelta::count)));
+
+        // 증가시킨 뒤에 조회하므로 이번 묶음까지 반영된 부스트 수
+        missionRecordRepository
+                .findAllById(countsByRecordId.keySet())
+                .forEach(
+                        missionRecord ->
+                                handleBoostedRecord(
+                                        missionRecord,
+                                        missionRecord.getBoostCount()
+                                                - countsByRecordId.get(missionRecord.getId()),
+                                        missionRecord.getBoostCount()));
+    }
 
-        fcmNotificationService.checkAndSendBoostNotification(missionRecord);
+    private void handleBoostedRecord(
+            MissionRecord missionRecord, long previousBoostCount, long totalBoostCount) {
+        eventPublisher.publishEvent(
+                FeedContentChangedEvent.ofRecord(
+                        missionRecord.getMember().getId(),
+                        missionRecord.getId(),
+                        FeedChangeType.BOOSTED));
+        eventPublisher.publishEvent(
+                FeedRecordBoostedEvent.of(
+                        missionRecord.getId(), totalBoostCount - previousBoostCount));
+        fcmNotificationService.sendBoostMilestoneNotification(
+                missionRecord, previousBoostCount, totalBoostCount);
     }
 
     private MissionHistory findMissionHistoryByIdAndRaisePet(Long missionId, RaisePet raisePet) {
@@ -258,6 +348,17 @@ public class MissionRecordService {
                         .orElseThrow(() -> new CustomException(ErrorCode.MISSION_RECORD_NOT_FOUND));
         missionRecord.updateStatus(MissionRecordStatus.COMPLETED);
         missionRecord.updateImageUrl(imageUrl);
+
+        // 변경된 updatedAt을 타임라인 정렬 점수로 사용하기 위해 먼저 반영
+        missionRecordRepository.flush();
+        eventPublisher.publishEvent(
+                FeedContentChangedEvent.ofRecord(
+                        missionRecord.getMember().getId(), recordId, FeedChangeType.COMPLETED));
+        eventPublisher.publishEvent(
+                FeedRecordCompletedEvent.of(
+                        missionRecord.getMember().getId(),
+                        recordId,
+                        missionRecord.getUpdatedAt()));
     }
 
     @Transactional(readOnly = true)
@@ -277,6 +378,14 @@ public class MissionRecordService {
         missionRecordRepository.updateExpiredMissionsToNotCompleted(endOfYesterday);
     }
 
+    public long repairFeedCounters() {
+        long commentRepaired = missionRecordRepository.repairCommentCounts();
+        long boostRepaired = missionRecordRepository.repairBoostCounts();
+        log.info(
+                "피드 카운터 보정 완료 - 댓글: {}건, 부스트: {}건", commentRepaired, boostRepaired);
+        return commentRepaired + boostRepaired;
+    }
+
     @Transactional(readOnly = true)
     public MissionRecordTabListResponse findCompleteMissionRecords(Long missionId) {
         final Member member = memberUtil.getCurrentMember();
@@ -0,0 +1,10 @@
+package com.depromeet.stonebed.domain.missionRecord.dao;
+
+import com.depromeet.stonebed.domain.missionRecord.domain.BoostLeaderboardSnapshot;
+import java.time.LocalDate;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface BoostLeaderboardSnapshotRepository
+        extends JpaRepository<BoostLeaderboardSnapshot, Long> {
+    boolean existsByRankingDate(LocalDate rankingDate);
+}
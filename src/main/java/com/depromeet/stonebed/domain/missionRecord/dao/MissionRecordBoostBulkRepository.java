@@ -0,0 +1,77 @@
+package com.depromeet.stonebed.domain.missionRecord.dao;
+
+import com.depromeet.stonebed.domain.missionRecord.dto.MissionRecordBoostDelta;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+@Repository
+@RequiredArgsConstructor
+public class MissionRecordBoostBulkRepository {
+    // 그 사이 삭제된 기록의 부스트는 버림
+    private static final String INSERT_BOOST_SQL =
+            "INSERT INTO mission_record_boost"
+                    + " (mission_record_id, member_id, count, created_at, updated_at)"
+                    + " SELECT ?, ?, ?, ?, ? FROM mission_record WHERE record_id = ?";
+    private static final String INSERT_FLUSH_SQL =
+            "INSERT INTO mission_record_boost_flush (flush_id, created_at, updated_at)"
+                    + " VALUES (?, ?, ?)";
+    private static final String INCREASE_BOOST_COUNT_SQL =
+            "UPDATE mission_record SET boost_count = boost_count + ? WHERE record_id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 모아둔 부스트를 한 트랜잭션에서 배치로 반영합니다.
+     *
+     * <p>묶음 ID를 먼저 저장해, 여러 서버가 같은 묶음을 동시에 반영하면 나중 서버는 먼저 반영한 트랜잭션이 끝날 때까지 기다렸다가 중복
+     * 키로 실패합니다.
+     *
+     * @return 이미 반영된 묶음이면 false
+     */
+    @Transactional
+    public boolean saveAll(String flushId, List<MissionRecordBoostDelta> deltas) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        try {
+            jdbcTemplate.update(INSERT_FLUSH_SQL, flushId, now, now);
+        } catch (DuplicateKeyException e) {
+            return false;
+        }
+
+        jdbcTemplate.batchUpdate(
+                INSERT_BOOST_SQL,
+                deltas,
+                deltas.size(),
+                (ps, delta) -> {
+                    ps.setLong(1, delta.missionRecordId());
+                    ps.setLong(2, delta.memberId());
+                    ps.setLong(3, delta.count());
+                    ps.setTimestamp(4, now);
+                    ps.setTimestamp(5, now);
+                    ps.setLong(6, delta.missionRecordId());
+                });
+
+        Map<Long, Long> countsByRecordId =
+                deltas.stream()
+                        .collect(
+                                Collectors.groupingBy(
+                                        MissionRecordBoostDelta::missionRecordId,
+                                        Collectors.summingLong(MissionRecordBoostDelta::count)));
+        jdbcTemplate.batchUpdate(
+                INCREASE_BOOST_COUNT_SQL,
+                List.copyOf(countsByRecordId.entrySet()),
+                countsByRecordId.size(),
+                (ps, entry) -> {
+                    ps.setLong(1, entry.getValue());
+                    ps.setLong(2, entry.getKey());
+                });
+        return true;
+    }
+}
@@ -0,0 +1,15 @@
+package com.depromeet.stonebed.domain.missionRecord.dao;
+
+import com.depromeet.stonebed.domain.missionRecord.domain.MissionRecordBoostFlush;
+import java.time.LocalDateTime;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface MissionRecordBoostFlushRepository
+        extends JpaRepository<MissionRecordBoostFlush, String> {
+    @Modifying
+    @Query("DELETE FROM MissionRecordBoostFlush f WHERE f.createdAt < :createdAt")
+    int deleteAllByCreatedAtBefore(@Param("createdAt") LocalDateTime createdAt);
+}
@@ -8,10 +8,6 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
 public interface MissionRecordBoostRepository extends JpaRepository<MissionRecordBoost, Long> {
-    @Query(
-            "SELECT SUM(mrb.count) FROM MissionRecordBoost mrb WHERE mrb.missionRecord.id = :missionRecordId")
-    Long sumBoostCountByMissionRecord(@Param("missionRecordId") Long missionRecordId);
-
     @Modifying
     @Query("DELETE FROM MissionRecordBoost mrb WHERE mrb.missionRecord.id in (:missionRecordIds)")
     void deleteAllByRecordIds(@Param("missionRecordIds") List<Long> missionRecordIds);
@@ -19,9 +19,6 @@ public interface MissionRecordRepository
 
     Long countByMemberIdAndStatus(Long memberId, MissionRecordStatus status);
 
-    List<MissionRecord> findAllByCreatedAtBetweenAndStatus(
-            LocalDateTime startTime, LocalDateTime endTime, MissionRecordStatus status);
-
     List<MissionRecord> findByIdIn(List<Long> ids);
 
     boolean existsByMemberAndMissionHistoryAndStatusAndCreatedAtBetween(
@@ -23,4 +23,12 @@ public interface MissionRecordRepositoryCustom {
 
     List<MissionTabResponse> findAllTabMissionsByMemberAndStatus(
             Member member, MissionRecordStatus status);
+
+    void increaseCommentCount(Long missionRecordId);
+
+    void increaseBoostCount(Long missionRecordId, Long count);
+
+    long repairCommentCounts();
+
+    long repairBoostCounts();
 }
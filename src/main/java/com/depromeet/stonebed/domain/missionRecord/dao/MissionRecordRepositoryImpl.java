@@ -1,8 +1,10 @@
 package com.depromeet.stonebed.domain.missionRecord.dao;
 
+import static com.depromeet.stonebed.domain.comment.domain.QComment.comment;
 import static com.depromeet.stonebed.domain.mission.domain.QMission.*;
 import static com.depromeet.stonebed.domain.missionHistory.domain.QMissionHistory.*;
 import static com.depromeet.stonebed.domain.missionRecord.domain.QMissionRecord.missionRecord;
+import static com.depromeet.stonebed.domain.missionRecord.domain.QMissionRecordBoost.missionRecordBoost;
 
 import com.depromeet.stonebed.domain.member.domain.Member;
 import com.depromeet.stonebed.domain.missionRecord.domain.MissionRecord;
@@ -14,6 +16,8 @@ import com.querydsl.core.types.Projections;
 import com.querydsl.core.types.dsl.BooleanExpression;
 import com.querydsl.core.types.dsl.DateTemplate;
 import com.querydsl.core.types.dsl.Expressions;
+import com.querydsl.jpa.JPAExpressions;
+import com.querydsl.jpa.JPQLQuery;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
@@ -118,6 +122,53 @@ public class MissionRecordRepositoryImpl implements MissionRecordRepositoryCusto
                 .fetch();
     }
 
+    // 벌크 업데이트는 엔티티 리스너를 거치지 않으므로 updatedAt(피드 정렬 기준)이 바뀌지 않는다
+    @Override
+    public void increaseCommentCount(Long missionRecordId) {
+        queryFactory
+                .update(missionRecord)
+                .set(missionRecord.commentCount, missionRecord.commentCount.add(1L))
+                .where(missionRecord.id.eq(missionRecordId))
+                .execute();
+    }
+
+    @Override
+    public void increaseBoostCount(Long missionRecordId, Long count) {
+        queryFactory
+                .update(missionRecord)
+                .set(missionRecord.boostCount, missionRecord.boostCount.add(count))
+                .where(missionRecord.id.eq(missionRecordId))
+                .execute();
+    }
+
+    @Override
+    public long repairCommentCounts() {
+        JPQLQuery<Long> actualCount =
+                JPAExpressions.select(comment.id.count())
+                        .from(comment)
+                        .where(comment.recordId.eq(missionRecord.id));
+
+        return queryFactory
+                .update(missionRecord)
+                .set(missionRecord.commentCount, actualCount)
+                .where(missionRecord.commentCount.ne(actualCount))
+                .execute();
+    }
+
+    @Override
+    public long repairBoostCounts() {
+        JPQLQuery<Long> actualCount =
+                JPAExpressions.select(missionRecordBoost.count.sumLong().coalesce(0L))
+                        .from(missionRecordBoost)
+                        .where(missionRecordBoost.missionRecord.id.eq(missionRecord.id));
+
+        return queryFactory
+                .update(missionRecord)
+                .set(missionRecord.boostCount, actualCount)
+                .where(missionRecord.boostCount.ne(actualCount))
+                .execute();
+    }
+
     private BooleanExpression isMemberId(Long memberId) {
         return missionRecord.member.id.eq(memberId);
     }
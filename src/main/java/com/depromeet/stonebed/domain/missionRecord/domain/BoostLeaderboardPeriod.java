@@ -0,0 +1,13 @@
+package com.depromeet.stonebed.domain.missionRecord.domain;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public enum BoostLeaderboardPeriod {
+    DAILY("DAILY"),
+    WEEKLY("WEEKLY"),
+    ;
+    private final String value;
+}
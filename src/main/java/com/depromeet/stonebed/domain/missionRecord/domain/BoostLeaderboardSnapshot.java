@@ -0,0 +1,61 @@
+package com.depromeet.stonebed.domain.missionRecord.domain;
+
+import com.depromeet.stonebed.domain.common.BaseTimeEntity;
+import jakarta.persistence.*;
+import java.time.LocalDate;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/** 일별 부스트 랭킹을 매일 밤 저장해 둔 이력입니다. */
+@Getter
+@Entity
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(
+        name = "boost_leaderboard_snapshot",
+        uniqueConstraints = {
+            @UniqueConstraint(
+                    name = "boost_leaderboard_snapshot_uk",
+                    columnNames = {"ranking_date", "mission_record_id"}),
+            @UniqueConstraint(
+                    name = "boost_leaderboard_snapshot_ranking_uk",
+                    columnNames = {"ranking_date", "ranking"})
+        })
+public class BoostLeaderboardSnapshot extends BaseTimeEntity {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "snapshot_id")
+    private Long id;
+
+    @Column(name = "ranking_date", nullable = false)
+    private LocalDate rankingDate;
+
+    @Column(name = "ranking", nullable = false)
+    private Integer ranking;
+
+    @Column(name = "mission_record_id", nullable = false)
+    private Long missionRecordId;
+
+    @Column(name = "boost_count", nullable = false)
+    private Long boostCount;
+
+    @Builder(access = AccessLevel.PRIVATE)
+    private BoostLeaderboardSnapshot(
+            LocalDate rankingDate, Integer ranking, Long missionRecordId, Long boostCount) {
+        this.rankingDate = rankingDate;
+        this.ranking = ranking;
+        this.missionRecordId = missionRecordId;
+        this.boostCount = boostCount;
+    }
+
+    public static BoostLeaderboardSnapshot createBoostLeaderboardSnapshot(
+            LocalDate rankingDate, Integer ranking, Long missionRecordId, Long boostCount) {
+        return BoostLeaderboardSnapshot.builder()
+                .rankingDate(rankingDate)
+                .ranking(ranking)
+                .missionRecordId(missionRecordId)
+                .boostCount(boostCount)
+                .build();
+    }
+}
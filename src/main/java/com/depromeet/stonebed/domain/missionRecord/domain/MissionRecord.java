@@ -14,7 +14,19 @@ import org.hibernate.annotations.ColumnDefault;
 @Getter
 @Entity
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
-@Table(name = "mission_record")
+@Table(
+        name = "mission_record",
+        indexes = {
+            @Index(
+                    name = "idx_mission_record_feed",
+                    columnList = "status, display, updated_at, record_id"),
+            @Index(
+                    name = "idx_mission_record_member_feed",
+                    columnList = "member_id, status, display, updated_at, record_id"),
+            @Index(
+                    name = "idx_mission_record_member_completed",
+                    columnList = "member_id, status, created_at")
+        })
 public class MissionRecord extends BaseTimeEntity {
 
     @Id
@@ -48,6 +60,16 @@ public class MissionRecord extends BaseTimeEntity {
     @ColumnDefault("'PUBLIC'")
     private MissionRecordDisplay display;
 
+    @Schema(description = "댓글 수", example = "12")
+    @Column(name = "comment_count", nullable = false)
+    @ColumnDefault("0")
+    private Long commentCount = 0L;
+
+    @Schema(description = "부스트 수", example = "100")
+    @Column(name = "boost_count", nullable = false)
+    @ColumnDefault("0")
+    private Long boostCount = 0L;
+
     @Builder(access = AccessLevel.PRIVATE)
     public MissionRecord(
             Member member,
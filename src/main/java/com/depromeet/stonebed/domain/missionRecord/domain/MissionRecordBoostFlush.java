@@ -0,0 +1,23 @@
+package com.depromeet.stonebed.domain.missionRecord.domain;
+
+import com.depromeet.stonebed.domain.common.BaseTimeEntity;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * Redis에 모아둔 부스트를 DB에 반영한 기록입니다. 같은 묶음이 두 번 반영되지 않도록 하며, JDBC로 저장하고 보관 기간이 지나면 삭제합니다.
+ */
+@Getter
+@Entity
+@Table(name = "mission_record_boost_flush")
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class MissionRecordBoostFlush extends BaseTimeEntity {
+    @Id
+    @Column(name = "flush_id", length = 36)
+    private String flushId;
+}
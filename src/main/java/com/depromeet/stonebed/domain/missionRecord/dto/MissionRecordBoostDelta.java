@@ -0,0 +1,8 @@
+package com.depromeet.stonebed.domain.missionRecord.dto;
+
+/** 한 번에 반영할 (기록, 회원)별 누적 부스트 수입니다. */
+public record MissionRecordBoostDelta(Long missionRecordId, Long memberId, Long count) {
+    public static MissionRecordBoostDelta of(Long missionRecordId, Long memberId, Long count) {
+        return new MissionRecordBoostDelta(missionRecordId, memberId, count);
+    }
+}
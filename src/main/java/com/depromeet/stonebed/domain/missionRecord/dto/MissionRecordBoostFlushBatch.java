@@ -0,0 +1,11 @@
+package com.depromeet.stonebed.domain.missionRecord.dto;
+
+import java.util.List;
+
+/** Redis에서 넘겨받은 부스트 반영 묶음입니다. 묶음 ID로 같은 묶음이 두 번 반영되지 않도록 합니다. */
+public record MissionRecordBoostFlushBatch(String flushId, List<MissionRecordBoostDelta> deltas) {
+    public static MissionRecordBoostFlushBatch of(
+            String flushId, List<MissionRecordBoostDelta> deltas) {
+        return new MissionRecordBoostFlushBatch(flushId, deltas);
+    }
+}
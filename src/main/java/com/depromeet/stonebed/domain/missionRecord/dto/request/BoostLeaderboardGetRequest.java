@@ -0,0 +1,12 @@
+package com.depromeet.stonebed.domain.missionRecord.dto.request;
+
+import com.depromeet.stonebed.domain.missionRecord.domain.BoostLeaderboardPeriod;
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+
+public record BoostLeaderboardGetRequest(
+        @Schema(description = "랭킹 기간 (DAILY: 오늘, WEEKLY: 이번 주)", example = "DAILY") @NotNull
+                BoostLeaderboardPeriod period,
+        @Schema(description = "조회할 순위 수", example = "10") @Min(1) @Max(100) int limit) {}
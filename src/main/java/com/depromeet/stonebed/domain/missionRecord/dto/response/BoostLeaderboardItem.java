@@ -0,0 +1,13 @@
+package com.depromeet.stonebed.domain.missionRecord.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+public record BoostLeaderboardItem(
+        @Schema(description = "순위", example = "1") Integer rank,
+        @Schema(description = "미션 기록 ID", example = "1") Long missionRecordId,
+        @Schema(description = "기간 내 부스트 수", example = "120") Long boostCount) {
+
+    public static BoostLeaderboardItem of(Integer rank, Long missionRecordId, Long boostCount) {
+        return new BoostLeaderboardItem(rank, missionRecordId, boostCount);
+    }
+}
@@ -0,0 +1,12 @@
+package com.depromeet.stonebed.domain.missionRecord.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.util.List;
+
+public record BoostLeaderboardResponse(
+        @Schema(description = "부스트 랭킹 리스트") List<BoostLeaderboardItem> list) {
+
+    public static BoostLeaderboardResponse from(List<BoostLeaderboardItem> list) {
+        return new BoostLeaderboardResponse(list);
+    }
+}
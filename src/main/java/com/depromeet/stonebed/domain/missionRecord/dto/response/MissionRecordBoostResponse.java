@@ -0,0 +1,10 @@
+package com.depromeet.stonebed.domain.missionRecord.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+public record MissionRecordBoostResponse(
+        @Schema(description = "총 부스트 수", example = "120") Long totalBoostCount) {
+    public static MissionRecordBoostResponse of(Long totalBoostCount) {
+        return new MissionRecordBoostResponse(totalBoostCount);
+    }
+}
@@ -1,6 +1,7 @@
 package com.depromeet.stonebed.domain.report.application;
 
 import com.depromeet.stonebed.domain.discord.application.DiscordNotificationService;
+import com.depromeet.stonebed.domain.feed.application.FeedHiddenRecordService;
 import com.depromeet.stonebed.domain.member.domain.Member;
 import com.depromeet.stonebed.domain.missionRecord.dao.MissionRecordRepository;
 import com.depromeet.stonebed.domain.missionRecord.domain.MissionRecord;
@@ -26,6 +27,7 @@ public class ReportService {
     private final MissionRecordRepository missionRecordRepository;
     private final MemberUtil memberUtil;
     private final DiscordNotificationService discordNotificationService;
+    private final FeedHiddenRecordService feedHiddenRecordService;
 
     public void reportFeed(ReportCreateRequest reportCreateRequest) {
         final Member reporter = memberUtil.getCurrentMember();
@@ -46,6 +48,7 @@ public class ReportService {
                         reportCreateRequest.details());
 
         reportRepository.save(report);
+        feedHiddenRecordService.hide(reporter.getId(), missionRecord.getId());
 
         sendReportNotificationToDiscord(
                 reporter, reportedMember, missionRecord, reportCreateRequest);
@@ -1,6 +1,17 @@
 package com.depromeet.stonebed.domain.report.dao;
 
 import com.depromeet.stonebed.domain.report.domain.Report;
+import com.depromeet.stonebed.domain.report.domain.ReportDomain;
+import java.util.List;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
-public interface ReportRepository extends JpaRepository<Report, Long> {}
+public interface ReportRepository extends JpaRepository<Report, Long> {
+    @Query(
+            "SELECT r.targetId FROM Report r"
+                    + " WHERE r.reporter.id = :reporterId AND r.reportDomain = :reportDomain")
+    List<Long> findTargetIdsByReporterIdAndReportDomain(
+            @Param("reporterId") Long reporterId,
+            @Param("reportDomain") ReportDomain reportDomain);
+}
@@ -0,0 +1,190 @@
+package com.depromeet.stonebed.domain.sqs.application;
+
+import static com.depromeet.stonebed.global.common.constants.NotificationConstants.*;
+
+import com.depromeet.stonebed.infra.properties.SqsProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import software.amazon.awssdk.services.sqs.SqsAsyncClient;
+import software.amazon.awssdk.services.sqs.model.BatchResultErrorEntry;
+import software.amazon.awssdk.services.sqs.model.SendMessageBatchRequest;
+import software.amazon.awssdk.services.sqs.model.SendMessageBatchRequestEntry;
+import software.amazon.awssdk.services.sqs.model.SendMessageBatchResponse;
+
+/**
+ * 메시지를 10개씩 묶어 {@link SqsAsyncClient}로 동시에 전송합니다.
+ *
+ * <p>동시에 전송 중인 배치 수는 설정값으로 제한하고, 배치 중 일부 항목만 실패하면 실패한 항목만 다시 전송합니다. 요청 형식 오류처럼 보낸 쪽 문제로 실패한
+ * 항목은 다시 시도하지 않습니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SqsBatchDispatcher {
+    private static final String MESSAGE_METRIC = "sqs.dispatch.messages";
+    private static final String BATCH_LATENCY_METRIC = "sqs.dispatch.batch.latency";
+    private static final String DURATION_METRIC = "sqs.dispatch.duration";
+
+    private final SqsAsyncClient sqsAsyncClient;
+    private final SqsProperties sqsProperties;
+    private final MeterRegistry meterRegistry;
+
+    /**
+     * 모든 배치의 전송이 끝날 때까지 기다립니다.
+     *
+     * @return 끝내 전송하지 못한 메시지의 순번
+     */
+    public Set<Integer> dispatch(List<String> messageBodies) {
+        if (messageBodies.isEmpty()) {
+            return Set.of();
+        }
+
+        Timer.Sample sample = Timer.start(meterRegistry);
+        Semaphore inFlight = new Semaphore(sqsProperties.maxInFlightBatches());
+        List<CompletableFuture<List<String>>> results = new ArrayList<>();
+
+        for (int i = 0; i < messageBodies.size(); i += SQS_BATCH_SIZE) {
+            List<SendMessageBatchRequestEntry> entries =
+                    createEntries(
+                            messageBodies,
+                            i,
+                            Math.min(i + SQS_BATCH_SIZE, messageBodies.size()));
+
+            inFlight.acquireUninterruptibly();
+            results.add(
+                    sendBatch(entries, 1)
+                            .exceptionally(e -> idsOf(entries))
+                            .whenComplete((failedIds, e) -> inFlight.release()));
+        }
+
+        Set<Integer> failedIndexes =
+                results.stream()
+                        .map(CompletableFuture::join)
+                        .flatMap(List::stream)
+                        .map(Integer::valueOf)
+                        .collect(Collectors.toSet());
+        long elapsedNanos = sample.stop(meterRegistry.timer(DURATION_METRIC));
+
+        meterRegistry
+                .counter(MESSAGE_METRIC, "result", "sent")
+                .increment(messageBodies.size() - failedIndexes.size());
+        meterRegistry.counter(MESSAGE_METRIC, "result", "failed").increment(failedIndexes.size());
+        log.info(
+                "SQS 배치 전송 완료 - 전체: {}, 실패: {}, 소요 시간: {}ms",
+                messageBodies.size(),
+                failedIndexes.size(),
+                TimeUnit.NANOSECONDS.toMillis(elapsedNanos));
+        return failedIndexes;
+    }
+
+    // 전체 메시지에서의 순번을 항목 ID로 사용해 실패한 메시지를 찾음
+    private List<SendMessageBatchRequestEntry> createEntries(
+            List<String> messageBodies, int fromIndex, int toIndex) {
+        return IntStream.range(fromIndex, toIndex)
+                .mapToObj(
+                        index ->
+                                SendMessageBatchRequestEntry.builder()
+                                        .id(String.valueOf(index))
+                                        .messageBody(messageBodies.get(index))
+                                        .build())
+                .toList();
+    }
+
+    private static List<String> idsOf(List<SendMessageBatchRequestEntry> entries) {
+        return entries.stream().map(SendMessageBatchRequestEntry::id).toList();
+    }
+
+    // 실패한 항목의 ID 목록을 반환
+    private CompletableFuture<List<String>> sendBatch(
+            List<SendMessageBatchRequestEntry> entries, int attempt) {
+        SendMessageBatchRequest request =
+                SendMessageBatchRequest.builder()
+                        .queueUrl(sqsProperties.queueUrl())
+                        .entries(entries)
+                        .build();
+        Timer.Sample sample = Timer.start(meterRegistry);
+
+        return sqsAsyncClient
+                .sendMessageBatch(request)
+                .handle(
+                        (response, e) -> {
+                            sample.stop(meterRegistry.timer(BATCH_LATENCY_METRIC));
+                            if (e != null) {
+                                log.warn("SQS 배치 요청 실패 - 시도: {}", attempt, e);
+                                return new BatchOutcome(entries, List.of());
+                            }
+                            return BatchOutcome.of(entries, response);
+                        })
+                .thenCompose(outcome -> retryIfNeeded(outcome, attempt));
+    }
+
+    private CompletableFuture<List<String>> retryIfNeeded(BatchOutcome outcome, int attempt) {
+        if (outcome.retryableEntries().isEmpty()) {
+            return CompletableFuture.completedFuture(outcome.rejectedIds());
+        }
+        if (attempt >= sqsProperties.maxAttempts()) {
+            log.error("SQS 메시지 전송 실패 - 항목 수: {}", outcome.retryableEntries().size());
+            return CompletableFuture.completedFuture(outcome.failedIds());
+        }
+
+        meterRegistry
+                .counter(MESSAGE_METRIC, "result", "retried")
+                .increment(outcome.retryableEntries().size());
+        Executor delayedExecutor =
+                CompletableFuture.delayedExecutor(
+                        sqsProperties.retryBackoff().toMillis() * attempt, TimeUnit.MILLISECONDS);
+        return CompletableFuture.runAsync(() -> {}, delayedExecutor)
+                .thenCompose(ignored -> sendBatch(outcome.retryableEntries(), attempt + 1))
+                .thenApply(
+                        failedIds ->
+                                Stream.concat(failedIds.stream(), outcome.rejectedIds().stream())
+                                        .toList());
+    }
+
+    private record BatchOutcome(
+            List<SendMessageBatchRequestEntry> retryableEntries, List<String> rejectedIds) {
+        private static BatchOutcome of(
+                List<SendMessageBatchRequestEntry> entries, SendMessageBatchResponse response) {
+            if (!response.hasFailed() || response.failed().isEmpty()) {
+                return new BatchOutcome(List.of(), List.of());
+            }
+
+            Map<String, SendMessageBatchRequestEntry> entriesById =
+                    entries.stream()
+                            .collect(
+                                    Collectors.toMap(
+                                            SendMessageBatchRequestEntry::id,
+                                            Function.identity()));
+            List<SendMessageBatchRequestEntry> retryableEntries = new ArrayList<>();
+            List<String> rejectedIds = new ArrayList<>();
+            for (BatchResultErrorEntry failed : response.failed()) {
+                if (Boolean.TRUE.equals(failed.senderFault())) {
+                    log.error("SQS 메시지 거부 - code: {}, {}", failed.code(), failed.message());
+                    rejectedIds.add(failed.id());
+                } else {
+                    retryableEntries.add(entriesById.get(failed.id()));
+                }
+            }
+            return new BatchOutcome(retryableEntries, rejectedIds);
+        }
+
+        private List<String> failedIds() {
+            return Stream.concat(idsOf(retryableEntries).stream(), rejectedIds.stream()).toList();
+        }
+    }
+}
@@ -0,0 +1,118 @@
+package com.depromeet.stonebed.domain.sqs.application;
+
+import static com.depromeet.stonebed.global.common.constants.NotificationConstants.*;
+
+import com.depromeet.stonebed.domain.sqs.dao.SqsOutboxJdbcRepository;
+import com.depromeet.stonebed.domain.sqs.dto.SqsOutboxMessage;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+/**
+ * 아웃박스에 쌓인 메시지를 SQS로 전송합니다.
+ *
+ * <p>여러 서버가 동시에 실행해도 같은 메시지를 점유하지 않으며, 전송에 성공한 메시지는 삭제하고 실패한 메시지는 시도 횟수에 따라 간격을 늘려 다시
+ * 전송합니다. 가장 오래 기다린 메시지의 대기 시간을 지표로 남깁니다.
+ */
+@Slf4j
+@Service
+public class SqsOutboxRelay {
+    private static final String MESSAGE_METRIC = "sqs.outbox.messages";
+    private static final String LAG_METRIC = "sqs.outbox.lag.seconds";
+
+    private final SqsOutboxJdbcRepository sqsOutboxJdbcRepository;
+    private final SqsBatchDispatcher sqsBatchDispatcher;
+    private final MeterRegistry meterRegistry;
+    private final AtomicLong lagSeconds;
+
+    public SqsOutboxRelay(
+            SqsOutboxJdbcRepository sqsOutboxJdbcRepository,
+            SqsBatchDispatcher sqsBatchDispatcher,
+            MeterRegistry meterRegistry) {
+        this.sqsOutboxJdbcRepository = sqsOutboxJdbcRepository;
+        this.sqsBatchDispatcher = sqsBatchDispatcher;
+        this.meterRegistry = meterRegistry;
+        this.lagSeconds = meterRegistry.gauge(LAG_METRIC, new AtomicLong());
+    }
+
+    /**
+     * 점유할 메시지가 없거나 한 번에 처리할 배치 수에 도달할 때까지 전송합니다.
+     *
+     * @return 전송에 성공한 메시지 수
+     */
+    public int relay() {
+        int sentCount = 0;
+        for (int batch = 0; batch < OUTBOX_RELAY_MAX_BATCHES; batch++) {
+            List<SqsOutboxMessage> messages =
+                    sqsOutboxJdbcRepository.claim(OUTBOX_RELAY_BATCH_SIZE, OUTBOX_CLAIM_LEASE);
+            if (messages.isEmpty()) {
+                break;
+            }
+
+            sentCount += relayBatch(messages);
+            if (messages.size() < OUTBOX_RELAY_BATCH_SIZE) {
+                break;
+            }
+        }
+
+        updateLag();
+        return sentCount;
+    }
+
+    private int relayBatch(List<SqsOutboxMessage> messages) {
+        Set<Integer> failedIndexes =
+                sqsBatchDispatcher.dispatch(
+                        messages.stream().map(SqsOutboxMessage::messageBody).toList());
+
+        LocalDateTime now = LocalDateTime.now();
+        List<Long> sentIds = new ArrayList<>();
+        Map<Long, LocalDateTime> retryAtById = new HashMap<>();
+        List<Long> failedIds = new ArrayList<>();
+        for (int i = 0; i < messages.size(); i++) {
+            SqsOutboxMessage message = messages.get(i);
+            int attemptCount = message.attemptCount() + 1;
+            if (!failedIndexes.contains(i)) {
+                sentIds.add(message.outboxId());
+            } else if (attemptCount >= OUTBOX_MAX_ATTEMPTS) {
+                failedIds.add(message.outboxId());
+            } else {
+                retryAtById.put(message.outboxId(), now.plus(getRetryBackoff(attemptCount)));
+            }
+        }
+
+        sqsOutboxJdbcRepository.deleteAll(sentIds);
+        sqsOutboxJdbcRepository.updateRetries(retryAtById);
+        sqsOutboxJdbcRepository.updateFailed(failedIds);
+
+        meterRegistry.counter(MESSAGE_METRIC, "result", "sent").increment(sentIds.size());
+        meterRegistry.counter(MESSAGE_METRIC, "result", "retried").increment(retryAtById.size());
+        meterRegistry.counter(MESSAGE_METRIC, "result", "failed").increment(failedIds.size());
+        if (!failedIds.isEmpty()) {
+            log.error("아웃박스 메시지 전송 포기 - outboxIds: {}", failedIds);
+        }
+        return sentIds.size();
+    }
+
+    // 시도할 때마다 간격을 두 배로 늘리되 최대 간격을 넘지 않음
+    private Duration getRetryBackoff(int attemptCount) {
+        Duration backoff = OUTBOX_RETRY_BACKOFF.multipliedBy(1L << Math.min(attemptCount - 1, 20));
+        return backoff.compareTo(OUTBOX_MAX_RETRY_BACKOFF) > 0 ? OUTBOX_MAX_RETRY_BACKOFF : backoff;
+    }
+
+    private void updateLag() {
+        long lag =
+                sqsOutboxJdbcRepository
+                        .findOldestPendingCreatedAt()
+                        .map(oldest -> Duration.between(oldest, LocalDateTime.now()).toSeconds())
+                        .orElse(0L);
+        lagSeconds.set(Math.max(lag, 0));
+    }
+}
@@ -0,0 +1,159 @@
+package com.depromeet.stonebed.domain.sqs.dao;
+
+import com.depromeet.stonebed.domain.sqs.domain.SqsOutboxStatus;
+import com.depromeet.stonebed.domain.sqs.dto.SqsOutboxMessage;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+@Repository
+@RequiredArgsConstructor
+public class SqsOutboxJdbcRepository {
+    private static final String INSERT_SQL =
+            "INSERT INTO sqs_outbox"
+                    + " (message_body, status, attempt_count, next_attempt_at,"
+                    + " created_at, updated_at)"
+                    + " VALUES (?, ?, 0, ?, ?, ?)";
+
+    // 다른 서버가 점유 중인 행은 기다리지 않고 건너뜀
+    private static final String SELECT_CLAIMABLE_SQL =
+            "SELECT outbox_id, message_body, attempt_count FROM sqs_outbox"
+                    + " WHERE status = ? AND next_attempt_at <= ?"
+                    + " ORDER BY next_attempt_at, outbox_id LIMIT ?"
+                    + " FOR UPDATE SKIP LOCKED";
+
+    private static final String UPDATE_NEXT_ATTEMPT_SQL =
+            "UPDATE sqs_outbox SET next_attempt_at = ?, updated_at = ? WHERE outbox_id = ?";
+
+    private static final String UPDATE_RETRY_SQL =
+            "UPDATE sqs_outbox SET status = ?, attempt_count = attempt_count + 1,"
+                    + " next_attempt_at = ?, updated_at = ? WHERE outbox_id = ?";
+
+    private static final String DELETE_SQL = "DELETE FROM sqs_outbox WHERE outbox_id = ?";
+
+    private static final String SELECT_OLDEST_PENDING_SQL =
+            "SELECT MIN(created_at) FROM sqs_outbox WHERE status = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    // 호출한 쪽의 트랜잭션에 참여해 비즈니스 변경과 함께 커밋
+    public void saveAll(List<String> messageBodies) {
+        if (messageBodies.isEmpty()) {
+            return;
+        }
+
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        jdbcTemplate.batchUpdate(
+                INSERT_SQL,
+                messageBodies,
+                messageBodies.size(),
+                (ps, messageBody) -> {
+                    ps.setString(1, messageBody);
+                    ps.setString(2, SqsOutboxStatus.PENDING.name());
+                    ps.setTimestamp(3, now);
+                    ps.setTimestamp(4, now);
+                    ps.setTimestamp(5, now);
+                });
+    }
+
+    /**
+     * 전송할 차례인 메시지를 점유합니다.
+     *
+     * <p>점유한 행의 다음 시도 시각을 점유 기간 뒤로 미루고 바로 커밋하므로, SQS 전송 중에는 락을 잡지 않습니다. 전송 결과를 반영하기 전에 서버가
+     * 종료되면 점유 기간이 지난 뒤 다시 전송합니다.
+     */
+    @Transactional
+    public List<SqsOutboxMessage> claim(int size, Duration lease) {
+        LocalDateTime now = LocalDateTime.now();
+        List<SqsOutboxMessage> messages =
+                jdbcTemplate.query(
+                        SELECT_CLAIMABLE_SQL,
+                        (rs, rowNum) ->
+                                new SqsOutboxMessage(
+                                        rs.getLong("outbox_id"),
+                                        rs.getString("message_body"),
+                                        rs.getInt("attempt_count")),
+                        SqsOutboxStatus.PENDING.name(),
+                        Timestamp.valueOf(now),
+                        size);
+        if (messages.isEmpty()) {
+            return messages;
+        }
+
+        Timestamp leaseUntil = Timestamp.valueOf(now.plus(lease));
+        jdbcTemplate.batchUpdate(
+                UPDATE_NEXT_ATTEMPT_SQL,
+                messages,
+                messages.size(),
+                (ps, message) -> {
+                    ps.setTimestamp(1, leaseUntil);
+                    ps.setTimestamp(2, Timestamp.valueOf(now));
+                    ps.setLong(3, message.outboxId());
+                });
+        return messages;
+    }
+
+    public void deleteAll(List<Long> outboxIds) {
+        if (outboxIds.isEmpty()) {
+            return;
+        }
+
+        jdbcTemplate.batchUpdate(
+                DELETE_SQL,
+                outboxIds,
+                outboxIds.size(),
+                (ps, outboxId) -> ps.setLong(1, outboxId));
+    }
+
+    // 전송에 실패한 메시지의 시도 횟수를 올리고 다음 시도 시각을 정함
+    public void updateRetries(Map<Long, LocalDateTime> nextAttemptAtById) {
+        if (nextAttemptAtById.isEmpty()) {
+            return;
+        }
+
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        jdbcTemplate.batchUpdate(
+                UPDATE_RETRY_SQL,
+                List.copyOf(nextAttemptAtById.entrySet()),
+                nextAttemptAtById.size(),
+                (ps, entry) -> {
+                    ps.setString(1, SqsOutboxStatus.PENDING.name());
+                    ps.setTimestamp(2, Timestamp.valueOf(entry.getValue()));
+                    ps.setTimestamp(3, now);
+                    ps.setLong(4, entry.getKey());
+                });
+    }
+
+    // 최대 시도 횟수를 넘긴 메시지는 남겨두되 더 이상 전송하지 않음
+    public void updateFailed(List<Long> outboxIds) {
+        if (outboxIds.isEmpty()) {
+            return;
+        }
+
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        jdbcTemplate.batchUpdate(
+                UPDATE_RETRY_SQL,
+                outboxIds,
+                outboxIds.size(),
+                (ps, outboxId) -> {
+                    ps.setString(1, SqsOutboxStatus.FAILED.name());
+                    ps.setTimestamp(2, now);
+                    ps.setTimestamp(3, now);
+                    ps.setLong(4, outboxId);
+                });
+    }
+
+    public Optional<LocalDateTime> findOldestPendingCreatedAt() {
+        Timestamp oldest =
+                jdbcTemplate.queryForObject(
+                        SELECT_OLDEST_PENDING_SQL, Timestamp.class, SqsOutboxStatus.PENDING.name());
+        return Optional.ofNullable(oldest).map(Timestamp::toLocalDateTime);
+    }
+}
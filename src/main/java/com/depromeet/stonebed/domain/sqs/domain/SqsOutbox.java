@@ -0,0 +1,41 @@
+package com.depromeet.stonebed.domain.sqs.domain;
+
+import com.depromeet.stonebed.domain.common.BaseTimeEntity;
+import jakarta.persistence.*;
+import java.time.LocalDateTime;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * SQS로 보낼 메시지를 비즈니스 변경과 같은 트랜잭션에서 저장하는 아웃박스입니다.
+ *
+ * <p>저장과 조회는 {@link com.depromeet.stonebed.domain.sqs.dao.SqsOutboxJdbcRepository}에서 배치로 처리하고,
+ * 전송에 성공한 메시지는 삭제합니다.
+ */
+@Getter
+@Entity
+@Table(
+        name = "sqs_outbox",
+        indexes = {@Index(name = "idx_sqs_outbox_relay", columnList = "status, next_attempt_at")})
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class SqsOutbox extends BaseTimeEntity {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "outbox_id")
+    private Long id;
+
+    @Column(nullable = false, columnDefinition = "TEXT")
+    private String messageBody;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private SqsOutboxStatus status;
+
+    @Column(nullable = false)
+    private int attemptCount;
+
+    // 이 시각 이후에 전송하며, 전송 중인 메시지는 점유가 끝나는 시각
+    @Column(nullable = false)
+    private LocalDateTime nextAttemptAt;
+}
@@ -0,0 +1,7 @@
+package com.depromeet.stonebed.domain.sqs.domain;
+
+public enum SqsOutboxStatus {
+    PENDING,
+    // 최대 시도 횟수를 넘겨 더 이상 전송하지 않는 메시지
+    FAILED
+}
@@ -0,0 +1,3 @@
+package com.depromeet.stonebed.domain.sqs.dto;
+
+public record SqsOutboxMessage(Long outboxId, String messageBody, int attemptCount) {}
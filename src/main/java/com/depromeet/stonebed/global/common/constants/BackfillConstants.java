@@ -0,0 +1,15 @@
+package com.depromeet.stonebed.global.common.constants;
+
+import java.time.Duration;
+
+public final class BackfillConstants {
+
+    // 백필 키 (같은 키의 백필은 한 번만 실행)
+    public static final String FEED_COUNTER_BACKFILL_KEY = "feed-counter";
+    public static final String COMMENT_PATH_BACKFILL_KEY = "comment-path";
+
+    // 실행하던 서버가 중단되어 완료되지 않은 백필을 다시 실행하기까지의 시간
+    public static final Duration BACKFILL_LEASE = Duration.ofHours(1);
+
+    private BackfillConstants() {}
+}
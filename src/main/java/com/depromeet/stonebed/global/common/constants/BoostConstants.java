@@ -0,0 +1,23 @@
+package com.depromeet.stonebed.global.common.constants;
+
+import java.time.Duration;
+
+public final class BoostConstants {
+
+    // flush
+    public static final Duration BOOST_FLUSH_RETENTION = Duration.ofDays(1);
+
+    // rate limit (token bucket)
+    public static final long BOOST_MEMBER_BUCKET_CAPACITY = 60;
+    public static final long BOOST_MEMBER_REFILL_PER_SECOND = 10;
+    public static final long BOOST_RECORD_BUCKET_CAPACITY = 20;
+    public static final long BOOST_RECORD_REFILL_PER_SECOND = 3;
+    public static final int BOOST_LOCAL_BLOCK_MAX_SIZE = 10000;
+
+    // leaderboard
+    public static final Duration BOOST_LEADERBOARD_DAILY_TTL = Duration.ofDays(9);
+    public static final Duration BOOST_LEADERBOARD_WEEKLY_TTL = Duration.ofMinutes(1);
+    public static final int BOOST_LEADERBOARD_SNAPSHOT_SIZE = 100;
+
+    private BoostConstants() {}
+}
@@ -0,0 +1,15 @@
+package com.depromeet.stonebed.global.common.constants;
+
+import java.time.Duration;
+
+public final class CommentConstants {
+
+    // comment cache
+    public static final Duration COMMENT_CACHE_TTL = Duration.ofMinutes(10);
+
+    // comment path (ID 최대 19자리 + 구분자, 최대 깊이의 경로도 컬럼 길이 안에 들어감)
+    public static final int COMMENT_MAX_DEPTH = 30;
+    public static final int COMMENT_PATH_MAX_LENGTH = 700;
+
+    private CommentConstants() {}
+}
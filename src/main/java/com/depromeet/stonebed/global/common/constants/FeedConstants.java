@@ -0,0 +1,44 @@
+package com.depromeet.stonebed.global.common.constants;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+public final class FeedConstants {
+
+    // following timeline
+    public static final int TIMELINE_MAX_SIZE = 500;
+    public static final Duration TIMELINE_TTL = Duration.ofDays(7);
+    public static final long FANOUT_FOLLOWER_THRESHOLD = 1000;
+    public static final int FANOUT_CHUNK_SIZE = 500;
+    public static final String TIMELINE_EMPTY_MARKER = "empty";
+
+    // feed item cache
+    public static final Duration FEED_ITEM_TTL = Duration.ofMinutes(10);
+
+    // content version (ETag, 갱신에 실패해도 항목 캐시와 같은 시간 안에 새 토큰으로 바뀜)
+    public static final Duration CONTENT_VERSION_TTL = Duration.ofMinutes(10);
+
+    // feed batch lookup
+    public static final int FEED_BATCH_MAX_SIZE = 50;
+
+    // feed page cache
+    public static final int FEED_PAGE_CACHE_MAX_PAGE = 3;
+    public static final Duration FEED_PAGE_TTL = Duration.ofSeconds(30);
+    public static final String FEED_PAGE_GLOBAL_SCOPE = "global";
+    public static final String FEED_PAGE_MEMBER_SCOPE_PREFIX = "member-";
+
+    // hidden (reported) records
+    public static final Duration FEED_HIDDEN_TTL = Duration.ofDays(7);
+    public static final int FEED_HIDDEN_MAX_OVERFETCH = 20;
+
+    // popular feed
+    public static final LocalDateTime POPULAR_SCORE_EPOCH = LocalDateTime.of(2024, 1, 1, 0, 0);
+    public static final Duration POPULAR_HALF_LIFE = Duration.ofHours(12);
+    public static final Duration POPULAR_RETENTION = Duration.ofDays(7);
+    public static final int POPULAR_MAX_SIZE = 10000;
+    public static final double POPULAR_COMPLETE_WEIGHT = 1;
+    public static final double POPULAR_BOOST_WEIGHT = 1;
+    public static final double POPULAR_COMMENT_WEIGHT = 5;
+
+    private FeedConstants() {}
+}
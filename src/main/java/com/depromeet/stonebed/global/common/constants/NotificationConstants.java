@@ -1,12 +1,29 @@
 package com.depromeet.stonebed.global.common.constants;
 
+import java.time.Duration;
 import java.time.format.DateTimeFormatter;
+import java.util.List;
 
 public final class NotificationConstants {
     public static final int SQS_BATCH_SIZE = 10;
     public static final long FIRST_BOOST_THRESHOLD = 1;
     public static final long POPULAR_THRESHOLD = 1000;
     public static final long SUPER_POPULAR_THRESHOLD = 5000;
+    // 오름차순으로 유지
+    public static final List<Long> BOOST_MILESTONES =
+            List.of(FIRST_BOOST_THRESHOLD, POPULAR_THRESHOLD, SUPER_POPULAR_THRESHOLD);
+
+    // broadcast
+    public static final int FCM_BROADCAST_CHUNK_SIZE = 1000;
+
+    // sqs outbox
+    public static final int OUTBOX_RELAY_BATCH_SIZE = 500;
+    public static final int OUTBOX_RELAY_MAX_BATCHES = 20;
+    public static final Duration OUTBOX_CLAIM_LEASE = Duration.ofMinutes(1);
+    public static final int OUTBOX_MAX_ATTEMPTS = 8;
+    public static final Duration OUTBOX_RETRY_BACKOFF = Duration.ofSeconds(5);
+    public static final Duration OUTBOX_MAX_RETRY_BACKOFF = Duration.ofMinutes(10);
+
     public static final DateTimeFormatter DATE_FORMATTER =
             DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm:ss");
 }
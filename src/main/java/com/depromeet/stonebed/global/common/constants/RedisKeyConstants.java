@@ -0,0 +1,94 @@
+package com.depromeet.stonebed.global.common.constants;
+
+import java.time.LocalDate;
+
+public final class RedisKeyConstants {
+
+    // feed
+    public static final String FEED_TIMELINE_KEY_PREFIX = "feed:timeline:";
+    public static final String FEED_ITEM_KEY_PREFIX = "feed:item:";
+    public static final String FEED_ITEM_WRITTEN_KEY_PREFIX = "feed:item-written:";
+    public static final String FEED_ITEM_VERSION_KEY_PREFIX = "feed:item-version:";
+    public static final String FEED_PAGE_KEY_PREFIX = "feed:page:";
+    public static final String FEED_PAGE_VERSION_KEY_PREFIX = "feed:page-version:";
+    public static final String FEED_PAGE_CURSOR_KEY_PREFIX = "feed:page-cursor:";
+    public static final String FEED_POPULAR_KEY = "feed:popular";
+    public static final String FEED_HIDDEN_KEY_PREFIX = "feed:hidden:";
+
+    // boost
+    public static final String BOOST_PENDING_KEY = "boost:pending";
+    public static final String BOOST_PENDING_RECORD_KEY = "boost:pending-record";
+    public static final String BOOST_FLUSHING_KEY = "boost:flushing";
+    public static final String BOOST_FLUSHING_RECORD_KEY = "boost:flushing-record";
+    public static final String BOOST_FLUSH_ID_KEY = "boost:flush-id";
+    public static final String BOOST_RATE_LIMIT_KEY_PREFIX = "boost:rate-limit:";
+    public static final String BOOST_LEADERBOARD_DAILY_KEY_PREFIX = "boost:leaderboard:daily:";
+    public static final String BOOST_LEADERBOARD_WEEKLY_KEY_PREFIX = "boost:leaderboard:weekly:";
+
+    // comment
+    public static final String COMMENT_RECORD_KEY_PREFIX = "comment:record:";
+    public static final String COMMENT_RECORD_WRITTEN_KEY_PREFIX = "comment:record-written:";
+    public static final String COMMENT_RECORD_VERSION_KEY_PREFIX = "comment:record-version:";
+
+    public static String feedTimelineKey(Long memberId) {
+        return FEED_TIMELINE_KEY_PREFIX + memberId;
+    }
+
+    public static String feedItemKey(Long recordId) {
+        return FEED_ITEM_KEY_PREFIX + recordId;
+    }
+
+    public static String feedItemWrittenKey(Long recordId) {
+        return FEED_ITEM_WRITTEN_KEY_PREFIX + recordId;
+    }
+
+    public static String feedItemVersionKey(Long recordId) {
+        return FEED_ITEM_VERSION_KEY_PREFIX + recordId;
+    }
+
+    public static String feedPageKey(String scope, long version, int cacheSize, String cursor) {
+        return FEED_PAGE_KEY_PREFIX + scope + ":" + version + ":" + cacheSize + ":" + cursor;
+    }
+
+    public static String feedPageVersionKey(String scope) {
+        return FEED_PAGE_VERSION_KEY_PREFIX + scope;
+    }
+
+    public static String feedPageCursorKey(String scope, long version) {
+        return FEED_PAGE_CURSOR_KEY_PREFIX + scope + ":" + version;
+    }
+
+    public static String feedHiddenKey(Long memberId) {
+        return FEED_HIDDEN_KEY_PREFIX + memberId;
+    }
+
+    public static String boostMemberRateLimitKey(Long memberId) {
+        return BOOST_RATE_LIMIT_KEY_PREFIX + memberId;
+    }
+
+    public static String boostRecordRateLimitKey(Long memberId, Long missionRecordId) {
+        return BOOST_RATE_LIMIT_KEY_PREFIX + memberId + ":" + missionRecordId;
+    }
+
+    public static String boostLeaderboardDailyKey(LocalDate date) {
+        return BOOST_LEADERBOARD_DAILY_KEY_PREFIX + date;
+    }
+
+    public static String boostLeaderboardWeeklyKey(LocalDate startDate, LocalDate endDate) {
+        return BOOST_LEADERBOARD_WEEKLY_KEY_PREFIX + startDate + ":" + endDate;
+    }
+
+    public static String commentRecordKey(Long recordId) {
+        return COMMENT_RECORD_KEY_PREFIX + recordId;
+    }
+
+    public static String commentRecordWrittenKey(Long recordId) {
+        return COMMENT_RECORD_WRITTEN_KEY_PREFIX + recordId;
+    }
+
+    public static String commentRecordVersionKey(Long recordId) {
+        return COMMENT_RECORD_VERSION_KEY_PREFIX + recordId;
+    }
+
+    private RedisKeyConstants() {}
+}
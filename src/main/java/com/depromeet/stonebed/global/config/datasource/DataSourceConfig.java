@@ -0,0 +1,75 @@
+package com.depromeet.stonebed.global.config.datasource;
+
+import com.depromeet.stonebed.infra.properties.ReplicaLagGuardProperties;
+import com.zaxxer.hikari.HikariDataSource;
+import java.util.Map;
+import javax.sql.DataSource;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+/**
+ * 레플리카 설정이 켜져 있으면 프라이머리, 레플리카 커넥션 풀을 따로 만들고 트랜잭션 속성에 따라 라우팅합니다.
+ *
+ * <p>커넥션 풀 지표(hikaricp.*)는 풀 이름(primary, replica) 태그로 구분됩니다.
+ */
+@Configuration
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "spring.datasource.replica.enabled", havingValue = "true")
+public class DataSourceConfig {
+    private final ReplicaLagGuardProperties replicaLagGuardProperties;
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties dataSourceProperties) {
+        return dataSourceProperties
+                .initializeDataSourceBuilder()
+                .type(HikariDataSource.class)
+                .build();
+    }
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.replica.hikari")
+    public HikariDataSource replicaDataSource() {
+        return DataSourceBuilder.create().type(HikariDataSource.class).build();
+    }
+
+    @Bean
+    public ReplicaLagGuard replicaLagGuard(
+            @Qualifier("replicaDataSource") DataSource replicaDataSource) {
+        return new ReplicaLagGuard(
+                replicaDataSource,
+                replicaLagGuardProperties.enabled(),
+                replicaLagGuardProperties.maxLag());
+    }
+
+    @Bean
+    public DataSource routingDataSource(
+            @Qualifier("primaryDataSource") DataSource primaryDataSource,
+            @Qualifier("replicaDataSource") DataSource replicaDataSource,
+            ReplicaLagGuard replicaLagGuard) {
+        RoutingDataSource routingDataSource = new RoutingDataSource(replicaLagGuard);
+        routingDataSource.setTargetDataSources(
+                Map.of(
+                        DataSourceType.PRIMARY,
+                        primaryDataSource,
+                        DataSourceType.REPLICA,
+                        replicaDataSource));
+        routingDataSource.setDefaultTargetDataSource(primaryDataSource);
+        return routingDataSource;
+    }
+
+    // 트랜잭션의 readOnly 여부가 정해진 뒤 실제 커넥션을 가져오도록 지연
+    @Bean
+    @Primary
+    public DataSource dataSource(@Qualifier("routingDataSource") DataSource routingDataSource) {
+        return new LazyConnectionDataSourceProxy(routingDataSource);
+    }
+}
@@ -0,0 +1,6 @@
+package com.depromeet.stonebed.global.config.datasource;
+
+public enum DataSourceType {
+    PRIMARY,
+    REPLICA
+}
@@ -0,0 +1,70 @@
+package com.depromeet.stonebed.global.config.datasource;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import javax.sql.DataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+
+/**
+ * 레플리카 복제 지연을 주기적으로 확인해, 허용치를 넘거나 확인할 수 없으면 읽기 요청을 프라이머리로 돌립니다.
+ *
+ * <p>복제 상태가 없는(단독 실행 중인) 레플리카는 지연이 없는 것으로 간주합니다.
+ */
+@Slf4j
+public class ReplicaLagGuard {
+    private static final String REPLICA_STATUS_QUERY = "SHOW REPLICA STATUS";
+    private static final String SECONDS_BEHIND_SOURCE = "Seconds_Behind_Source";
+
+    private final DataSource replicaDataSource;
+    private final boolean enabled;
+    private final Duration maxLag;
+
+    private volatile boolean replicaAvailable = true;
+
+    public ReplicaLagGuard(DataSource replicaDataSource, boolean enabled, Duration maxLag) {
+        this.replicaDataSource = replicaDataSource;
+        this.enabled = enabled;
+        this.maxLag = maxLag;
+    }
+
+    public boolean isReplicaAvailable() {
+        return replicaAvailable;
+    }
+
+    @Scheduled(fixedDelayString = "${spring.datasource.replica.lag-guard.check-interval:5000}")
+    public void checkLag() {
+        if (!enabled) {
+            return;
+        }
+
+        boolean available = isLagAcceptable();
+        if (available != replicaAvailable) {
+            log.warn("레플리카 라우팅 상태 변경 - available: {}", available);
+        }
+        replicaAvailable = available;
+    }
+
+    private boolean isLagAcceptable() {
+        try (Connection connection = replicaDataSource.getConnection();
+                Statement statement = connection.createStatement();
+                ResultSet resultSet = statement.executeQuery(REPLICA_STATUS_QUERY)) {
+            if (!resultSet.next()) {
+                return true;
+            }
+
+            // 복제가 멈추면 지연 시간이 NULL로 조회됨
+            long secondsBehind = resultSet.getLong(SECONDS_BEHIND_SOURCE);
+            if (resultSet.wasNull()) {
+                return false;
+            }
+            return secondsBehind <= maxLag.toSeconds();
+        } catch (SQLException e) {
+            log.warn("레플리카 복제 지연 확인 실패", e);
+            return false;
+        }
+    }
+}
@@ -0,0 +1,25 @@
+package com.depromeet.stonebed.global.config.datasource;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 읽기 전용 트랜잭션은 레플리카로, 그 외에는 프라이머리로 연결합니다.
+ *
+ * <p>트랜잭션 속성이 정해진 뒤 커넥션을 가져오도록 {@link
+ * org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy}로 감싸서 사용해야 합니다.
+ */
+@RequiredArgsConstructor
+public class RoutingDataSource extends AbstractRoutingDataSource {
+    private final ReplicaLagGuard replicaLagGuard;
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (TransactionSynchronizationManager.isCurrentTransactionReadOnly()
+                && replicaLagGuard.isReplicaAvailable()) {
+            return DataSourceType.REPLICA;
+        }
+        return DataSourceType.PRIMARY;
+    }
+}
@@ -1,13 +1,18 @@
 package com.depromeet.stonebed.global.config.sqs;
 
 import com.depromeet.stonebed.infra.properties.SqsProperties;
+import java.net.URI;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.util.StringUtils;
 import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
 import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
 import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.services.sqs.SqsAsyncClient;
+import software.amazon.awssdk.services.sqs.SqsAsyncClientBuilder;
 import software.amazon.awssdk.services.sqs.SqsClient;
+import software.amazon.awssdk.services.sqs.SqsClientBuilder;
 
 @Configuration
 @RequiredArgsConstructor
@@ -20,9 +25,29 @@ public class SqsConfig {
         AwsBasicCredentials awsBasicCredentials =
                 AwsBasicCredentials.create(sqsProperties.accessKey(), sqsProperties.secretKey());
 
-        return SqsClient.builder()
-                .region(Region.of(sqsProperties.region()))
-                .credentialsProvider(StaticCredentialsProvider.create(awsBasicCredentials))
-                .build();
+        SqsClientBuilder builder =
+                SqsClient.builder()
+                        .region(Region.of(sqsProperties.region()))
+                        .credentialsProvider(StaticCredentialsProvider.create(awsBasicCredentials));
+        if (StringUtils.hasText(sqsProperties.endpoint())) {
+            builder.endpointOverride(URI.create(sqsProperties.endpoint()));
+        }
+        return builder.build();
+    }
+
+    // 대량 배치 전송은 응답을 기다리지 않고 여러 요청을 동시에 보냄
+    @Bean
+    public SqsAsyncClient sqsAsyncClient() {
+        AwsBasicCredentials awsBasicCredentials =
+                AwsBasicCredentials.create(sqsProperties.accessKey(), sqsProperties.secretKey());
+
+        SqsAsyncClientBuilder builder =
+                SqsAsyncClient.builder()
+                        .region(Region.of(sqsProperties.region()))
+                        .credentialsProvider(StaticCredentialsProvider.create(awsBasicCredentials));
+        if (StringUtils.hasText(sqsProperties.endpoint())) {
+            builder.endpointOverride(URI.create(sqsProperties.endpoint()));
+        }
+        return builder.build();
     }
 }
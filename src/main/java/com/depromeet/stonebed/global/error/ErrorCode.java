@@ -41,6 +41,8 @@ public enum ErrorCode {
 
     // boost
     BOOST_UNAVAILABLE_MY_FEED(HttpStatus.BAD_REQUEST, "내 피드에는 부스트를 추가할 수 없습니다."),
+    BOOST_RATE_LIMIT_EXCEEDED(
+            HttpStatus.TOO_MANY_REQUESTS, "부스트 요청이 너무 많습니다. 잠시 후 다시 시도해주세요."),
 
     // image
     IMAGE_KEY_NOT_FOUND(HttpStatus.NOT_FOUND, "해당 이미지를 찾을 수 없습니다."),
@@ -67,6 +69,7 @@ public enum ErrorCode {
 
     // comment
     COMMENT_NOT_FOUND(HttpStatus.NOT_FOUND, "해당 댓글을 찾을 수 없습니다."),
+    COMMENT_DEPTH_EXCEEDED(HttpStatus.BAD_REQUEST, "더 이상 답글을 달 수 없는 댓글입니다."),
     ;
     private final HttpStatus httpStatus;
     private final String message;
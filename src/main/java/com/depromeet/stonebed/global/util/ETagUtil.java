@@ -0,0 +1,35 @@
+package com.depromeet.stonebed.global.util;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import org.springframework.stereotype.Component;
+import org.springframework.util.DigestUtils;
+import org.springframework.web.context.request.WebRequest;
+
+@Component
+public class ETagUtil {
+    private static final String DELIMITER = "|";
+
+    // 변경 여부를 나타내는 값(ID, 정렬 시각, 버전 토큰)의 문자열 표현으로 약한 ETag 생성
+    public String generateWeakETag(Stream<?> versionValues) {
+        String source = versionValues.map(String::valueOf).collect(Collectors.joining(DELIMITER));
+        return "W/\"" + DigestUtils.md5DigestAsHex(source.getBytes(StandardCharsets.UTF_8)) + "\"";
+    }
+
+    /**
+     * 응답을 만들기 전에 버전 값으로 만든 ETag와 If-None-Match를 비교합니다.
+     *
+     * <p>일치하지 않아도 ETag 헤더는 응답에 설정되며, 버전 값이 없으면(Redis 장애 등) ETag 없이 응답합니다.
+     *
+     * @return 일치하면 true. 이때 컨트롤러는 응답 본문 없이 null을 반환해 304로 응답
+     */
+    public boolean checkNotModified(Optional<List<Object>> versionValues, WebRequest webRequest) {
+        return versionValues
+                .map(values -> generateWeakETag(values.stream()))
+                .map(webRequest::checkNotModified)
+                .orElse(false);
+    }
+}
@@ -10,7 +10,8 @@ import org.springframework.context.annotation.Configuration;
     AppleProperties.class,
     SwaggerProperties.class,
     SqsProperties.class,
-    DiscordProperties.class
+    DiscordProperties.class,
+    ReplicaLagGuardProperties.class
 })
 @Configuration
 public class PropertiesConfig {}
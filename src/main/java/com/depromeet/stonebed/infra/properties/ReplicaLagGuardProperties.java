@@ -0,0 +1,17 @@
+package com.depromeet.stonebed.infra.properties;
+
+import java.time.Duration;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+@ConfigurationProperties(prefix = "spring.datasource.replica.lag-guard")
+public record ReplicaLagGuardProperties(
+        @DefaultValue("true") boolean enabled, @DefaultValue("5s") Duration maxLag) {
+    private static final Duration MIN_STALE_READ_WINDOW = Duration.ofSeconds(1);
+
+    // 변경 직후 레플리카에서 변경 전 데이터를 읽을 수 있는 시간
+    // 이보다 뒤처진 레플리카는 라우팅에서 제외되므로 허용 지연만큼으로 충분함
+    public Duration staleReadWindow() {
+        return maxLag.compareTo(MIN_STALE_READ_WINDOW) > 0 ? maxLag : MIN_STALE_READ_WINDOW;
+    }
+}
@@ -1,6 +1,18 @@
 package com.depromeet.stonebed.infra.properties;
 
+import java.time.Duration;
 import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
 
 @ConfigurationProperties(prefix = "sqs")
-public record SqsProperties(String accessKey, String secretKey, String region, String queueUrl) {}
+public record SqsProperties(
+        String accessKey,
+        String secretKey,
+        String region,
+        String queueUrl,
+        // 로컬 SQS 호환 서버(LocalStack, ElasticMQ 등)를 사용할 때만 지정
+        String endpoint,
+        // 동시에 전송 중일 수 있는 배치 요청 수
+        @DefaultValue("50") int maxInFlightBatches,
+        @DefaultValue("3") int maxAttempts,
+        @DefaultValue("100ms") Duration retryBackoff) {}
@@ -0,0 +1,23 @@
+package com.depromeet.stonebed.scheduler.comment;
+
+import static com.depromeet.stonebed.global.common.constants.BackfillConstants.*;
+
+import com.depromeet.stonebed.domain.backfill.application.BackfillService;
+import com.depromeet.stonebed.domain.comment.application.CommentService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+@Service
+@RequiredArgsConstructor
+public class CommentScheduler {
+    private final CommentService commentService;
+    private final BackfillService backfillService;
+
+    // 경로 컬럼 추가 전에 작성된 댓글 백필, 모든 서버를 통틀어 한 번만 실행
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfillCommentPaths() {
+        backfillService.runOnce(COMMENT_PATH_BACKFILL_KEY, commentService::backfillCommentPaths);
+    }
+}
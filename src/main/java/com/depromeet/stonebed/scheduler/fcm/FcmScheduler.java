@@ -1,19 +1,18 @@
 package com.depromeet.stonebed.scheduler.fcm;
 
-import com.depromeet.stonebed.domain.fcm.application.FcmNotificationService;
+import com.depromeet.stonebed.domain.fcm.application.FcmBroadcastService;
 import com.depromeet.stonebed.domain.fcm.dao.FcmTokenRepository;
+import com.depromeet.stonebed.domain.fcm.domain.FcmBroadcastAudience;
 import com.depromeet.stonebed.domain.fcm.domain.FcmNotificationType;
 import com.depromeet.stonebed.domain.fcm.domain.FcmToken;
-import com.depromeet.stonebed.domain.member.domain.MemberStatus;
-import com.depromeet.stonebed.domain.missionRecord.dao.MissionRecordRepository;
-import com.depromeet.stonebed.domain.missionRecord.domain.MissionRecordStatus;
 import com.depromeet.stonebed.global.common.constants.FcmNotificationConstants;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.List;
-import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 
@@ -21,9 +20,8 @@ import org.springframework.stereotype.Service;
 @Service
 @RequiredArgsConstructor
 public class FcmScheduler {
-    private final FcmNotificationService fcmNotificationService;
+    private final FcmBroadcastService fcmBroadcastService;
     private final FcmTokenRepository fcmTokenRepository;
-    private final MissionRecordRepository missionRecordRepository;
 
     // 매일 0시 0분에 실행
     @Scheduled(cron = "0 0 0 * * ?")
@@ -37,47 +35,46 @@ public class FcmScheduler {
     // 매일 9시 0분에 실행
     @Scheduled(cron = "0 0 9 * * ?")
     public void sendDailyNotification() {
-        FcmNotificationConstants notificationConstants = FcmNotificationConstants.MISSION_START;
-        String title = notificationConstants.getTitle();
-        String message = notificationConstants.getMessage();
-        List<String> tokens = fcmNotificationService.getAllTokens();
+        long sentCount =
+                fcmBroadcastService.broadcast(
+                        FcmNotificationConstants.MISSION_START,
+                        FcmNotificationType.MISSION,
+                        FcmBroadcastAudience.ALL_MEMBERS,
+                        LocalDate.now());
 
-        fcmNotificationService.sendAndNotifications(
-                title, message, tokens, null, null, FcmNotificationType.MISSION);
-
-        log.info("모든 사용자에게 정규 알림 전송 및 저장 완료");
+        log.info("모든 사용자에게 정규 알림 전송 및 저장 완료. 총 알림 수: {}", sentCount);
     }
 
     // 매일 19시 0분에 실행
     @Scheduled(cron = "0 0 19 * * ?")
     public void sendReminderToIncompleteMissions() {
-        FcmNotificationConstants notificationConstants = FcmNotificationConstants.MISSION_REMINDER;
-        String title = notificationConstants.getTitle();
-        String message = notificationConstants.getMessage();
-
-        List<String> tokens = getIncompleteMissionTokens();
-        fcmNotificationService.sendAndNotifications(
-                title, message, tokens, null, null, FcmNotificationType.MISSION);
+        long sentCount =
+                fcmBroadcastService.broadcast(
+                        FcmNotificationConstants.MISSION_REMINDER,
+                        FcmNotificationType.MISSION,
+                        FcmBroadcastAudience.INCOMPLETE_MISSION_MEMBERS,
+                        LocalDate.now());
 
-        log.info("미완료 미션 사용자에게 리마인더 전송 및 저장 완료. 총 토큰 수: {}", tokens.size());
+        log.info("미완료 미션 사용자에게 리마인더 전송 및 저장 완료. 총 알림 수: {}", sentCount);
     }
 
-    private List<String> getIncompleteMissionTokens() {
-        LocalDateTime startOfDay = LocalDate.now().atStartOfDay();
-        LocalDateTime endOfDay = startOfDay.plusDays(1);
-
-        List<Long> completedMemberIds =
-                missionRecordRepository
-                        .findAllByCreatedAtBetweenAndStatus(
-                                startOfDay, endOfDay, MissionRecordStatus.COMPLETED)
-                        .stream()
-                        .map(missionRecord -> missionRecord.getMember().getId())
-                        .collect(Collectors.toList());
-
-        return fcmTokenRepository.findAllByMemberStatus(MemberStatus.NORMAL).stream()
-                .filter(fcmToken -> !completedMemberIds.contains(fcmToken.getMember().getId()))
-                .filter(fcmToken -> fcmToken.getToken() != null)
-                .map(FcmToken::getToken)
-                .collect(Collectors.toList());
+    // 서버가 재시작되면 오늘 중단된 정규 알림과 리마인더를 이어서 보냄
+    @EventListener(ApplicationReadyEvent.class)
+    public void resumeDailyNotifications() {
+        LocalDate today = LocalDate.now();
+        long sentCount =
+                fcmBroadcastService.resume(
+                                FcmNotificationConstants.MISSION_START,
+                                FcmNotificationType.MISSION,
+                                FcmBroadcastAudience.ALL_MEMBERS,
+                                today)
+                        + fcmBroadcastService.resume(
+                                FcmNotificationConstants.MISSION_REMINDER,
+                                FcmNotificationType.MISSION,
+                                FcmBroadcastAudience.INCOMPLETE_MISSION_MEMBERS,
+                                today);
+        if (sentCount > 0) {
+            log.info("중단된 알림 이어서 전송 완료. 총 알림 수: {}", sentCount);
+        }
     }
 }
@@ -0,0 +1,21 @@
+package com.depromeet.stonebed.scheduler.feed;
+
+import com.depromeet.stonebed.domain.feed.application.FeedPopularityService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class FeedScheduler {
+    private final FeedPopularityService feedPopularityService;
+
+    // 매시 정각에 실행
+    @Scheduled(cron = "0 0 * * * ?")
+    public void trimPopularFeed() {
+        long removedCount = feedPopularityService.trim();
+        log.info("인기 피드 정리 완료 - 삭제된 기록 수: {}", removedCount);
+    }
+}
@@ -1,17 +1,75 @@
 package com.depromeet.stonebed.scheduler.missionRecord;
 
+import static com.depromeet.stonebed.global.common.constants.BackfillConstants.*;
+
+import com.depromeet.stonebed.domain.backfill.application.BackfillService;
+import com.depromeet.stonebed.domain.missionRecord.application.BoostLeaderboardService;
+import com.depromeet.stonebed.domain.missionRecord.application.MissionRecordBoostService;
 import com.depromeet.stonebed.domain.missionRecord.application.MissionRecordService;
+import java.time.LocalDate;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class MissionRecordScheduler {
     private final MissionRecordService missionRecordService;
+    private final MissionRecordBoostService missionRecordBoostService;
+    private final BoostLeaderboardService boostLeaderboardService;
+    private final BackfillService backfillService;
 
     @Scheduled(cron = "0 0 0 * * ?")
     public void updateMissionStatus() {
         missionRecordService.expiredMissionsToNotCompletedUpdate();
     }
+
+    // 5초마다 모아둔 부스트를 DB에 반영하고, 커밋된 뒤에 Redis의 묶음을 삭제
+    @Scheduled(fixedDelay = 5000)
+    public void flushPendingBoosts() {
+        missionRecordBoostService
+                .claimPendingBoosts()
+                .ifPresent(
+                        batch -> {
+                            missionRecordService.applyFlushedBoosts(batch);
+                            missionRecordBoostService.completeFlush(batch.flushId());
+                        });
+    }
+
+    // 매일 03시 10분에 보관 기간이 지난 부스트 반영 기록 삭제
+    @Scheduled(cron = "0 10 3 * * ?")
+    public void purgeBoostFlushHistory() {
+        int deletedCount = missionRecordBoostService.purgeFlushHistory();
+        log.info("부스트 반영 기록 정리 완료 - 삭제된 기록 수: {}", deletedCount);
+    }
+
+    // 매일 00시 10분에 전날 부스트 랭킹을 저장
+    @Scheduled(cron = "0 10 0 * * ?")
+    public void snapshotBoostLeaderboard() {
+        LocalDate rankingDate = LocalDate.now().minusDays(1);
+        try {
+            int savedCount = boostLeaderboardService.snapshot(rankingDate);
+            log.info("부스트 랭킹 저장 완료 - 날짜: {}, 저장된 순위 수: {}", rankingDate, savedCount);
+        } catch (DataIntegrityViolationException e) {
+            log.info("다른 서버에서 이미 저장한 부스트 랭킹 - 날짜: {}", rankingDate);
+        }
+    }
+
+    // 카운터 컬럼 추가 전에 작성된 기록 백필, 트래픽을 받기 전(readiness 전환 전)에 한 번만 실행
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfillFeedCounters() {
+        backfillService.runOnce(
+                FEED_COUNTER_BACKFILL_KEY, missionRecordService::repairFeedCounters);
+    }
+
+    // 매일 03시 30분에 카운터 어긋남 보정
+    @Scheduled(cron = "0 30 3 * * ?")
+    public void repairFeedCounters() {
+        missionRecordService.repairFeedCounters();
+    }
 }
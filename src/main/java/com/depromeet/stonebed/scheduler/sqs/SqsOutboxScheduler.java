@@ -0,0 +1,23 @@
+package com.depromeet.stonebed.scheduler.sqs;
+
+import com.depromeet.stonebed.domain.sqs.application.SqsOutboxRelay;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class SqsOutboxScheduler {
+    private final SqsOutboxRelay sqsOutboxRelay;
+
+    // 이전 실행이 끝나고 1초 뒤에 실행
+    @Scheduled(fixedDelay = 1000)
+    public void relayOutbox() {
+        int sentCount = sqsOutboxRelay.relay();
+        if (sentCount > 0) {
+            log.info("아웃박스 메시지 전송 완료 - {}건", sentCount);
+        }
+    }
+}
@@ -8,6 +8,7 @@ import com.depromeet.stonebed.domain.auth.domain.OAuthProvider;
 import com.depromeet.stonebed.domain.auth.dto.response.AuthTokenResponse;
 import com.depromeet.stonebed.domain.auth.dto.response.TokenPairResponse;
 import com.depromeet.stonebed.domain.comment.dao.CommentRepository;
+import com.depromeet.stonebed.domain.fcm.dao.FcmBroadcastReadRepository;
 import com.depromeet.stonebed.domain.fcm.dao.FcmNotificationRepository;
 import com.depromeet.stonebed.domain.fcm.dao.FcmTokenRepository;
 import com.depromeet.stonebed.domain.member.dao.MemberRepository;
@@ -25,6 +26,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.test.context.ActiveProfiles;
 
 @ActiveProfiles("test")
@@ -38,10 +40,12 @@ class AuthServiceTest extends FixtureMonkeySetUp {
     @Mock private MemberRepository memberRepository;
 
     @Mock private FcmNotificationRepository fcmNotificationRepository;
+    @Mock private FcmBroadcastReadRepository fcmBroadcastReadRepository;
     @Mock private MissionRecordRepository missionRecordRepository;
     @Mock private MissionRecordBoostRepository missionRecordBoostRepository;
     @Mock private FcmTokenRepository fcmTokenRepository;
     @Mock private CommentRepository commentRepository;
+    @Mock private ApplicationEventPublisher eventPublisher;
 
     @Mock private MemberUtil memberUtil;
 
@@ -151,6 +155,9 @@ class AuthServiceTest extends FixtureMonkeySetUp {
         assertEquals("", member.getProfile().getProfileImageUrl());
         assertEquals("", member.getProfile().getNickname());
 
+        // 전체 알림 읽음 기록도 함께 삭제되었는지 확인
+        verify(fcmBroadcastReadRepository).deleteAllByMember(member.getId());
+
         // jwtTokenService에서 리프레시 토큰 삭제가 호출되었는지 확인
         verify(jwtTokenProvider).deleteRefreshToken(member.getId());
 
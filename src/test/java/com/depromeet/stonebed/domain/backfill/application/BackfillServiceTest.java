@@ -0,0 +1,76 @@
+package com.depromeet.stonebed.domain.backfill.application;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import com.depromeet.stonebed.domain.backfill.dao.BackfillHistoryRepository;
+import com.depromeet.stonebed.domain.backfill.domain.BackfillHistory;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+
+@ExtendWith(MockitoExtension.class)
+class BackfillServiceTest {
+    private static final String BACKFILL_KEY = "test-backfill";
+
+    @InjectMocks private BackfillService backfillService;
+    @Mock private BackfillHistoryRepository backfillHistoryRepository;
+
+    @Test
+    void 처음_실행하는_백필은_실행하고_완료로_기록합니다() {
+        // given
+        AtomicInteger runCount = new AtomicInteger();
+
+        // when
+        boolean executed =
+                backfillService.runOnce(BACKFILL_KEY, () -> runCount.incrementAndGet());
+
+        // then
+        assertThat(executed).isTrue();
+        assertThat(runCount).hasValue(1);
+        verify(backfillHistoryRepository).saveAndFlush(any(BackfillHistory.class));
+        verify(backfillHistoryRepository).complete(BACKFILL_KEY);
+    }
+
+    @Test
+    void 이미_기록된_백필은_점유_기간이_지나지_않았으면_건너뜁니다() {
+        // given
+        AtomicInteger runCount = new AtomicInteger();
+        when(backfillHistoryRepository.saveAndFlush(any(BackfillHistory.class)))
+                .thenThrow(new DataIntegrityViolationException("duplicate"));
+        when(backfillHistoryRepository.reclaimExpired(eq(BACKFILL_KEY), any(), any()))
+                .thenReturn(0);
+
+        // when
+        boolean executed =
+                backfillService.runOnce(BACKFILL_KEY, () -> runCount.incrementAndGet());
+
+        // then
+        assertThat(executed).isFalse();
+        assertThat(runCount).hasValue(0);
+        verify(backfillHistoryRepository, never()).complete(any());
+    }
+
+    @Test
+    void 완료되지_않고_점유_기간이_지난_백필은_다시_실행합니다() {
+        // given
+        AtomicInteger runCount = new AtomicInteger();
+        when(backfillHistoryRepository.saveAndFlush(any(BackfillHistory.class)))
+                .thenThrow(new DataIntegrityViolationException("duplicate"));
+        when(backfillHistoryRepository.reclaimExpired(eq(BACKFILL_KEY), any(), any()))
+                .thenReturn(1);
+
+        // when
+        boolean executed =
+                backfillService.runOnce(BACKFILL_KEY, () -> runCount.incrementAndGet());
+
+        // then
+        assertThat(executed).isTrue();
+        assertThat(runCount).hasValue(1);
+        verify(backfillHistoryRepository).complete(BACKFILL_KEY);
+    }
+}
@@ -1,24 +1,37 @@
 package com.depromeet.stonebed.domain.comment.application;
 
+import static com.depromeet.stonebed.global.common.constants.CommentConstants.*;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
 
 import com.depromeet.stonebed.FixtureMonkeySetUp;
+import com.depromeet.stonebed.domain.comment.dao.CommentJdbcRepository;
 import com.depromeet.stonebed.domain.comment.dao.CommentRepository;
 import com.depromeet.stonebed.domain.comment.domain.Comment;
+import com.depromeet.stonebed.domain.comment.dto.CommentPathDto;
+import com.depromeet.stonebed.domain.comment.dto.FindCommentDto;
 import com.depromeet.stonebed.domain.comment.dto.request.CommentCreateRequest;
+import com.depromeet.stonebed.domain.comment.dto.request.CommentRootFindRequest;
 import com.depromeet.stonebed.domain.comment.dto.response.CommentCreateResponse;
 import com.depromeet.stonebed.domain.comment.dto.response.CommentFindOneResponse;
 import com.depromeet.stonebed.domain.comment.dto.response.CommentFindResponse;
+import com.depromeet.stonebed.domain.comment.dto.response.CommentRootFindResponse;
+import com.depromeet.stonebed.domain.comment.event.CommentCreatedEvent;
 import com.depromeet.stonebed.domain.fcm.application.FcmNotificationService;
-import com.depromeet.stonebed.domain.fcm.dao.FcmTokenRepository;
+import com.depromeet.stonebed.domain.feed.application.FeedPopularityService;
+import com.depromeet.stonebed.domain.feed.event.FeedContentChangedEvent;
 import com.depromeet.stonebed.domain.member.domain.Member;
 import com.depromeet.stonebed.domain.member.domain.MemberStatus;
 import com.depromeet.stonebed.domain.missionRecord.dao.MissionRecordRepository;
 import com.depromeet.stonebed.domain.missionRecord.domain.MissionRecord;
+import com.depromeet.stonebed.global.common.constants.FcmNotificationConstants;
+import com.depromeet.stonebed.global.error.ErrorCode;
+import com.depromeet.stonebed.global.error.exception.CustomException;
 import com.depromeet.stonebed.global.util.MemberUtil;
+import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
@@ -28,6 +41,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.test.context.ActiveProfiles;
 
 @ActiveProfiles("test")
@@ -38,11 +52,16 @@ class CommentServiceTest extends FixtureMonkeySetUp {
 
     @Mock private CommentRepository commentRepository;
 
+    @Mock private CommentJdbcRepository commentJdbcRepository;
+
+    @Mock private CommentCacheService commentCacheService;
+
     @Mock private MissionRecordRepository missionRecordRepository;
 
     @Mock private FcmNotificationService fcmNotificationService;
 
-    @Mock private FcmTokenRepository fcmTokenRepository;
+    @Mock private FeedPopularityService feedPopularityService;
+    @Mock private ApplicationEventPublisher eventPublisher;
 
     @InjectMocks private CommentService commentService;
 
@@ -70,6 +89,110 @@ class CommentServiceTest extends FixtureMonkeySetUp {
         assertEquals(comment.getId(), response.commentId());
 
         verifyCommonInvocations(recordId);
+        verify(eventPublisher)
+                .publishEvent(CommentCreatedEvent.of(comment.getId(), comment.getRecordId()));
+    }
+
+    @Test
+    void 댓글_작성과_같은_트랜잭션에서_기록_작성자에게_알림을_저장합니다() {
+        // given
+        Member writer = fixtureMonkey.giveMeOne(Member.class);
+        MissionRecord missionRecord = fixtureMonkey.giveMeOne(MissionRecord.class);
+        Comment comment =
+                fixtureMonkey
+                        .giveMeBuilder(Comment.class)
+                        .set("recordId", missionRecord.getId())
+                        .set("writer", writer)
+                        .set("parent", null)
+                        .sample();
+        Member recordOwner = missionRecord.getMember();
+
+        mockCommonDependencies(writer, missionRecord, missionRecord.getId(), comment);
+
+        // when
+        commentService.createComment(
+                CommentCreateRequest.of("댓글", missionRecord.getId(), null));
+
+        // then
+        verify(fcmNotificationService)
+                .sendCommentNotifications(
+                        comment.getId(),
+                        missionRecord.getId(),
+                        writer.getProfile().getNickname(),
+                        Map.of(recordOwner.getId(), FcmNotificationConstants.COMMENT));
+        verify(commentRepository, never()).findAllCommentDtosByRecordId(any());
+    }
+
+    @Test
+    void 답글_알림은_스레드를_한_번에_조회해_수신자를_정합니다() {
+        // given
+        MissionRecord missionRecord = fixtureMonkey.giveMeOne(MissionRecord.class);
+        Member recordOwner = missionRecord.getMember();
+        Member writer = fixtureMonkey.giveMeOne(Member.class);
+        Comment rootComment =
+                fixtureMonkey
+                        .giveMeBuilder(Comment.class)
+                        .set("writer", writer)
+                        .set("parent", null)
+                        .set("path", Comment.ROOT_PATH)
+                        .sample();
+        Comment parentComment =
+                fixtureMonkey
+                        .giveMeBuilder(Comment.class)
+                        .set("writer", writer)
+                        .set("parent", rootComment)
+                        .set("path", rootComment.getDescendantPath())
+                        .sample();
+        Comment reply =
+                fixtureMonkey
+                        .giveMeBuilder(Comment.class)
+                        .set("recordId", missionRecord.getId())
+                        .set("writer", recordOwner)
+                        .set("parent", parentComment)
+                        .set("path", parentComment.getDescendantPath())
+                        .sample();
+
+        // 루트 댓글에 다른 회원이 남긴 답글
+        Long siblingWriterId = 1000L;
+        FindCommentDto siblingReply =
+                new FindCommentDto(
+                        2000L,
+                        rootComment.getId(),
+                        siblingWriterId,
+                        MemberStatus.NORMAL,
+                        "형제",
+                        null,
+                        null,
+                        "형제 답글",
+                        LocalDateTime.now());
+
+        mockCommonDependencies(recordOwner, missionRecord, missionRecord.getId(), reply);
+        when(commentRepository.findById(parentComment.getId()))
+                .thenReturn(Optional.of(parentComment));
+        when(commentRepository.findThreadCommentDtos(
+                        List.of(rootComment.getId(), parentComment.getId())))
+                .thenReturn(
+                        List.of(
+                                FindCommentDto.from(rootComment),
+                                FindCommentDto.from(parentComment),
+                                siblingReply,
+                                FindCommentDto.from(reply)));
+
+        // when
+        commentService.createComment(
+                CommentCreateRequest.of("답글", missionRecord.getId(), parentComment.getId()));
+
+        // then
+        verify(fcmNotificationService)
+                .sendCommentNotifications(
+                        reply.getId(),
+                        missionRecord.getId(),
+                        recordOwner.getProfile().getNickname(),
+                        Map.of(
+                                writer.getId(),
+                                FcmNotificationConstants.RE_COMMENT,
+                                siblingWriterId,
+                                FcmNotificationConstants.RE_COMMENT));
     }
 
     @Test
@@ -107,6 +230,44 @@ class CommentServiceTest extends FixtureMonkeySetUp {
         assertChildComment(childResponse, parentResponse, childComment, parentComment);
     }
 
+    @Test
+    void 최대_깊이의_댓글에는_답글을_작성할_수_없습니다() {
+        // given: 조상 댓글이 최대 깊이만큼 있는 댓글
+        Member member = fixtureMonkey.giveMeOne(Member.class);
+        MissionRecord missionRecord = fixtureMonkey.giveMeOne(MissionRecord.class);
+        String path = Comment.ROOT_PATH;
+        for (long ancestorId = 1; ancestorId <= COMMENT_MAX_DEPTH; ancestorId++) {
+            path = Comment.childPathOf(path, ancestorId);
+        }
+        Comment parentComment =
+                fixtureMonkey
+                        .giveMeBuilder(Comment.class)
+                        .set("recordId", missionRecord.getId())
+                        .set("path", path)
+                        .sample();
+
+        when(memberUtil.getCurrentMember()).thenReturn(member);
+        when(missionRecordRepository.findById(missionRecord.getId()))
+                .thenReturn(Optional.of(missionRecord));
+        when(commentRepository.findById(parentComment.getId()))
+                .thenReturn(Optional.of(parentComment));
+
+        // when
+        CustomException exception =
+                assertThrows(
+                        CustomException.class,
+                        () ->
+                                commentService.createComment(
+                                        CommentCreateRequest.of(
+                                                "답글",
+                                                missionRecord.getId(),
+                                                parentComment.getId())));
+
+        // then
+        assertEquals(ErrorCode.COMMENT_DEPTH_EXCEEDED, exception.getErrorCode());
+        verify(commentRepository, never()).save(any(Comment.class));
+    }
+
     @Test
     void 부모_댓글에_여러_자식_댓글을_생성합니다() {
         // given
@@ -181,6 +342,10 @@ class CommentServiceTest extends FixtureMonkeySetUp {
     private void verifyCommonInvocations(Long recordId, int totalInvocations) {
         verify(memberUtil, times(totalInvocations)).getCurrentMember();
         verify(missionRecordRepository, times(totalInvocations)).findById(recordId);
+        verify(missionRecordRepository, times(totalInvocations)).increaseCommentCount(any());
+        verify(eventPublisher, times(totalInvocations))
+                .publishEvent(any(FeedContentChangedEvent.class));
+        verify(feedPopularityService, times(totalInvocations)).increaseCommentScore(any());
     }
 
     private void verifyCommonInvocations(Long recordId) {
@@ -201,6 +366,7 @@ class CommentServiceTest extends FixtureMonkeySetUp {
                 .set("writer", member)
                 .set("content", content)
                 .set("parent", parent)
+                .setNull("path")
                 .sample();
     }
 
@@ -272,7 +438,8 @@ class CommentServiceTest extends FixtureMonkeySetUp {
 
         // 모의 객체 설정
         when(missionRecordRepository.findById(recordId)).thenReturn(Optional.of(missionRecord));
-        when(commentRepository.findAllCommentsByMissionRecord(missionRecord)).thenReturn(comments);
+        when(commentRepository.findAllCommentDtosByRecordId(recordId))
+                .thenReturn(comments.stream().map(FindCommentDto::from).toList());
 
         // when: 댓글 조회
         CommentFindResponse result = commentService.findCommentsByRecordId(recordId);
@@ -287,6 +454,22 @@ class CommentServiceTest extends FixtureMonkeySetUp {
         assertEquals(commentResponses.get(0).content(), content); // 첫 번째 댓글 내용 비교
         assertEquals(result.comments().get(0).content(), content);
         assertEquals(commentResponses.get(0).content(), result.comments().get(0).content());
+        verify(commentCacheService).put(eq(recordId), eq(comment.getId()), eq(result), eq(false));
+    }
+
+    @Test
+    void 캐시된_댓글은_DB를_조회하지_않습니다() {
+        // given
+        Long recordId = 1L;
+        CommentFindResponse cachedResponse = CommentFindResponse.of(List.of());
+        when(commentCacheService.find(recordId)).thenReturn(Optional.of(cachedResponse));
+
+        // when
+        CommentFindResponse result = commentService.findCommentsByRecordId(recordId);
+
+        // then
+        assertSame(cachedResponse, result);
+        verifyNoInteractions(missionRecordRepository, commentRepository);
     }
 
     @Test
@@ -321,8 +504,8 @@ class CommentServiceTest extends FixtureMonkeySetUp {
 
         // Mock 설정: 댓글 조회
         when(missionRecordRepository.findById(recordId)).thenReturn(Optional.of(missionRecord));
-        when(commentRepository.findAllCommentsByMissionRecord(missionRecord))
-                .thenReturn(allComments);
+        when(commentRepository.findAllCommentDtosByRecordId(recordId))
+                .thenReturn(allComments.stream().map(FindCommentDto::from).toList());
 
         // when: 댓글 조회 메서드 호출
         CommentFindResponse result = commentService.findCommentsByRecordId(recordId);
@@ -380,4 +563,68 @@ class CommentServiceTest extends FixtureMonkeySetUp {
                     "자식 댓글 내용이 일치해야 합니다.");
         }
     }
+
+    @Test
+    void 최상위_댓글을_커서로_조회하고_답글_수를_함께_반환합니다() {
+        // given
+        Long recordId = 1L;
+        int limit = 2;
+        List<FindCommentDto> rootComments =
+                List.of(
+                        createRootCommentDto(1L),
+                        createRootCommentDto(2L),
+                        createRootCommentDto(3L));
+        CommentRootFindRequest request = new CommentRootFindRequest(recordId, null, limit);
+
+        when(commentRepository.findRootCommentDtos(recordId, null, limit + 1))
+                .thenReturn(rootComments);
+        when(commentRepository.countRepliesByParentIds(List.of(1L, 2L))).thenReturn(Map.of(1L, 3L));
+
+        // when
+        CommentRootFindResponse result = commentService.findRootComments(request);
+
+        // then
+        assertEquals(limit, result.comments().size());
+        assertEquals("2", result.nextCursor());
+        assertEquals(3L, result.comments().get(0).replyCount());
+        assertEquals(0L, result.comments().get(1).replyCount());
+    }
+
+    @Test
+    void 경로가_없는_댓글은_부모_경로를_이어_채웁니다() {
+        // given
+        when(commentRepository.findPathMissingComments(null, 1000))
+                .thenReturn(
+                        List.of(
+                                new CommentPathDto(1L, null, null, null),
+                                new CommentPathDto(2L, 1L, null, null),
+                                new CommentPathDto(3L, 2L, null, null)));
+        when(commentRepository.findCommentPathsByIds(Set.of(1L, 2L))).thenReturn(List.of());
+        when(commentRepository.findPathMissingComments(3L, 1000)).thenReturn(List.of());
+
+        // when
+        long filledCount = commentService.backfillCommentPaths();
+
+        // then
+        assertEquals(3, filledCount);
+        verify(commentJdbcRepository)
+                .updatePaths(
+                        List.of(
+                                new CommentPathDto(1L, null, "/", 0),
+                                new CommentPathDto(2L, 1L, "/1/", 1),
+                                new CommentPathDto(3L, 2L, "/1/2/", 2)));
+    }
+
+    private FindCommentDto createRootCommentDto(Long commentId) {
+        return new FindCommentDto(
+                commentId,
+                null,
+                1L,
+                MemberStatus.NORMAL,
+                "왈왈대장",
+                "https://default.walwal/profile.jpg",
+                null,
+                "댓글 " + commentId,
+                LocalDateTime.now());
+    }
 }
@@ -0,0 +1,150 @@
+package com.depromeet.stonebed.domain.fcm.application;
+
+import static com.depromeet.stonebed.global.common.constants.NotificationConstants.*;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import com.depromeet.stonebed.domain.fcm.dao.FcmBroadcastCheckpointRepository;
+import com.depromeet.stonebed.domain.fcm.dao.FcmTokenRepository;
+import com.depromeet.stonebed.domain.fcm.domain.FcmBroadcastAudience;
+import com.depromeet.stonebed.domain.fcm.domain.FcmBroadcastCheckpoint;
+import com.depromeet.stonebed.domain.fcm.domain.FcmNotificationType;
+import com.depromeet.stonebed.domain.fcm.dto.FcmRecipientDto;
+import com.depromeet.stonebed.global.common.constants.FcmNotificationConstants;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.context.ActiveProfiles;
+
+@ActiveProfiles("test")
+@ExtendWith(MockitoExtension.class)
+class FcmBroadcastServiceTest {
+    private static final LocalDate DATE = LocalDate.of(2024, 8, 1);
+    private static final String BROADCAST_KEY = "MISSION_START:2024-08-01";
+
+    @Mock private FcmNotificationService fcmNotificationService;
+    @Mock private FcmTokenRepository fcmTokenRepository;
+    @Mock private FcmBroadcastCheckpointRepository fcmBroadcastCheckpointRepository;
+
+    @InjectMocks private FcmBroadcastService fcmBroadcastService;
+
+    @Test
+    void 토큰을_구간별로_보내고_더_없으면_완료로_기록한다() {
+        // given
+        FcmBroadcastCheckpoint checkpoint =
+                FcmBroadcastCheckpoint.createFcmBroadcastCheckpoint(BROADCAST_KEY);
+        when(fcmBroadcastCheckpointRepository.findById(BROADCAST_KEY))
+                .thenReturn(Optional.empty());
+        when(fcmNotificationService.startBroadcast(
+                        BROADCAST_KEY,
+                        FcmNotificationConstants.MISSION_START,
+                        FcmNotificationType.MISSION,
+                        FcmBroadcastAudience.ALL_MEMBERS,
+                        DATE.atStartOfDay()))
+                .thenReturn(checkpoint);
+
+        List<FcmRecipientDto> recipients =
+                List.of(
+                        new FcmRecipientDto(3L, 1L, "token1"),
+                        new FcmRecipientDto(7L, 2L, "token2"));
+        when(fcmTokenRepository.findValidRecipientsAfter(0L, FCM_BROADCAST_CHUNK_SIZE))
+                .thenReturn(recipients);
+        when(fcmTokenRepository.findValidRecipientsAfter(7L, FCM_BROADCAST_CHUNK_SIZE))
+                .thenReturn(List.of());
+        when(fcmNotificationService.sendBroadcastChunk(
+                        BROADCAST_KEY,
+                        0L,
+                        FcmNotificationConstants.MISSION_START,
+                        FcmNotificationType.MISSION,
+                        recipients))
+                .thenReturn(true);
+
+        // when
+        long sentCount =
+                fcmBroadcastService.broadcast(
+                        FcmNotificationConstants.MISSION_START,
+                        FcmNotificationType.MISSION,
+                        FcmBroadcastAudience.ALL_MEMBERS,
+                        DATE);
+
+        // then
+        assertEquals(2, sentCount);
+        verify(fcmNotificationService).completeBroadcast(BROADCAST_KEY);
+    }
+
+    @Test
+    void 체크포인트가_있으면_기록된_다음_토큰부터_보낸다() {
+        // given
+        FcmBroadcastCheckpoint checkpoint =
+                FcmBroadcastCheckpoint.createFcmBroadcastCheckpoint(BROADCAST_KEY);
+        checkpoint.advance(100L);
+        when(fcmBroadcastCheckpointRepository.findById(BROADCAST_KEY))
+                .thenReturn(Optional.of(checkpoint));
+        when(fcmTokenRepository.findValidRecipientsAfter(100L, FCM_BROADCAST_CHUNK_SIZE))
+                .thenReturn(List.of());
+
+        // when
+        long sentCount =
+                fcmBroadcastService.resume(
+                        FcmNotificationConstants.MISSION_START,
+                        FcmNotificationType.MISSION,
+                        FcmBroadcastAudience.ALL_MEMBERS,
+                        DATE);
+
+        // then
+        assertEquals(0, sentCount);
+        verify(fcmTokenRepository, never()).findValidRecipientsAfter(eq(0L), anyInt());
+        verify(fcmNotificationService).completeBroadcast(BROADCAST_KEY);
+    }
+
+    @Test
+    void 시작하지_않은_알림은_이어서_보내지_않는다() {
+        // given
+        when(fcmBroadcastCheckpointRepository.findById(BROADCAST_KEY))
+                .thenReturn(Optional.empty());
+
+        // when
+        long sentCount =
+                fcmBroadcastService.resume(
+                        FcmNotificationConstants.MISSION_START,
+                        FcmNotificationType.MISSION,
+                        FcmBroadcastAudience.ALL_MEMBERS,
+                        DATE);
+
+        // then
+        assertEquals(0, sentCount);
+        verifyNoInteractions(fcmTokenRepository, fcmNotificationService);
+    }
+
+    @Test
+    void 리마인더는_그날_미션을_완료하지_않은_회원에게만_보낸다() {
+        // given
+        String broadcastKey = "MISSION_REMINDER:2024-08-01";
+        FcmBroadcastCheckpoint checkpoint =
+                FcmBroadcastCheckpoint.createFcmBroadcastCheckpoint(broadcastKey);
+        when(fcmBroadcastCheckpointRepository.findById(broadcastKey))
+                .thenReturn(Optional.of(checkpoint));
+        when(fcmTokenRepository.findIncompleteMissionRecipientsAfter(
+                        0L,
+                        DATE.atStartOfDay(),
+                        DATE.plusDays(1).atStartOfDay(),
+                        FCM_BROADCAST_CHUNK_SIZE))
+                .thenReturn(List.of());
+
+        // when
+        fcmBroadcastService.broadcast(
+                FcmNotificationConstants.MISSION_REMINDER,
+                FcmNotificationType.MISSION,
+                FcmBroadcastAudience.INCOMPLETE_MISSION_MEMBERS,
+                DATE);
+
+        // then
+        verify(fcmTokenRepository, never()).findValidRecipientsAfter(anyLong(), anyInt());
+        verify(fcmNotificationService).completeBroadcast(broadcastKey);
+    }
+}
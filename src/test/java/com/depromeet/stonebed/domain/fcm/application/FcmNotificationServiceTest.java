@@ -4,22 +4,38 @@ import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
 
 import com.depromeet.stonebed.FixtureMonkeySetUp;
+import com.depromeet.stonebed.domain.fcm.dao.FcmBroadcastCheckpointRepository;
+import com.depromeet.stonebed.domain.fcm.dao.FcmBroadcastNotificationRepository;
+import com.depromeet.stonebed.domain.fcm.dao.FcmBroadcastReadRepository;
+import com.depromeet.stonebed.domain.fcm.dao.FcmNotificationJdbcRepository;
 import com.depromeet.stonebed.domain.fcm.dao.FcmNotificationRepository;
+import com.depromeet.stonebed.domain.fcm.dao.FcmTokenRepository;
+import com.depromeet.stonebed.domain.fcm.domain.FcmBroadcastCheckpoint;
+import com.depromeet.stonebed.domain.fcm.domain.FcmBroadcastNotification;
+import com.depromeet.stonebed.domain.fcm.domain.FcmMessage;
 import com.depromeet.stonebed.domain.fcm.domain.FcmNotification;
 import com.depromeet.stonebed.domain.fcm.domain.FcmNotificationType;
+import com.depromeet.stonebed.domain.fcm.domain.FcmToken;
+import com.depromeet.stonebed.domain.fcm.dto.FcmRecipientDto;
 import com.depromeet.stonebed.domain.fcm.dto.response.FcmNotificationResponse;
 import com.depromeet.stonebed.domain.member.dao.MemberRepository;
 import com.depromeet.stonebed.domain.member.domain.Member;
 import com.depromeet.stonebed.domain.missionRecord.dao.MissionRecordRepository;
 import com.depromeet.stonebed.domain.missionRecord.domain.MissionRecord;
 import com.depromeet.stonebed.domain.missionRecord.domain.MissionRecordDisplay;
+import com.depromeet.stonebed.domain.sqs.application.SqsMessageService;
+import com.depromeet.stonebed.global.common.constants.FcmNotificationConstants;
 import com.depromeet.stonebed.global.error.ErrorCode;
 import com.depromeet.stonebed.global.error.exception.CustomException;
 import com.depromeet.stonebed.global.util.MemberUtil;
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
@@ -35,6 +51,12 @@ public class FcmNotificationServiceTest extends FixtureMonkeySetUp {
     @Mock private MissionRecordRepository missionRecordRepository;
     @Mock private MemberRepository memberRepository;
     @Mock private MemberUtil memberUtil;
+    @Mock private FcmNotificationJdbcRepository notificationJdbcRepository;
+    @Mock private FcmTokenRepository fcmTokenRepository;
+    @Mock private FcmBroadcastCheckpointRepository fcmBroadcastCheckpointRepository;
+    @Mock private FcmBroadcastNotificationRepository fcmBroadcastNotificationRepository;
+    @Mock private FcmBroadcastReadRepository fcmBroadcastReadRepository;
+    @Mock private SqsMessageService sqsMessageService;
 
     @InjectMocks private FcmNotificationService fcmNotificationService;
 
@@ -140,4 +162,206 @@ public class FcmNotificationServiceTest extends FixtureMonkeySetUp {
         // then
         assertTrue(exception.getErrorCode() == ErrorCode.NOTIFICATION_NOT_FOUND);
     }
+
+    @Test
+    void 부스트_알림_기준을_넘으면_알림을_저장하고_발송한다() {
+        // given
+        MissionRecord missionRecord = fixtureMonkey.giveMeOne(MissionRecord.class);
+        Member member = missionRecord.getMember();
+        when(fcmTokenRepository.findByMember(member))
+                .thenReturn(Optional.of(FcmToken.createFcmToken(member, "token")));
+        when(notificationJdbcRepository.saveIfAbsent(any(FcmNotification.class))).thenReturn(true);
+
+        // when
+        fcmNotificationService.sendBoostMilestoneNotification(missionRecord, 990L, 1200L);
+
+        // then
+        ArgumentCaptor<FcmNotification> captor = ArgumentCaptor.forClass(FcmNotification.class);
+        verify(notificationJdbcRepository).saveIfAbsent(captor.capture());
+        assertEquals(FcmNotificationConstants.POPULAR.getTitle(), captor.getValue().getTitle());
+        assertEquals("BOOSTER:" + missionRecord.getId() + ":1000", captor.getValue().getDedupKey());
+        verify(sqsMessageService).enqueueMessage(any(FcmMessage.class));
+    }
+
+    @Test
+    void 이미_저장된_부스트_알림은_다시_발송하지_않는다() {
+        // given
+        MissionRecord missionRecord = fixtureMonkey.giveMeOne(MissionRecord.class);
+        Member member = missionRecord.getMember();
+        when(fcmTokenRepository.findByMember(member))
+                .thenReturn(Optional.of(FcmToken.createFcmToken(member, "token")));
+        when(notificationJdbcRepository.saveIfAbsent(any(FcmNotification.class)))
+                .thenReturn(false);
+
+        // when
+        fcmNotificationService.sendBoostMilestoneNotification(missionRecord, 0L, 1L);
+
+        // then
+        verify(sqsMessageService, never()).enqueueMessage(any());
+    }
+
+    @Test
+    void 넘은_부스트_알림_기준이_없으면_알림을_보내지_않는다() {
+        // given
+        MissionRecord missionRecord = fixtureMonkey.giveMeOne(MissionRecord.class);
+
+        // when: 첫 부스트 기준(1)은 이전 반영에서 이미 넘음
+        fcmNotificationService.sendBoostMilestoneNotification(missionRecord, 5L, 10L);
+
+        // then
+        verifyNoInteractions(notificationJdbcRepository, sqsMessageService);
+    }
+
+    @Test
+    void 댓글_알림은_토큰이_있는_수신자에게만_한_번에_발송하고_저장한다() {
+        // given
+        Member recordOwner = fixtureMonkey.giveMeBuilder(Member.class).set("id", 1L).sample();
+        Member parentWriter = fixtureMonkey.giveMeBuilder(Member.class).set("id", 2L).sample();
+        Map<Long, FcmNotificationConstants> recipients = new LinkedHashMap<>();
+        recipients.put(1L, FcmNotificationConstants.RECORD_RE_COMMENT);
+        recipients.put(2L, FcmNotificationConstants.RE_COMMENT);
+        recipients.put(3L, FcmNotificationConstants.RE_COMMENT);
+
+        when(fcmTokenRepository.findValidTokensByMemberIds(recipients.keySet()))
+                .thenReturn(Map.of(1L, "owner-token", 2L, "parent-token"));
+        when(memberRepository.getReferenceById(1L)).thenReturn(recordOwner);
+        when(memberRepository.getReferenceById(2L)).thenReturn(parentWriter);
+
+        // when
+        fcmNotificationService.sendCommentNotifications(10L, 20L, "왈왈대장", recipients);
+
+        // then
+        ArgumentCaptor<List<FcmMessage>> messageCaptor = ArgumentCaptor.forClass(List.class);
+        verify(sqsMessageService).enqueueMessages(messageCaptor.capture());
+        assertEquals(
+                List.of("owner-token", "parent-token"),
+                messageCaptor.getValue().stream().map(FcmMessage::token).toList());
+
+        ArgumentCaptor<List<FcmNotification>> notificationCaptor =
+                ArgumentCaptor.forClass(List.class);
+        verify(notificationJdbcRepository).saveAll(notificationCaptor.capture());
+        assertTrue(
+                notificationCaptor.getValue().stream()
+                        .allMatch(
+                                notification ->
+                                        notification.getType() == FcmNotificationType.RE_COMMENT));
+        verify(fcmTokenRepository, never()).findByMember(any());
+    }
+
+    @Test
+    void 전체_알림은_회원별_알림_내역_없이_발송_메시지만_저장하고_체크포인트를_옮긴다() {
+        // given
+        String broadcastKey = "MISSION_START:2024-08-01";
+        FcmBroadcastCheckpoint checkpoint =
+                FcmBroadcastCheckpoint.createFcmBroadcastCheckpoint(broadcastKey);
+        when(fcmBroadcastCheckpointRepository.findByIdForUpdate(broadcastKey))
+                .thenReturn(Optional.of(checkpoint));
+        List<FcmRecipientDto> recipients =
+                List.of(
+                        new FcmRecipientDto(10L, 1L, "first-token"),
+                        new FcmRecipientDto(11L, 2L, "second-token"));
+
+        // when
+        boolean sent =
+                fcmNotificationService.sendBroadcastChunk(
+                        broadcastKey,
+                        0L,
+                        FcmNotificationConstants.MISSION_START,
+                        FcmNotificationType.MISSION,
+                        recipients);
+
+        // then
+        assertTrue(sent);
+        assertEquals(11L, checkpoint.getLastFcmTokenId());
+        ArgumentCaptor<List<FcmMessage>> messageCaptor = ArgumentCaptor.forClass(List.class);
+        verify(sqsMessageService).enqueueMessages(messageCaptor.capture());
+        assertEquals(
+                List.of("first-token", "second-token"),
+                messageCaptor.getValue().stream().map(FcmMessage::token).toList());
+        verifyNoInteractions(notificationJdbcRepository, memberRepository);
+    }
+
+    @Test
+    void 알림함은_개인_알림과_전체_알림을_시간순으로_합쳐_보여준다() {
+        // given
+        Member member = fixtureMonkey.giveMeOne(Member.class);
+        when(memberUtil.getCurrentMember()).thenReturn(member);
+
+        LocalDateTime now = LocalDateTime.now();
+        FcmNotification notification =
+                fixtureMonkey
+                        .giveMeBuilder(FcmNotification.class)
+                        .set("member", member)
+                        .set("targetId", null)
+                        .set("createdAt", now.minusHours(2))
+                        .sample();
+        FcmBroadcastNotification broadcast =
+                fixtureMonkey
+                        .giveMeBuilder(FcmBroadcastNotification.class)
+                        .set("id", 5L)
+                        .set("createdAt", now.minusHours(1))
+                        .sample();
+        when(notificationRepository.findMissionRecordNotificationByMemberPaging(
+                        member.getId(),
+                        null,
+                        PageRequest.of(0, 10, Sort.by(Sort.Direction.DESC, "createdAt"))))
+                .thenReturn(List.of(notification));
+        when(fcmBroadcastNotificationRepository.findBroadcastNotificationsByMemberPaging(
+                        member.getId(), member.getCreatedAt(), null, 10))
+                .thenReturn(List.of(broadcast));
+        when(fcmBroadcastReadRepository.findReadBroadcastIds(member.getId(), List.of(5L)))
+                .thenReturn(List.of(5L));
+
+        // when
+        FcmNotificationResponse response =
+                fcmNotificationService.getNotificationsForCurrentMember(null, 10);
+
+        // then
+        assertEquals(2, response.list().size());
+        assertTrue(response.list().get(0).isBroadcast());
+        assertTrue(response.list().get(0).isRead());
+        assertFalse(response.list().get(1).isBroadcast());
+        assertNull(response.nextCursor());
+        verify(notificationRepository)
+                .existsMissionRecordNotificationByMemberBefore(member.getId(), now.minusHours(2));
+        verify(fcmBroadcastNotificationRepository)
+                .existsBroadcastNotificationByMemberBefore(
+                        member.getId(), member.getCreatedAt(), now.minusHours(2));
+    }
+
+    @Test
+    void 대상인_전체_알림은_읽음_표시를_저장한다() {
+        // given
+        Member member = fixtureMonkey.giveMeOne(Member.class);
+        when(memberUtil.getCurrentMember()).thenReturn(member);
+        when(fcmBroadcastNotificationRepository.existsBroadcastNotificationForMember(
+                        5L, member.getId(), member.getCreatedAt()))
+                .thenReturn(true);
+
+        // when
+        fcmNotificationService.markBroadcastAsRead(5L);
+
+        // then
+        verify(notificationJdbcRepository).saveBroadcastReadIfAbsent(member.getId(), 5L);
+    }
+
+    @Test
+    void 대상이_아닌_전체_알림은_읽음_처리하면_예외가_발생한다() {
+        // given
+        Member member = fixtureMonkey.giveMeOne(Member.class);
+        when(memberUtil.getCurrentMember()).thenReturn(member);
+        when(fcmBroadcastNotificationRepository.existsBroadcastNotificationForMember(
+                        5L, member.getId(), member.getCreatedAt()))
+                .thenReturn(false);
+
+        // when
+        CustomException exception =
+                assertThrows(
+                        CustomException.class,
+                        () -> fcmNotificationService.markBroadcastAsRead(5L));
+
+        // then
+        assertEquals(ErrorCode.NOTIFICATION_NOT_FOUND, exception.getErrorCode());
+        verifyNoInteractions(notificationJdbcRepository);
+    }
 }
@@ -0,0 +1,220 @@
+package com.depromeet.stonebed.domain.fcm.dao;
+
+import static org.assertj.core.api.Assertions.*;
+
+import com.depromeet.stonebed.config.TestQuerydslConfig;
+import com.depromeet.stonebed.domain.fcm.domain.FcmToken;
+import com.depromeet.stonebed.domain.fcm.dto.FcmRecipientDto;
+import com.depromeet.stonebed.domain.member.dao.MemberRepository;
+import com.depromeet.stonebed.domain.member.domain.Member;
+import com.depromeet.stonebed.domain.member.domain.MemberRole;
+import com.depromeet.stonebed.domain.member.domain.MemberStatus;
+import com.depromeet.stonebed.domain.member.domain.OauthInfo;
+import com.depromeet.stonebed.domain.member.domain.Profile;
+import com.depromeet.stonebed.domain.member.domain.RaisePet;
+import com.depromeet.stonebed.domain.mission.dao.MissionRepository;
+import com.depromeet.stonebed.domain.mission.domain.Mission;
+import com.depromeet.stonebed.domain.missionHistory.dao.MissionHistoryRepository;
+import com.depromeet.stonebed.domain.missionHistory.domain.MissionHistory;
+import com.depromeet.stonebed.domain.missionRecord.dao.MissionRecordRepository;
+import com.depromeet.stonebed.domain.missionRecord.domain.MissionRecord;
+import com.depromeet.stonebed.domain.missionRecord.domain.MissionRecordStatus;
+import com.depromeet.stonebed.global.config.jpa.JpaConfig;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@ActiveProfiles("test")
+@Import({TestQuerydslConfig.class, JpaConfig.class})
+class FcmTokenRepositoryTest {
+    @Autowired private FcmTokenRepository fcmTokenRepository;
+    @Autowired private MemberRepository memberRepository;
+    @Autowired private MissionRepository missionRepository;
+    @Autowired private MissionHistoryRepository missionHistoryRepository;
+    @Autowired private MissionRecordRepository missionRecordRepository;
+    @Autowired private TestEntityManager testEntityManager;
+
+    private MissionHistory missionHistory;
+    private int memberSequence;
+    private Long lastTokenId = 0L;
+
+    @BeforeEach
+    void setUp() {
+        Mission mission =
+                missionRepository.save(
+                        Mission.builder()
+                                .title("Test Mission")
+                                .raisePet(RaisePet.DOG)
+                                .completeMessage("Complete")
+                                .build());
+        missionHistory =
+                missionHistoryRepository.save(
+                        MissionHistory.createMissionHistory(
+                                mission, LocalDate.now(), RaisePet.DOG));
+    }
+
+    @Test
+    void 기간_안에_미션을_완료한_회원을_제외하고_조회합니다() {
+        // given
+        Member completedMember = saveMemberWithToken(MemberStatus.NORMAL);
+        saveMissionRecord(completedMember, MissionRecordStatus.COMPLETED);
+        Member inProgressMember = saveMemberWithToken(MemberStatus.NORMAL);
+        saveMissionRecord(inProgressMember, MissionRecordStatus.IN_PROGRESS);
+        Member noRecordMember = saveMemberWithToken(MemberStatus.NORMAL);
+        saveMemberWithToken(MemberStatus.DELETED);
+        flushAndClear();
+
+        LocalDateTime now = LocalDateTime.now();
+
+        // when
+        List<FcmRecipientDto> recipients =
+                fcmTokenRepository.findIncompleteMissionRecipientsAfter(
+                        0L, now.minusHours(1), now.plusHours(1), 10);
+
+        // then
+        assertThat(recipients)
+                .extracting(FcmRecipientDto::memberId)
+                .containsExactly(inProgressMember.getId(), noRecordMember.getId());
+    }
+
+    @Test
+    void 기간_밖에서_완료한_회원은_대상에_포함합니다() {
+        // given
+        Member completedMember = saveMemberWithToken(MemberStatus.NORMAL);
+        saveMissionRecord(completedMember, MissionRecordStatus.COMPLETED);
+        flushAndClear();
+
+        LocalDateTime tomorrow = LocalDateTime.now().plusDays(1);
+
+        // when
+        List<FcmRecipientDto> recipients =
+                fcmTokenRepository.findIncompleteMissionRecipientsAfter(
+                        0L, tomorrow, tomorrow.plusDays(1), 10);
+
+        // then
+        assertThat(recipients)
+                .extracting(FcmRecipientDto::memberId)
+                .containsExactly(completedMember.getId());
+    }
+
+    @Test
+    void 대상_회원_수와_관계없이_구간마다_쿼리를_한_번만_실행합니다() {
+        // given: 회원 절반은 미션을 완료한 상태
+        int tokenCount = 1000;
+        int chunkSize = 100;
+        Long cursorId = saveRecipients(tokenCount);
+        Statistics statistics = getStatistics();
+        statistics.clear();
+
+        // when
+        int recipientCount = scanRecipients(cursorId, LocalDateTime.now(), chunkSize);
+
+        // then: 대상 500명을 100명씩 다섯 번, 빈 구간 확인 한 번
+        assertThat(recipientCount).isEqualTo(tokenCount / 2);
+        assertThat(statistics.getPrepareStatementCount())
+                .isEqualTo(recipientCount / chunkSize + 1);
+    }
+
+    @Test
+    void 완료_기록_확인은_기록_전체를_훑지_않고_인덱스로_조회합니다() {
+        // given
+        saveRecipients(100);
+
+        // when: NOT EXISTS 하위 쿼리와 같은 조건의 실행 계획
+        String plan =
+                (String)
+                        testEntityManager
+                                .getEntityManager()
+                                .createNativeQuery(
+                                        "EXPLAIN SELECT 1 FROM mission_record mr"
+                                                + " WHERE mr.member_id = 1"
+                                                + " AND mr.status = 'COMPLETED'"
+                                                + " AND mr.created_at >= TIMESTAMP"
+                                                + " '2024-01-01 00:00:00'"
+                                                + " AND mr.created_at < TIMESTAMP"
+                                                + " '2024-01-02 00:00:00'")
+                                .getSingleResult();
+
+        // then
+        assertThat(plan).doesNotContainIgnoringCase("tableScan");
+    }
+
+    // 새로 저장한 토큰 바로 앞의 커서를 반환
+    private Long saveRecipients(int tokenCount) {
+        Long cursorId = lastTokenId;
+        for (int i = 0; i < tokenCount; i++) {
+            Member member = saveMemberWithToken(MemberStatus.NORMAL);
+            if (i % 2 == 0) {
+                saveMissionRecord(member, MissionRecordStatus.COMPLETED);
+            }
+        }
+        flushAndClear();
+        return cursorId;
+    }
+
+    // 발송 작업처럼 커서를 옮기며 끝까지 조회
+    private int scanRecipients(Long cursorId, LocalDateTime now, int chunkSize) {
+        int recipientCount = 0;
+        List<FcmRecipientDto> recipients;
+        do {
+            recipients =
+                    fcmTokenRepository.findIncompleteMissionRecipientsAfter(
+                            cursorId,
+                            now.minusHours(1),
+                            now.plusHours(1),
+                            chunkSize);
+            recipientCount += recipients.size();
+            if (!recipients.isEmpty()) {
+                cursorId = recipients.get(recipients.size() - 1).fcmTokenId();
+            }
+        } while (recipients.size() == chunkSize);
+        return recipientCount;
+    }
+
+    private Member saveMemberWithToken(MemberStatus status) {
+        int sequence = ++memberSequence;
+        Member member =
+                memberRepository.save(
+                        Member.createMember(
+                                Profile.createProfile("member" + sequence, ""),
+                                OauthInfo.createOauthInfo(
+                                        "oauth" + sequence, "APPLE", sequence + "@test.com"),
+                                status,
+                                MemberRole.USER,
+                                RaisePet.DOG));
+        lastTokenId =
+                fcmTokenRepository
+                        .save(FcmToken.createFcmToken(member, "token" + sequence))
+                        .getId();
+        return member;
+    }
+
+    private void saveMissionRecord(Member member, MissionRecordStatus status) {
+        MissionRecord missionRecord = MissionRecord.createMissionRecord(member, missionHistory);
+        missionRecord.updateStatus(status);
+        missionRecordRepository.save(missionRecord);
+    }
+
+    private Statistics getStatistics() {
+        return testEntityManager
+                .getEntityManager()
+                .getEntityManagerFactory()
+                .unwrap(SessionFactory.class)
+                .getStatistics();
+    }
+
+    private void flushAndClear() {
+        testEntityManager.flush();
+        testEntityManager.clear();
+    }
+}
@@ -6,16 +6,31 @@ import static org.mockito.Mockito.*;
 
 import com.depromeet.stonebed.FixtureMonkeySetUp;
 import com.depromeet.stonebed.domain.feed.dao.FeedRepository;
+import com.depromeet.stonebed.domain.feed.dto.FeedCursor;
+import com.depromeet.stonebed.domain.feed.dto.FeedKey;
+import com.depromeet.stonebed.domain.feed.dto.FeedKeyPage;
 import com.depromeet.stonebed.domain.feed.dto.FindFeedDto;
+import com.depromeet.stonebed.domain.feed.dto.request.FeedBatchGetRequest;
+import com.depromeet.stonebed.domain.feed.dto.request.FeedFollowingGetRequest;
 import com.depromeet.stonebed.domain.feed.dto.request.FeedGetRequest;
+import com.depromeet.stonebed.domain.feed.dto.request.FeedPopularGetRequest;
 import com.depromeet.stonebed.domain.feed.dto.response.v1.FeedGetResponse;
+import com.depromeet.stonebed.domain.feed.dto.response.v2.FeedBatchGetResponse;
+import com.depromeet.stonebed.domain.feed.dto.response.v2.FeedGetResponseV2;
+import com.depromeet.stonebed.domain.follow.dao.FollowRepository;
 import com.depromeet.stonebed.domain.member.domain.Member;
 import com.depromeet.stonebed.domain.mission.domain.Mission;
 import com.depromeet.stonebed.domain.missionRecord.domain.MissionRecord;
 import com.depromeet.stonebed.global.error.ErrorCode;
 import com.depromeet.stonebed.global.error.exception.CustomException;
+import com.depromeet.stonebed.global.util.SecurityUtil;
+import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.IntFunction;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
@@ -29,33 +44,41 @@ class FeedServiceTest extends FixtureMonkeySetUp {
     int DEFAULT_LIMIT = 5;
     Long DEFAULT_TOTAL_BOOST_COUNT = 100L;
     Long DEFAULT_TOTAL_COMMENT_COUNT = 13L;
-    String DEFAULT_CURSOR = "5";
+    String DEFAULT_CURSOR = FeedCursor.of(LocalDateTime.of(2024, 8, 1, 12, 0), 15L).encode();
     String INVALID_CURSOR = "2024-08-01";
 
     @InjectMocks private FeedService feedService;
 
     @Mock private FeedRepository feedRepository;
+    @Mock private FeedItemCacheService feedItemCacheService;
+    @Mock private FeedHiddenRecordService feedHiddenRecordService;
+    @Mock private FeedPageCacheService feedPageCacheService;
+    @Mock private FeedPopularityService feedPopularityService;
+    @Mock private FeedTimelineService feedTimelineService;
+    @Mock private FollowRepository followRepository;
+    @Mock private SecurityUtil securityUtil;
+
+    // 페이지 캐시는 항상 미스로 간주하고 DB 조회를 그대로 수행
+    @BeforeEach
+    void setUp() {
+        lenient()
+                .when(feedPageCacheService.getOrLoad(any(), any(), anyInt(), anyInt(), any()))
+                .thenAnswer(
+                        invocation ->
+                                invocation
+                                        .<IntFunction<List<FeedKey>>>getArgument(4)
+                                        .apply(invocation.getArgument(3)));
+    }
 
     @Test
     void 피드_조회_성공() {
         // Given
-        List<FindFeedDto> feeds = new ArrayList<>();
-
-        for (int i = 0; i < 5; i++) {
-            feeds.add(
-                    FindFeedDto.from(
-                            fixtureMonkey.giveMeOne(Mission.class),
-                            fixtureMonkey.giveMeOne(MissionRecord.class),
-                            fixtureMonkey.giveMeOne(Member.class),
-                            DEFAULT_TOTAL_COMMENT_COUNT,
-                            DEFAULT_TOTAL_BOOST_COUNT));
-        }
+        List<FindFeedDto> feeds = createFeeds(5);
+        List<FeedKey> feedKeys = toFeedKeys(feeds);
 
-        when(feedRepository.getFeedContentsUsingCursor(null, null, DEFAULT_LIMIT))
-                .thenReturn(feeds);
-        when(feedRepository.getNextFeedContent(
-                        feeds.get(feeds.size() - 1).missionRecord().getId(), null))
-                .thenReturn(null);
+        when(feedRepository.findFeedKeysUsingCursor(null, null, DEFAULT_LIMIT + 1))
+                .thenReturn(feedKeys);
+        when(feedItemCacheService.findAllByIds(toRecordIds(feedKeys))).thenReturn(feeds);
 
         // When
         FeedGetResponse feedGetResponse =
@@ -68,66 +91,126 @@ class FeedServiceTest extends FixtureMonkeySetUp {
 
     @Test
     void 피드_조회_커서_사용_성공() {
+        // Given: 다음 페이지 확인용으로 limit + 1개의 정렬 키 반환
+        List<FindFeedDto> feeds = createFeeds(DEFAULT_LIMIT + 1);
+        List<FeedKey> feedKeys = toFeedKeys(feeds);
+        List<FeedKey> pageKeys = feedKeys.subList(0, DEFAULT_LIMIT);
+
+        when(feedRepository.findFeedKeysUsingCursor(
+                        FeedCursor.decode(DEFAULT_CURSOR), null, DEFAULT_LIMIT + 1))
+                .thenReturn(feedKeys);
+        when(feedItemCacheService.findAllByIds(toRecordIds(pageKeys)))
+                .thenReturn(feeds.subList(0, DEFAULT_LIMIT));
+
+        // When
+        FeedGetResponse feedGetResponse =
+                feedService.findFeed(new FeedGetRequest(DEFAULT_CURSOR, null, DEFAULT_LIMIT));
+
+        // Then
+        FeedKey lastKey = pageKeys.get(DEFAULT_LIMIT - 1);
+        assertThat(feedGetResponse.list().size()).isEqualTo(5);
+        assertThat(feedGetResponse.nextCursor()).isEqualTo(FeedCursor.from(lastKey).encode());
+        assertThat(FeedCursor.decode(feedGetResponse.nextCursor()).recordId())
+                .isEqualTo(lastKey.recordId());
+    }
+
+    @Test
+    void 피드_조회_첫_페이지_다음_커서에_페이지_번호_포함() {
         // Given
-        List<FindFeedDto> feeds = new ArrayList<>();
+        List<FindFeedDto> feeds = createFeeds(DEFAULT_LIMIT + 1);
+        List<FeedKey> feedKeys = toFeedKeys(feeds);
 
-        for (int i = 0; i < 5; i++) {
-            feeds.add(
-                    FindFeedDto.from(
-                            fixtureMonkey.giveMeOne(Mission.class),
-                            fixtureMonkey.giveMeOne(MissionRecord.class),
-                            fixtureMonkey.giveMeOne(Member.class),
-                            DEFAULT_TOTAL_COMMENT_COUNT,
-                            DEFAULT_TOTAL_BOOST_COUNT));
-        }
+        when(feedRepository.findFeedKeysUsingCursor(null, null, DEFAULT_LIMIT + 1))
+                .thenReturn(feedKeys);
+        when(feedItemCacheService.findAllByIds(anyList()))
+                .thenReturn(feeds.subList(0, DEFAULT_LIMIT));
 
-        when(feedRepository.getFeedContentsUsingCursor(
-                        Long.parseLong(DEFAULT_CURSOR), null, DEFAULT_LIMIT))
-                .thenReturn(feeds);
+        // When
+        FeedGetResponseV2 response =
+                feedService.findFeedV2(
+                        feedService.findFeedKeyPage(new FeedGetRequest(null, null, DEFAULT_LIMIT)));
 
-        FindFeedDto nextFeed =
-                FindFeedDto.from(
-                        fixtureMonkey.giveMeOne(Mission.class),
-                        fixtureMonkey.giveMeOne(MissionRecord.class),
-                        fixtureMonkey.giveMeOne(Member.class),
-                        DEFAULT_TOTAL_COMMENT_COUNT,
-                        DEFAULT_TOTAL_BOOST_COUNT);
+        // Then
+        FeedCursor nextCursor = FeedCursor.decode(response.nextCursor());
+        assertThat(nextCursor.pageIndex()).isEqualTo(1);
+        assertThat(nextCursor.recordId()).isEqualTo(feedKeys.get(DEFAULT_LIMIT - 1).recordId());
+        verify(feedPageCacheService)
+                .getOrLoad(eq(null), eq(null), eq(DEFAULT_LIMIT), eq(DEFAULT_LIMIT + 1), any());
+    }
+
+    @Test
+    void 피드_조회_신고한_기록은_제외하고_더_조회해_페이지_채움() {
+        // Given: 신고한 기록 1개만큼 더 조회
+        Long memberId = 1L;
+        List<FindFeedDto> feeds = createFeeds(DEFAULT_LIMIT + 2);
+        List<FeedKey> feedKeys = toFeedKeys(feeds);
+        Long hiddenRecordId = feedKeys.get(0).recordId();
+        List<FeedKey> visibleKeys = feedKeys.subList(1, DEFAULT_LIMIT + 1);
 
-        when(feedRepository.getNextFeedContent(
-                        feeds.get(feeds.size() - 1).missionRecord().getId(), null))
-                .thenReturn(nextFeed);
+        when(securityUtil.getCurrentMemberId()).thenReturn(memberId);
+        when(feedHiddenRecordService.findHiddenRecordIds(memberId))
+                .thenReturn(Set.of(hiddenRecordId));
+        when(feedHiddenRecordService.getOverfetchSize(Set.of(hiddenRecordId))).thenReturn(1);
+        when(feedRepository.findFeedKeysUsingCursor(null, null, DEFAULT_LIMIT + 2))
+                .thenReturn(feedKeys);
 
         // When
-        FeedGetResponse feedGetResponse =
-                feedService.findFeed(new FeedGetRequest(DEFAULT_CURSOR, null, DEFAULT_LIMIT));
+        feedService.findFeedV2(
+                feedService.findFeedKeyPage(new FeedGetRequest(null, null, DEFAULT_LIMIT)));
 
         // Then
-        assertThat(feedGetResponse.list().size()).isEqualTo(5);
-        assertThat(feedGetResponse.nextCursor())
-                .isEqualTo(String.valueOf(feeds.get(feeds.size() - 1).missionRecord().getId()));
+        verify(feedItemCacheService).findAllByIds(toRecordIds(visibleKeys));
     }
 
     @Test
-    void 피드_조회_커서_사용_마지막_성공() {
+    void 피드_버전_값은_정렬_키와_항목_버전_토큰으로_만듭니다() {
         // Given
-        List<FindFeedDto> feeds = new ArrayList<>();
+        List<FeedKey> feedKeys = toFeedKeys(createFeeds(2));
+        FeedKeyPage feedKeyPage = FeedKeyPage.of(feedKeys, DEFAULT_CURSOR);
+        when(feedItemCacheService.findVersions(toRecordIds(feedKeys)))
+                .thenReturn(Optional.of(List.of("v1", "v2")));
 
-        for (int i = 0; i < 3; i++) {
-            feeds.add(
-                    FindFeedDto.from(
-                            fixtureMonkey.giveMeOne(Mission.class),
-                            fixtureMonkey.giveMeOne(MissionRecord.class),
-                            fixtureMonkey.giveMeOne(Member.class),
-                            DEFAULT_TOTAL_COMMENT_COUNT,
-                            DEFAULT_TOTAL_BOOST_COUNT));
-        }
+        // When
+        Optional<List<Object>> versionValues = feedService.findFeedVersionValues(feedKeyPage);
+
+        // Then: 항목을 조회하지 않고 버전 값을 만듦
+        assertThat(versionValues)
+                .contains(
+                        List.of(
+                                feedKeys.get(0).recordId(),
+                                feedKeys.get(0).updatedAt(),
+                                "v1",
+                                feedKeys.get(1).recordId(),
+                                feedKeys.get(1).updatedAt(),
+                                "v2",
+                                DEFAULT_CURSOR));
+        verify(feedItemCacheService, never()).findAllByIds(anyList());
+    }
+
+    @Test
+    void 피드_버전_토큰을_조회할_수_없으면_버전_값이_없습니다() {
+        // Given
+        List<FeedKey> feedKeys = toFeedKeys(createFeeds(2));
+        when(feedItemCacheService.findVersions(toRecordIds(feedKeys))).thenReturn(Optional.empty());
+
+        // When
+        Optional<List<Object>> versionValues =
+                feedService.findFeedVersionValues(FeedKeyPage.of(feedKeys, null));
+
+        // Then
+        assertThat(versionValues).isEmpty();
+    }
+
+    @Test
+    void 피드_조회_커서_사용_마지막_성공() {
+        // Given
+        List<FindFeedDto> feeds = createFeeds(3);
+        List<FeedKey> feedKeys = toFeedKeys(feeds);
 
-        when(feedRepository.getFeedContentsUsingCursor(
-                        Long.parseLong(DEFAULT_CURSOR), null, DEFAULT_LIMIT))
-                .thenReturn(feeds);
-        when(feedRepository.getNextFeedContent(
-                        feeds.get(feeds.size() - 1).missionRecord().getId(), null))
-                .thenReturn(null);
+        when(feedRepository.findFeedKeysUsingCursor(
+                        FeedCursor.decode(DEFAULT_CURSOR), null, DEFAULT_LIMIT + 1))
+                .thenReturn(feedKeys);
+        when(feedItemCacheService.findAllByIds(toRecordIds(feedKeys))).thenReturn(feeds);
 
         // When
         FeedGetResponse feedGetResponse =
@@ -151,4 +234,238 @@ class FeedServiceTest extends FixtureMonkeySetUp {
         // Then: 에러코드 검증
         assertThat(exception.getErrorCode()).isEqualTo(ErrorCode.INVALID_CURSOR_FORMAT);
     }
+
+    @Test
+    void 피드_조회_페이지_번호가_음수인_커서_실패() {
+        // Given: 페이지 번호를 조작한 커서
+        String forgedCursor =
+                FeedCursor.from(FeedKey.of(15L, LocalDateTime.of(2024, 8, 1, 12, 0)), -1)
+                        .encode();
+
+        // When
+        CustomException exception =
+                assertThrows(
+                        CustomException.class,
+                        () ->
+                                feedService.findFeed(
+                                        new FeedGetRequest(forgedCursor, null, DEFAULT_LIMIT)));
+
+        // Then
+        assertThat(exception.getErrorCode()).isEqualTo(ErrorCode.INVALID_CURSOR_FORMAT);
+        verify(feedPageCacheService, never()).getOrLoad(any(), any(), anyInt(), anyInt(), any());
+    }
+
+    @Test
+    void 팔로잉_피드_조회_타임라인_성공() {
+        // Given
+        Long memberId = 1L;
+        List<FindFeedDto> feeds = createFeeds(3);
+        List<FeedKey> timelineKeys = toFeedKeys(feeds);
+
+        when(securityUtil.getCurrentMemberId()).thenReturn(memberId);
+        when(followRepository.findTargetIdsBySourceIdAndFollowerCountOver(
+                        eq(memberId), anyLong()))
+                .thenReturn(List.of());
+        when(feedTimelineService.hasTimeline(memberId)).thenReturn(true);
+        when(feedTimelineService.findTimelineKeys(memberId, null, DEFAULT_LIMIT + 1))
+                .thenReturn(timelineKeys);
+        when(feedItemCacheService.findAllByIds(toRecordIds(timelineKeys))).thenReturn(feeds);
+
+        // When
+        FeedGetResponseV2 response =
+                feedService.findFollowingFeed(new FeedFollowingGetRequest(null, DEFAULT_LIMIT));
+
+        // Then
+        assertThat(response.list().size()).isEqualTo(3);
+        assertThat(response.nextCursor()).isNull();
+        verify(feedRepository, never()).findFeedKeysByMemberIds(anyList(), any(), anyInt());
+    }
+
+    @Test
+    void 팔로잉_피드_조회_타임라인_없으면_재구성() {
+        // Given
+        Long memberId = 1L;
+        List<Long> followeeIds = List.of(2L, 3L);
+        List<FindFeedDto> feeds = createFeeds(DEFAULT_LIMIT + 1);
+        List<FeedKey> feedKeys = toFeedKeys(feeds);
+
+        when(securityUtil.getCurrentMemberId()).thenReturn(memberId);
+        when(followRepository.findTargetIdsBySourceIdAndFollowerCountOver(
+                        eq(memberId), anyLong()))
+                .thenReturn(List.of());
+        when(feedTimelineService.hasTimeline(memberId)).thenReturn(false);
+        when(followRepository.findTargetIdsBySourceId(memberId)).thenReturn(followeeIds);
+        when(feedRepository.findFeedKeysByMemberIds(eq(followeeIds), isNull(), anyInt()))
+                .thenReturn(feedKeys);
+        when(feedItemCacheService.findAllByIds(anyList()))
+                .thenReturn(feeds.subList(0, DEFAULT_LIMIT));
+
+        // When
+        FeedGetResponseV2 response =
+                feedService.findFollowingFeed(new FeedFollowingGetRequest(null, DEFAULT_LIMIT));
+
+        // Then
+        verify(feedTimelineService).rebuildTimeline(memberId, feedKeys);
+        assertThat(response.list().size()).isEqualTo(DEFAULT_LIMIT);
+        assertThat(response.nextCursor())
+                .isEqualTo(FeedCursor.from(feedKeys.get(DEFAULT_LIMIT - 1)).encode());
+    }
+
+    @Test
+    void 팔로잉_피드_조회_팔로워가_많은_회원은_DB에서_병합() {
+        // Given
+        Long memberId = 1L;
+        List<Long> heavyFolloweeIds = List.of(99L);
+        FeedKey timelineKey = FeedKey.of(1L, LocalDateTime.of(2024, 8, 1, 9, 0));
+        FeedKey heavyFolloweeKey = FeedKey.of(2L, LocalDateTime.of(2024, 8, 1, 10, 0));
+
+        when(securityUtil.getCurrentMemberId()).thenReturn(memberId);
+        when(followRepository.findTargetIdsBySourceIdAndFollowerCountOver(
+                        eq(memberId), anyLong()))
+                .thenReturn(heavyFolloweeIds);
+        when(feedTimelineService.hasTimeline(memberId)).thenReturn(true);
+        when(feedTimelineService.findTimelineKeys(memberId, null, DEFAULT_LIMIT + 1))
+                .thenReturn(List.of(timelineKey));
+        when(feedRepository.findFeedKeysByMemberIds(heavyFolloweeIds, null, DEFAULT_LIMIT + 1))
+                .thenReturn(List.of(heavyFolloweeKey));
+
+        // When
+        feedService.findFollowingFeed(new FeedFollowingGetRequest(null, DEFAULT_LIMIT));
+
+        // Then: 최신 기록 순서로 병합해 조회
+        verify(feedItemCacheService)
+                .findAllByIds(List.of(heavyFolloweeKey.recordId(), timelineKey.recordId()));
+    }
+
+    @Test
+    void 팔로잉_피드_조회_타임라인_범위를_지나면_DB에서_이어서_조회() {
+        // Given: 최대 크기만큼 찬 타임라인의 마지막 항목을 지난 커서
+        Long memberId = 1L;
+        List<Long> followeeIds = List.of(2L, 3L);
+        FeedCursor cursor = FeedCursor.decode(DEFAULT_CURSOR);
+        List<FindFeedDto> feeds = createFeeds(DEFAULT_LIMIT);
+        List<FeedKey> feedKeys = toFeedKeys(feeds);
+
+        when(securityUtil.getCurrentMemberId()).thenReturn(memberId);
+        when(followRepository.findTargetIdsBySourceIdAndFollowerCountOver(
+                        eq(memberId), anyLong()))
+                .thenReturn(List.of());
+        when(feedTimelineService.hasTimeline(memberId)).thenReturn(true);
+        when(feedTimelineService.findTimelineKeys(memberId, cursor, DEFAULT_LIMIT + 1))
+                .thenReturn(List.of());
+        when(feedTimelineService.isTruncated(memberId)).thenReturn(true);
+        when(followRepository.findTargetIdsBySourceId(memberId)).thenReturn(followeeIds);
+        when(feedRepository.findFeedKeysByMemberIds(followeeIds, cursor, DEFAULT_LIMIT + 1))
+                .thenReturn(feedKeys);
+        when(feedItemCacheService.findAllByIds(toRecordIds(feedKeys))).thenReturn(feeds);
+
+        // When
+        FeedGetResponseV2 response =
+                feedService.findFollowingFeed(
+                        new FeedFollowingGetRequest(DEFAULT_CURSOR, DEFAULT_LIMIT));
+
+        // Then
+        assertThat(response.list().size()).isEqualTo(DEFAULT_LIMIT);
+        verify(feedTimelineService, never()).rebuildTimeline(anyLong(), anyList());
+    }
+
+    @Test
+    void 팔로잉_피드_조회_팔로우한_회원이_없으면_빈_타임라인을_저장() {
+        // Given
+        Long memberId = 1L;
+
+        when(securityUtil.getCurrentMemberId()).thenReturn(memberId);
+        when(followRepository.findTargetIdsBySourceIdAndFollowerCountOver(
+                        eq(memberId), anyLong()))
+                .thenReturn(List.of());
+        when(feedTimelineService.hasTimeline(memberId)).thenReturn(false);
+        when(followRepository.findTargetIdsBySourceId(memberId)).thenReturn(List.of());
+
+        // When
+        FeedGetResponseV2 response =
+                feedService.findFollowingFeed(new FeedFollowingGetRequest(null, DEFAULT_LIMIT));
+
+        // Then
+        assertThat(response.list()).isEmpty();
+        verify(feedTimelineService).rebuildTimeline(memberId, List.of());
+    }
+
+    @Test
+    void 피드_일괄_조회_중복_ID는_한_번만_조회() {
+        // Given
+        List<FindFeedDto> feeds = createFeeds(2);
+
+        when(feedItemCacheService.findAllByIds(List.of(2L, 1L))).thenReturn(feeds);
+
+        // When
+        FeedBatchGetResponse response =
+                feedService.findFeedBatch(new FeedBatchGetRequest(List.of(2L, 1L, 2L)));
+
+        // Then
+        assertThat(response.list()).extracting("missionRecordId").containsExactly(2L, 1L);
+    }
+
+    @Test
+    void 인기_피드_조회_성공() {
+        // Given: 점수 순서대로 limit + 1개의 기록 ID 반환
+        List<FindFeedDto> feeds = createFeeds(DEFAULT_LIMIT + 1);
+        List<Long> recordIds = feeds.stream().map(FindFeedDto::missionRecordId).toList();
+
+        when(feedPopularityService.findRecordIds(10, DEFAULT_LIMIT + 1)).thenReturn(recordIds);
+        when(feedItemCacheService.findAllByIds(recordIds.subList(0, DEFAULT_LIMIT)))
+                .thenReturn(feeds.subList(0, DEFAULT_LIMIT));
+
+        // When
+        FeedGetResponseV2 response =
+                feedService.findPopularFeed(new FeedPopularGetRequest("10", DEFAULT_LIMIT));
+
+        // Then
+        assertThat(response.list().size()).isEqualTo(DEFAULT_LIMIT);
+        assertThat(response.nextCursor()).isEqualTo(String.valueOf(10 + DEFAULT_LIMIT));
+    }
+
+    @Test
+    void 인기_피드_조회_유효하지_않은_커서_실패() {
+        // Given & When
+        CustomException exception =
+                assertThrows(
+                        CustomException.class,
+                        () ->
+                                feedService.findPopularFeed(
+                                        new FeedPopularGetRequest(INVALID_CURSOR, DEFAULT_LIMIT)));
+
+        // Then
+        assertThat(exception.getErrorCode()).isEqualTo(ErrorCode.INVALID_CURSOR_FORMAT);
+    }
+
+    private List<FindFeedDto> createFeeds(int size) {
+        List<FindFeedDto> feeds = new ArrayList<>();
+        for (long i = size; i > 0; i--) {
+            feeds.add(
+                    FindFeedDto.from(
+                            fixtureMonkey.giveMeOne(Mission.class),
+                            fixtureMonkey.giveMeBuilder(MissionRecord.class).set("id", i).sample(),
+                            fixtureMonkey.giveMeOne(Member.class),
+                            DEFAULT_TOTAL_COMMENT_COUNT,
+                            DEFAULT_TOTAL_BOOST_COUNT));
+        }
+        return feeds;
+    }
+
+    // 최신순 정렬 키 생성 (ID가 클수록 최신)
+    private List<FeedKey> toFeedKeys(List<FindFeedDto> feeds) {
+        LocalDateTime baseTime = LocalDateTime.of(2024, 8, 1, 12, 0);
+        return feeds.stream()
+                .map(
+                        feed ->
+                                FeedKey.of(
+                                        feed.missionRecordId(),
+                                        baseTime.plusMinutes(feed.missionRecordId())))
+                .sorted(FeedKey.LATEST_FIRST)
+                .toList();
+    }
+
+    private List<Long> toRecordIds(List<FeedKey> feedKeys) {
+        return feedKeys.stream().map(FeedKey::recordId).toList();
+    }
 }
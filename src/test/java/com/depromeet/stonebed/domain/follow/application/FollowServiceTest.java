@@ -4,6 +4,7 @@ import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
 
 import com.depromeet.stonebed.FixtureMonkeySetUp;
+import com.depromeet.stonebed.domain.feed.application.FeedTimelineService;
 import com.depromeet.stonebed.domain.follow.dao.FollowRepository;
 import com.depromeet.stonebed.domain.follow.domain.Follow;
 import com.depromeet.stonebed.domain.follow.dto.request.FollowCreateRequest;
@@ -32,6 +33,7 @@ class FollowServiceTest extends FixtureMonkeySetUp {
     @Mock private MemberUtil memberUtil;
     @Mock private FollowRepository followRepository;
     @Mock private MemberRepository memberRepository;
+    @Mock private FeedTimelineService feedTimelineService;
 
     @Test
     void 팔로우를_진행합니다() {
@@ -57,6 +59,7 @@ class FollowServiceTest extends FixtureMonkeySetUp {
         verify(followRepository)
                 .existsBySourceIdAndTargetId(currentMember.getId(), targetMember.getId());
         verify(followRepository).save(any(Follow.class));
+        verify(feedTimelineService).evictTimeline(currentMember.getId());
     }
 
     @Test
@@ -80,6 +83,7 @@ class FollowServiceTest extends FixtureMonkeySetUp {
         verify(memberRepository).findById(targetMember.getId());
         verify(followRepository).findBySourceAndTarget(currentMember, targetMember);
         verify(followRepository).delete(follow);
+        verify(feedTimelineService).evictTimeline(currentMember.getId());
     }
 
     @Test
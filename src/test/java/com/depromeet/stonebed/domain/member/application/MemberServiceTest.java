@@ -4,6 +4,8 @@ import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
 
 import com.depromeet.stonebed.FixtureMonkeySetUp;
+import com.depromeet.stonebed.domain.feed.event.FeedChangeType;
+import com.depromeet.stonebed.domain.feed.event.FeedContentChangedEvent;
 import com.depromeet.stonebed.domain.member.domain.Member;
 import com.depromeet.stonebed.domain.member.domain.Profile;
 import com.depromeet.stonebed.domain.member.dto.request.MemberProfileUpdateRequest;
@@ -15,6 +17,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.test.context.ActiveProfiles;
 
 @ActiveProfiles("test")
@@ -24,6 +27,7 @@ class MemberServiceTest extends FixtureMonkeySetUp {
     @InjectMocks private MemberService memberService;
 
     @Mock private MemberUtil memberUtil;
+    @Mock private ApplicationEventPublisher eventPublisher;
 
     @Test
     void 사용자_정보를_조회한다() {
@@ -73,6 +77,10 @@ class MemberServiceTest extends FixtureMonkeySetUp {
 
         // then
         verify(memberUtil).getCurrentMember();
+        verify(eventPublisher)
+                .publishEvent(
+                        FeedContentChangedEvent.ofMember(
+                                member.getId(), FeedChangeType.AUTHOR_UPDATED));
 
         Profile updatedProfile = member.getProfile();
         assertEquals(nickname, updatedProfile.getNickname());
@@ -7,20 +7,27 @@ import static org.mockito.Mockito.*;
 
 import com.depromeet.stonebed.FixtureMonkeySetUp;
 import com.depromeet.stonebed.domain.fcm.application.FcmNotificationService;
+import com.depromeet.stonebed.domain.feed.event.FeedChangeType;
+import com.depromeet.stonebed.domain.feed.event.FeedContentChangedEvent;
+import com.depromeet.stonebed.domain.feed.event.FeedRecordBoostedEvent;
 import com.depromeet.stonebed.domain.member.domain.Member;
 import com.depromeet.stonebed.domain.member.domain.RaisePet;
 import com.depromeet.stonebed.domain.mission.dao.MissionRepository;
 import com.depromeet.stonebed.domain.mission.domain.Mission;
 import com.depromeet.stonebed.domain.missionHistory.dao.MissionHistoryRepository;
 import com.depromeet.stonebed.domain.missionHistory.domain.MissionHistory;
+import com.depromeet.stonebed.domain.missionRecord.dao.MissionRecordBoostBulkRepository;
 import com.depromeet.stonebed.domain.missionRecord.dao.MissionRecordBoostRepository;
 import com.depromeet.stonebed.domain.missionRecord.dao.MissionRecordRepository;
 import com.depromeet.stonebed.domain.missionRecord.domain.MissionRecord;
 import com.depromeet.stonebed.domain.missionRecord.domain.MissionRecordBoost;
 import com.depromeet.stonebed.domain.missionRecord.domain.MissionRecordDisplay;
 import com.depromeet.stonebed.domain.missionRecord.domain.MissionRecordStatus;
+import com.depromeet.stonebed.domain.missionRecord.dto.MissionRecordBoostDelta;
+import com.depromeet.stonebed.domain.missionRecord.dto.MissionRecordBoostFlushBatch;
 import com.depromeet.stonebed.domain.missionRecord.dto.request.MissionRecordCalendarRequest;
 import com.depromeet.stonebed.domain.missionRecord.dto.request.MissionRecordSaveRequest;
+import com.depromeet.stonebed.domain.missionRecord.dto.response.MissionRecordBoostResponse;
 import com.depromeet.stonebed.domain.missionRecord.dto.response.MissionRecordCalendarResponse;
 import com.depromeet.stonebed.domain.missionRecord.dto.response.MissionRecordCompleteTotal;
 import com.depromeet.stonebed.domain.missionRecord.dto.response.MissionTabResponse;
@@ -29,11 +36,13 @@ import com.depromeet.stonebed.global.error.exception.CustomException;
 import com.depromeet.stonebed.global.util.MemberUtil;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
@@ -44,12 +53,16 @@ import org.springframework.test.context.ActiveProfiles;
 class MissionRecordServiceTest extends FixtureMonkeySetUp {
 
     @InjectMocks private MissionRecordService missionRecordService;
-    @Mock private FcmNotificationService fcmNotificationService;
     @Mock private MissionRecordRepository missionRecordRepository;
     @Mock private MissionRepository missionRepository;
     @Mock private MissionHistoryRepository missionHistoryRepository;
     @Mock private MissionRecordBoostRepository missionRecordBoostRepository;
+    @Mock private MissionRecordBoostBulkRepository missionRecordBoostBulkRepository;
+    @Mock private FcmNotificationService fcmNotificationService;
     @Mock private MemberUtil memberUtil;
+    @Mock private ApplicationEventPublisher eventPublisher;
+    @Mock private MissionRecordBoostService missionRecordBoostService;
+    @Mock private BoostRateLimitService boostRateLimitService;
 
     @Test
     void 미션기록_성공() {
@@ -283,20 +296,121 @@ class MissionRecordServiceTest extends FixtureMonkeySetUp {
     void 부스트_성공() {
         // Given
         Member member = fixtureMonkey.giveMeOne(Member.class);
-        MissionRecord missionRecord = fixtureMonkey.giveMeOne(MissionRecord.class);
+        MissionRecord missionRecord =
+                fixtureMonkey.giveMeBuilder(MissionRecord.class).set("boostCount", 100L).sample();
 
         when(memberUtil.getCurrentMember()).thenReturn(member);
         when(missionRecordRepository.findById(missionRecord.getId()))
                 .thenReturn(Optional.of(missionRecord));
+        when(missionRecordBoostService.accumulate(missionRecord.getId(), member.getId(), 10L))
+                .thenReturn(30L);
+
+        // When
+        MissionRecordBoostResponse response =
+                missionRecordService.createBoost(missionRecord.getId(), 10L);
+
+        // Then: DB 반영 전 부스트까지 합산한 총 부스트 수 반환, 점수는 반영 이후에 갱신
+        assertEquals(130L, response.totalBoostCount());
+        verify(eventPublisher, never()).publishEvent(any(FeedRecordBoostedEvent.class));
+        verify(missionRecordBoostRepository, never()).save(any(MissionRecordBoost.class));
+        verify(missionRecordRepository, never()).increaseBoostCount(any(), any());
+    }
+
+    @Test
+    void 부스트_Redis_사용_불가시_바로_저장() {
+        // Given
+        Member member = fixtureMonkey.giveMeOne(Member.class);
+        MissionRecord missionRecord =
+                fixtureMonkey.giveMeBuilder(MissionRecord.class).set("boostCount", 100L).sample();
+
+        when(memberUtil.getCurrentMember()).thenReturn(member);
+        when(missionRecordRepository.findById(missionRecord.getId()))
+                .thenReturn(Optional.of(missionRecord));
+        when(missionRecordBoostService.accumulate(missionRecord.getId(), member.getId(), 10L))
+                .thenReturn(null);
         when(missionRecordBoostRepository.save(any(MissionRecordBoost.class))).thenReturn(null);
 
         // When
-        missionRecordService.createBoost(missionRecord.getId(), 10L);
+        MissionRecordBoostResponse response =
+                missionRecordService.createBoost(missionRecord.getId(), 10L);
 
         // Then
-        verify(memberUtil).getCurrentMember();
-        verify(missionRecordRepository).findById(missionRecord.getId());
+        assertEquals(110L, response.totalBoostCount());
         verify(missionRecordBoostRepository).save(any(MissionRecordBoost.class));
+        verify(missionRecordRepository).increaseBoostCount(missionRecord.getId(), 10L);
+        verify(eventPublisher)
+                .publishEvent(
+                        FeedContentChangedEvent.ofRecord(
+                                missionRecord.getMember().getId(),
+                                missionRecord.getId(),
+                                FeedChangeType.BOOSTED));
+        verify(eventPublisher).publishEvent(FeedRecordBoostedEvent.of(missionRecord.getId(), 10L));
+        verify(fcmNotificationService)
+                .sendBoostMilestoneNotification(missionRecord, 100L, 110L);
+    }
+
+    @Test
+    void 부스트_요청_한도를_넘으면_예외_발생() {
+        // Given
+        Member member = fixtureMonkey.giveMeOne(Member.class);
+
+        when(memberUtil.getCurrentMember()).thenReturn(member);
+        doThrow(new CustomException(ErrorCode.BOOST_RATE_LIMIT_EXCEEDED))
+                .when(boostRateLimitService)
+                .checkLimit(member.getId(), 1L);
+
+        // When
+        CustomException exception =
+                assertThrows(
+                        CustomException.class, () -> missionRecordService.createBoost(1L, 10L));
+
+        // Then
+        assertEquals(ErrorCode.BOOST_RATE_LIMIT_EXCEEDED, exception.getErrorCode());
+        verify(missionRecordRepository, never()).findById(any());
+        verify(missionRecordBoostService, never()).accumulate(any(), any(), any());
+    }
+
+    @Test
+    void 부스트_묶음을_반영한_트랜잭션에서_부스트_알림을_저장() {
+        // Given: 반영 이후 부스트 수가 1000인 기록에 두 회원이 모두 30번 부스트
+        MissionRecord missionRecord =
+                fixtureMonkey.giveMeBuilder(MissionRecord.class).set("boostCount", 1000L).sample();
+        MissionRecordBoostFlushBatch batch =
+                MissionRecordBoostFlushBatch.of(
+                        "flush-id",
+                        List.of(
+                                MissionRecordBoostDelta.of(missionRecord.getId(), 1L, 10L),
+                                MissionRecordBoostDelta.of(missionRecord.getId(), 2L, 20L)));
+
+        when(missionRecordBoostBulkRepository.saveAll("flush-id", batch.deltas()))
+                .thenReturn(true);
+        when(missionRecordRepository.findAllById(Set.of(missionRecord.getId())))
+                .thenReturn(List.of(missionRecord));
+
+        // When
+        missionRecordService.applyFlushedBoosts(batch);
+
+        // Then
+        verify(eventPublisher).publishEvent(FeedRecordBoostedEvent.of(missionRecord.getId(), 30L));
+        verify(fcmNotificationService)
+                .sendBoostMilestoneNotification(missionRecord, 970L, 1000L);
+    }
+
+    @Test
+    void 이미_반영된_부스트_묶음은_알림을_다시_저장하지_않음() {
+        // Given
+        MissionRecordBoostFlushBatch batch =
+                MissionRecordBoostFlushBatch.of(
+                        "flush-id", List.of(MissionRecordBoostDelta.of(1L, 1L, 10L)));
+        when(missionRecordBoostBulkRepository.saveAll("flush-id", batch.deltas()))
+                .thenReturn(false);
+
+        // When
+        missionRecordService.applyFlushedBoosts(batch);
+
+        // Then
+        verifyNoInteractions(fcmNotificationService, eventPublisher);
+        verify(missionRecordRepository, never()).findAllById(any());
     }
 
     @Test
@@ -0,0 +1,110 @@
+package com.depromeet.stonebed.domain.sqs.application;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import com.depromeet.stonebed.infra.properties.SqsProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.context.ActiveProfiles;
+import software.amazon.awssdk.services.sqs.SqsAsyncClient;
+import software.amazon.awssdk.services.sqs.model.BatchResultErrorEntry;
+import software.amazon.awssdk.services.sqs.model.SendMessageBatchRequest;
+import software.amazon.awssdk.services.sqs.model.SendMessageBatchResponse;
+
+@ActiveProfiles("test")
+@ExtendWith(MockitoExtension.class)
+class SqsBatchDispatcherTest {
+    @Mock private SqsAsyncClient sqsAsyncClient;
+
+    private SqsBatchDispatcher sqsBatchDispatcher;
+
+    @BeforeEach
+    void setUp() {
+        SqsProperties sqsProperties =
+                new SqsProperties(
+                        "access", "secret", "region", "queue", null, 2, 3, Duration.ZERO);
+        sqsBatchDispatcher =
+                new SqsBatchDispatcher(sqsAsyncClient, sqsProperties, new SimpleMeterRegistry());
+    }
+
+    @Test
+    void 메시지를_10개씩_나누어_전송한다() {
+        // given
+        List<String> messageBodies = IntStream.range(0, 25).mapToObj(String::valueOf).toList();
+        when(sqsAsyncClient.sendMessageBatch(any(SendMessageBatchRequest.class)))
+                .thenReturn(CompletableFuture.completedFuture(successResponse()));
+
+        // when
+        Set<Integer> failedIndexes = sqsBatchDispatcher.dispatch(messageBodies);
+
+        // then
+        assertTrue(failedIndexes.isEmpty());
+        verify(sqsAsyncClient, times(3)).sendMessageBatch(any(SendMessageBatchRequest.class));
+    }
+
+    @Test
+    void 일부_항목만_실패하면_실패한_항목만_다시_전송한다() {
+        // given
+        List<String> messageBodies = IntStream.range(0, 10).mapToObj(String::valueOf).toList();
+        SendMessageBatchResponse partialFailure =
+                SendMessageBatchResponse.builder()
+                        .failed(
+                                BatchResultErrorEntry.builder()
+                                        .id("3")
+                                        .senderFault(false)
+                                        .code("InternalError")
+                                        .build(),
+                                BatchResultErrorEntry.builder()
+                                        .id("5")
+                                        .senderFault(true)
+                                        .code("InvalidMessageContents")
+                                        .build())
+                        .build();
+        when(sqsAsyncClient.sendMessageBatch(any(SendMessageBatchRequest.class)))
+                .thenReturn(
+                        CompletableFuture.completedFuture(partialFailure),
+                        CompletableFuture.completedFuture(successResponse()));
+
+        // when
+        Set<Integer> failedIndexes = sqsBatchDispatcher.dispatch(messageBodies);
+
+        // then
+        assertEquals(Set.of(5), failedIndexes);
+        ArgumentCaptor<SendMessageBatchRequest> captor =
+                ArgumentCaptor.forClass(SendMessageBatchRequest.class);
+        verify(sqsAsyncClient, times(2)).sendMessageBatch(captor.capture());
+        SendMessageBatchRequest retryRequest = captor.getAllValues().get(1);
+        assertEquals(1, retryRequest.entries().size());
+        assertEquals("3", retryRequest.entries().get(0).messageBody());
+    }
+
+    @Test
+    void 재시도_횟수를_넘으면_실패로_집계한다() {
+        // given
+        List<String> messageBodies = List.of("message");
+        when(sqsAsyncClient.sendMessageBatch(any(SendMessageBatchRequest.class)))
+                .thenReturn(CompletableFuture.failedFuture(new IllegalStateException()));
+
+        // when
+        Set<Integer> failedIndexes = sqsBatchDispatcher.dispatch(messageBodies);
+
+        // then
+        assertEquals(Set.of(0), failedIndexes);
+        verify(sqsAsyncClient, times(3)).sendMessageBatch(any(SendMessageBatchRequest.class));
+    }
+
+    private SendMessageBatchResponse successResponse() {
+        return SendMessageBatchResponse.builder().build();
+    }
+}
@@ -0,0 +1,87 @@
+package com.depromeet.stonebed.domain.sqs.application;
+
+import static com.depromeet.stonebed.global.common.constants.NotificationConstants.*;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import com.depromeet.stonebed.domain.sqs.dao.SqsOutboxJdbcRepository;
+import com.depromeet.stonebed.domain.sqs.dto.SqsOutboxMessage;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.context.ActiveProfiles;
+
+@ActiveProfiles("test")
+@ExtendWith(MockitoExtension.class)
+class SqsOutboxRelayTest {
+    @Mock private SqsOutboxJdbcRepository sqsOutboxJdbcRepository;
+    @Mock private SqsBatchDispatcher sqsBatchDispatcher;
+
+    private SimpleMeterRegistry meterRegistry;
+    private SqsOutboxRelay sqsOutboxRelay;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        sqsOutboxRelay =
+                new SqsOutboxRelay(sqsOutboxJdbcRepository, sqsBatchDispatcher, meterRegistry);
+    }
+
+    @Test
+    void 전송에_성공한_메시지는_삭제하고_실패한_메시지는_다시_시도한다() {
+        // given
+        List<SqsOutboxMessage> messages =
+                List.of(
+                        new SqsOutboxMessage(1L, "first", 0),
+                        new SqsOutboxMessage(2L, "second", 0),
+                        new SqsOutboxMessage(3L, "third", OUTBOX_MAX_ATTEMPTS - 1));
+        when(sqsOutboxJdbcRepository.claim(OUTBOX_RELAY_BATCH_SIZE, OUTBOX_CLAIM_LEASE))
+                .thenReturn(messages);
+        when(sqsBatchDispatcher.dispatch(List.of("first", "second", "third")))
+                .thenReturn(Set.of(1, 2));
+        when(sqsOutboxJdbcRepository.findOldestPendingCreatedAt())
+                .thenReturn(Optional.of(LocalDateTime.now().minusSeconds(30)));
+
+        // when
+        int sentCount = sqsOutboxRelay.relay();
+
+        // then
+        assertEquals(1, sentCount);
+        verify(sqsOutboxJdbcRepository).deleteAll(List.of(1L));
+        verify(sqsOutboxJdbcRepository).updateFailed(List.of(3L));
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<Map<Long, LocalDateTime>> retryCaptor = ArgumentCaptor.forClass(Map.class);
+        verify(sqsOutboxJdbcRepository).updateRetries(retryCaptor.capture());
+        assertEquals(Set.of(2L), retryCaptor.getValue().keySet());
+        assertTrue(retryCaptor.getValue().get(2L).isAfter(LocalDateTime.now()));
+
+        assertTrue(meterRegistry.get("sqs.outbox.lag.seconds").gauge().value() >= 30);
+    }
+
+    @Test
+    void 점유한_메시지가_배치_크기보다_적으면_더_이상_점유하지_않는다() {
+        // given
+        when(sqsOutboxJdbcRepository.claim(OUTBOX_RELAY_BATCH_SIZE, OUTBOX_CLAIM_LEASE))
+                .thenReturn(List.of(new SqsOutboxMessage(1L, "message", 0)));
+        when(sqsBatchDispatcher.dispatch(anyList())).thenReturn(Set.of());
+        when(sqsOutboxJdbcRepository.findOldestPendingCreatedAt()).thenReturn(Optional.empty());
+
+        // when
+        int sentCount = sqsOutboxRelay.relay();
+
+        // then
+        assertEquals(1, sentCount);
+        verify(sqsOutboxJdbcRepository, times(1)).claim(anyInt(), any());
+        assertEquals(0, meterRegistry.get("sqs.outbox.lag.seconds").gauge().value());
+    }
+}
@@ -0,0 +1,100 @@
+package com.depromeet.stonebed.domain.sqs.dao;
+
+import static org.assertj.core.api.Assertions.*;
+
+import com.depromeet.stonebed.config.TestQuerydslConfig;
+import com.depromeet.stonebed.domain.sqs.dto.SqsOutboxMessage;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+// 점유는 여러 트랜잭션 사이의 동작이므로 테스트 트랜잭션 없이 실제로 커밋
+@DataJpaTest
+@ActiveProfiles("test")
+@Import({TestQuerydslConfig.class, SqsOutboxJdbcRepository.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class SqsOutboxJdbcRepositoryTest {
+    private static final Duration LEASE = Duration.ofMinutes(1);
+
+    @Autowired private SqsOutboxJdbcRepository sqsOutboxJdbcRepository;
+    @Autowired private JdbcTemplate jdbcTemplate;
+    @Autowired private PlatformTransactionManager transactionManager;
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("DELETE FROM sqs_outbox");
+    }
+
+    @Test
+    void 점유한_메시지는_점유_기간_동안_다시_점유하지_않는다() {
+        // given
+        sqsOutboxJdbcRepository.saveAll(List.of("first", "second", "third"));
+
+        // when
+        List<SqsOutboxMessage> firstClaim = sqsOutboxJdbcRepository.claim(2, LEASE);
+        List<SqsOutboxMessage> secondClaim = sqsOutboxJdbcRepository.claim(10, LEASE);
+        List<SqsOutboxMessage> thirdClaim = sqsOutboxJdbcRepository.claim(10, LEASE);
+
+        // then
+        assertThat(firstClaim)
+                .extracting(SqsOutboxMessage::messageBody)
+                .containsExactly("first", "second");
+        assertThat(secondClaim).extracting(SqsOutboxMessage::messageBody).containsExactly("third");
+        assertThat(thirdClaim).isEmpty();
+    }
+
+    @Test
+    void 점유_기간이_지나면_다시_점유한다() {
+        // given: 전송 결과를 반영하기 전에 서버가 종료된 상황
+        sqsOutboxJdbcRepository.saveAll(List.of("first", "second"));
+        sqsOutboxJdbcRepository.claim(10, Duration.ZERO);
+
+        // when
+        List<SqsOutboxMessage> reclaimed = sqsOutboxJdbcRepository.claim(10, LEASE);
+
+        // then
+        assertThat(reclaimed)
+                .extracting(SqsOutboxMessage::messageBody)
+                .containsExactly("first", "second");
+    }
+
+    @Test
+    void 다른_트랜잭션이_잠근_메시지는_기다리지_않고_건너뛴다() {
+        // given
+        sqsOutboxJdbcRepository.saveAll(List.of("first", "second", "third"));
+        Long lockedId =
+                jdbcTemplate.queryForObject("SELECT MIN(outbox_id) FROM sqs_outbox", Long.class);
+
+        // when: 한 트랜잭션이 첫 메시지를 잠근 동안 다른 스레드에서 점유
+        List<SqsOutboxMessage> claimed =
+                new TransactionTemplate(transactionManager)
+                        .execute(
+                                status -> {
+                                    jdbcTemplate.queryForList(
+                                            "SELECT outbox_id FROM sqs_outbox"
+                                                    + " WHERE outbox_id = ? FOR UPDATE",
+                                            Long.class,
+                                            lockedId);
+                                    return CompletableFuture.supplyAsync(
+                                                    () -> sqsOutboxJdbcRepository.claim(10, LEASE))
+                                            .join();
+                                });
+
+        // then
+        assertThat(claimed)
+                .extracting(SqsOutboxMessage::messageBody)
+                .containsExactly("second", "third");
+        assertThat(claimed).extracting(SqsOutboxMessage::outboxId).doesNotContain(lockedId);
+    }
+}
@@ -0,0 +1,99 @@
+package com.depromeet.stonebed.global.config.datasource;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.Map;
+import javax.sql.DataSource;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DataSourceUtils;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@ActiveProfiles("test")
+class RoutingDataSourceTest {
+    private static final String PRIMARY_URL = "jdbc:h2:mem:primary;DB_CLOSE_DELAY=-1";
+    private static final String REPLICA_URL = "jdbc:h2:mem:replica;DB_CLOSE_DELAY=-1";
+
+    private final DataSource primaryDataSource = new DriverManagerDataSource(PRIMARY_URL);
+    private final DataSource replicaDataSource = new DriverManagerDataSource(REPLICA_URL);
+
+    @Test
+    void 읽기_전용_트랜잭션은_레플리카로_연결된다() {
+        // given
+        DataSource dataSource = createDataSource(disabledLagGuard());
+
+        // when
+        String url = findConnectedUrl(dataSource, true);
+
+        // then
+        assertThat(url).startsWith("jdbc:h2:mem:replica");
+    }
+
+    @Test
+    void 쓰기_트랜잭션은_프라이머리로_연결된다() {
+        // given
+        DataSource dataSource = createDataSource(disabledLagGuard());
+
+        // when
+        String url = findConnectedUrl(dataSource, false);
+
+        // then
+        assertThat(url).startsWith("jdbc:h2:mem:primary");
+    }
+
+    @Test
+    void 레플리카_복제_지연을_확인할_수_없으면_읽기도_프라이머리로_연결된다() {
+        // given: H2는 복제 상태 조회를 지원하지 않아 확인 실패로 처리됨
+        ReplicaLagGuard replicaLagGuard =
+                new ReplicaLagGuard(replicaDataSource, true, Duration.ofSeconds(5));
+        DataSource dataSource = createDataSource(replicaLagGuard);
+
+        // when
+        replicaLagGuard.checkLag();
+        String url = findConnectedUrl(dataSource, true);
+
+        // then
+        assertThat(replicaLagGuard.isReplicaAvailable()).isFalse();
+        assertThat(url).startsWith("jdbc:h2:mem:primary");
+    }
+
+    private ReplicaLagGuard disabledLagGuard() {
+        return new ReplicaLagGuard(replicaDataSource, false, Duration.ZERO);
+    }
+
+    private DataSource createDataSource(ReplicaLagGuard replicaLagGuard) {
+        RoutingDataSource routingDataSource = new RoutingDataSource(replicaLagGuard);
+        routingDataSource.setTargetDataSources(
+                Map.of(
+                        DataSourceType.PRIMARY,
+                        primaryDataSource,
+                        DataSourceType.REPLICA,
+                        replicaDataSource));
+        routingDataSource.setDefaultTargetDataSource(primaryDataSource);
+        routingDataSource.afterPropertiesSet();
+        return new LazyConnectionDataSourceProxy(routingDataSource);
+    }
+
+    private String findConnectedUrl(DataSource dataSource, boolean readOnly) {
+        TransactionTemplate transactionTemplate =
+                new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+        transactionTemplate.setReadOnly(readOnly);
+
+        return transactionTemplate.execute(
+                status -> getUrl(DataSourceUtils.getConnection(dataSource)));
+    }
+
+    private String getUrl(Connection connection) {
+        try {
+            return connection.getMetaData().getURL();
+        } catch (SQLException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
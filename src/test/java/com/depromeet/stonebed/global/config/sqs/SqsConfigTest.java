@@ -0,0 +1,108 @@
+package com.depromeet.stonebed.global.config.sqs;
+
+import static org.assertj.core.api.Assertions.*;
+
+import com.depromeet.stonebed.domain.sqs.application.SqsBatchDispatcher;
+import com.depromeet.stonebed.infra.properties.SqsProperties;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.util.DigestUtils;
+import software.amazon.awssdk.services.sqs.SqsAsyncClient;
+
+class SqsConfigTest {
+    private static final String MESSAGE_BODY = "hello";
+
+    private final List<String> receivedBodies = new CopyOnWriteArrayList<>();
+    private HttpServer standInServer;
+
+    // 첫 번째 항목(ID 0)의 전송 성공으로 응답하는 SQS 호환 서버
+    @BeforeEach
+    void setUp() throws IOException {
+        standInServer = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        standInServer.createContext("/", this::respondSendMessageBatch);
+        standInServer.start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        standInServer.stop(0);
+    }
+
+    @Test
+    void 엔드포인트를_지정하면_SQS_호환_서버로_전송한다() {
+        // given
+        String endpoint = "http://localhost:" + standInServer.getAddress().getPort();
+        SqsProperties sqsProperties =
+                new SqsProperties(
+                        "access",
+                        "secret",
+                        "ap-northeast-2",
+                        endpoint + "/000000000000/walwal-test",
+                        endpoint,
+                        1,
+                        1,
+                        Duration.ZERO);
+
+        try (SqsAsyncClient sqsAsyncClient = new SqsConfig(sqsProperties).sqsAsyncClient()) {
+            SqsBatchDispatcher sqsBatchDispatcher =
+                    new SqsBatchDispatcher(
+                            sqsAsyncClient, sqsProperties, new SimpleMeterRegistry());
+
+            // when
+            Set<Integer> failedIndexes = sqsBatchDispatcher.dispatch(List.of(MESSAGE_BODY));
+
+            // then
+            assertThat(failedIndexes).isEmpty();
+            assertThat(receivedBodies).hasSize(1);
+            assertThat(receivedBodies.get(0)).contains(MESSAGE_BODY);
+        }
+    }
+
+    // SDK 버전에 따라 JSON 또는 Query(XML) 프로토콜로 요청하므로 같은 형식으로 응답
+    private void respondSendMessageBatch(HttpExchange exchange) throws IOException {
+        receivedBodies.add(
+                new String(exchange.getRequestBody().readAllBytes(), StandardCharsets.UTF_8));
+
+        String md5 = DigestUtils.md5DigestAsHex(MESSAGE_BODY.getBytes(StandardCharsets.UTF_8));
+        String contentType = exchange.getRequestHeaders().getFirst("Content-Type");
+        boolean json = contentType != null && contentType.contains("json");
+        String response =
+                json
+                        ? """
+                        {"Successful":[{"Id":"0","MessageId":"stand-in-0",\
+                        "MD5OfMessageBody":"%s"}],"Failed":[]}"""
+                                .formatted(md5)
+                        : """
+                        <SendMessageBatchResponse>
+                          <SendMessageBatchResult>
+                            <SendMessageBatchResultEntry>
+                              <Id>0</Id>
+                              <MessageId>stand-in-0</MessageId>
+                              <MD5OfMessageBody>%s</MD5OfMessageBody>
+                            </SendMessageBatchResultEntry>
+                          </SendMessageBatchResult>
+                          <ResponseMetadata><RequestId>stand-in</RequestId></ResponseMetadata>
+                        </SendMessageBatchResponse>"""
+                                .formatted(md5);
+
+        byte[] bytes = response.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders()
+                .add("Content-Type", json ? "application/x-amz-json-1.0" : "text/xml");
+        exchange.sendResponseHeaders(200, bytes.length);
+        try (OutputStream outputStream = exchange.getResponseBody()) {
+            outputStream.write(bytes);
+        }
+    }
+}
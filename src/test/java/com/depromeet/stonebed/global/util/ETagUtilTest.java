@@ -0,0 +1,84 @@
+package com.depromeet.stonebed.global.util;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.web.context.request.ServletWebRequest;
+
+@ActiveProfiles("test")
+class ETagUtilTest {
+    private final ETagUtil eTagUtil = new ETagUtil();
+
+    @Test
+    void 같은_값이면_같은_약한_ETag를_생성한다() {
+        // when
+        String first = eTagUtil.generateWeakETag(Stream.of(1L, 10L, "nickname"));
+        String second = eTagUtil.generateWeakETag(Stream.of(1L, 10L, "nickname"));
+
+        // then
+        assertThat(first).isEqualTo(second);
+        assertThat(first).startsWith("W/\"").endsWith("\"");
+    }
+
+    @Test
+    void 카운트가_바뀌면_다른_ETag를_생성한다() {
+        // when
+        String before = eTagUtil.generateWeakETag(Stream.of(1L, 10L));
+        String after = eTagUtil.generateWeakETag(Stream.of(1L, 11L));
+
+        // then
+        assertThat(before).isNotEqualTo(after);
+    }
+
+    @Test
+    void null_값도_구분해_ETag를_생성한다() {
+        // when
+        String withNull = eTagUtil.generateWeakETag(Stream.of(1L, null));
+        String withoutNull = eTagUtil.generateWeakETag(Stream.of(1L));
+
+        // then
+        assertThat(withNull).isNotEqualTo(withoutNull);
+    }
+
+    @Test
+    void 버전_값으로_만든_ETag가_일치하면_응답을_만들지_않는다() {
+        // given
+        List<Object> versionValues = List.of(1L, "version");
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/feed/1");
+        request.addHeader(
+                HttpHeaders.IF_NONE_MATCH, eTagUtil.generateWeakETag(versionValues.stream()));
+        ServletWebRequest webRequest =
+                new ServletWebRequest(request, new MockHttpServletResponse());
+
+        // when
+        boolean notModified = eTagUtil.checkNotModified(Optional.of(versionValues), webRequest);
+
+        // then
+        assertThat(notModified).isTrue();
+        assertThat(webRequest.getResponse().getStatus()).isEqualTo(304);
+    }
+
+    @Test
+    void 버전_값이_없으면_ETag_없이_응답한다() {
+        // given
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/feed/1");
+        request.addHeader(HttpHeaders.IF_NONE_MATCH, "W/\"previous\"");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // when
+        boolean notModified =
+                eTagUtil.checkNotModified(
+                        Optional.empty(), new ServletWebRequest(request, response));
+
+        // then
+        assertThat(notModified).isFalse();
+        assertThat(response.getHeader(HttpHeaders.ETAG)).isNull();
+    }
+}